@@ -0,0 +1,199 @@
+package com.platform.sdk.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.platform.sdk.common.SdkRuntime;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic response bodies for the benchmarks, shaped like what the
+ * platform API returns. Built in memory so runs need no network or files and
+ * every run sees byte-identical input.
+ */
+final class Fixtures {
+    static final String TENANT_ID = "tenant-0001";
+    static final String DEPARTMENT_ID = "dept-0001";
+    static final String CREATED_AT = "2024-01-15T10:30:00Z";
+
+    private Fixtures() {
+    }
+
+    static byte[] json(Object value) {
+        try {
+            return SdkRuntime.createObjectMapper().writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Map<String, Object> tenant() {
+        Map<String, Object> tenant = new LinkedHashMap<>();
+        tenant.put("id", TENANT_ID);
+        tenant.put("name", "Acme Corporation");
+        tenant.put("slug", "acme");
+        tenant.put("domain", "acme.example.com");
+        tenant.put("logo_url", "https://cdn.example.com/tenants/acme/logo.png");
+        tenant.put("primary_color", "#1a73e8");
+        tenant.put("status", "active");
+        tenant.put("plan", "enterprise");
+        tenant.put("billing_cycle", "annual");
+        tenant.put("contract_end_date", "2026-12-31");
+        tenant.put("primary_contact", map(
+                "name", "Jane Admin", "email", "jane.admin@acme.example.com", "phone", "+1-555-0100"));
+        tenant.put("address", map(
+                "street", "100 Main Street", "city", "Springfield", "state", "IL",
+                "country", "US", "postal_code", "62701"));
+        tenant.put("industry", "manufacturing");
+        tenant.put("company_size", "1000-5000");
+        tenant.put("features", map(
+                "sso_enabled", true, "scim_enabled", true, "custom_branding_enabled", true,
+                "analytics_enabled", false, "max_users", 5000, "max_storage_gb", 1024));
+        tenant.put("settings", settings(20));
+        tenant.put("metadata", settings(10));
+        tenant.put("created_at", CREATED_AT);
+        tenant.put("updated_at", CREATED_AT);
+        tenant.put("created_by", "user-0001");
+        tenant.put("updated_by", "user-0002");
+        return tenant;
+    }
+
+    static Map<String, Object> ssoConfig() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("id", "sso-0001");
+        config.put("tenant_id", TENANT_ID);
+        config.put("provider", "oidc");
+        config.put("enabled", true);
+        config.put("display_name", "Acme Single Sign-On");
+        config.put("azure_ad", map(
+                "tenant_id", "00000000-0000-0000-0000-000000000001", "client_id", "azure-client",
+                "client_secret_encrypted", "enc:" + "a".repeat(64),
+                "discovery_url", "https://login.microsoftonline.com/acme/v2.0/.well-known/openid-configuration"));
+        config.put("saml", map(
+                "metadata_url", "https://idp.acme.example.com/saml/metadata",
+                "entity_id", "https://idp.acme.example.com", "sso_url", "https://idp.acme.example.com/saml/sso",
+                "slo_url", "https://idp.acme.example.com/saml/slo", "certificate", "MII" + "B".repeat(1200),
+                "signature_algorithm", "RSA-SHA256",
+                "name_id_format", "urn:oasis:names:tc:SAML:1.1:nameid-format:emailAddress"));
+        config.put("oidc", map(
+                "issuer", "https://idp.acme.example.com", "client_id", "oidc-client",
+                "client_secret_encrypted", "enc:" + "b".repeat(64),
+                "authorization_endpoint", "https://idp.acme.example.com/authorize",
+                "token_endpoint", "https://idp.acme.example.com/token",
+                "userinfo_endpoint", "https://idp.acme.example.com/userinfo",
+                "jwks_uri", "https://idp.acme.example.com/.well-known/jwks.json",
+                "scopes", List.of("openid", "profile", "email", "groups")));
+        config.put("scim", map(
+                "enabled", true, "bearer_token", "enc:" + "c".repeat(64),
+                "base_url", "https://api.example.com/scim/v2", "sync_groups", true));
+        config.put("jit_provisioning", map(
+                "enabled", true, "default_role_id", "role-member", "default_department_id", DEPARTMENT_ID,
+                "require_email_domain", true));
+        Map<String, String> mappings = new LinkedHashMap<>();
+        for (int i = 0; i < 12; i++) {
+            mappings.put("attribute_" + i, "http://schemas.example.com/claims/attribute_" + i);
+        }
+        config.put("attribute_mappings", mappings);
+        config.put("last_sync_at", CREATED_AT);
+        config.put("sync_frequency", "hourly");
+        config.put("created_at", CREATED_AT);
+        config.put("updated_at", CREATED_AT);
+        return config;
+    }
+
+    static Map<String, Object> departmentWithDetails() {
+        Map<String, Object> department = new LinkedHashMap<>();
+        department.put("id", DEPARTMENT_ID);
+        department.put("tenant_id", TENANT_ID);
+        department.put("name", "Platform Engineering");
+        department.put("code", "ENG-PLAT");
+        department.put("description", "Builds and runs the shared platform services.");
+        department.put("parent_id", "dept-0000");
+        department.put("path", "/dept-0000/dept-0001");
+        department.put("level", 1);
+        department.put("head_user_id", "user-0042");
+        department.put("is_active", true);
+        department.put("sort_order", 3);
+        department.put("location_id", "loc-chicago");
+        department.put("cost_center", "CC-4200");
+        department.put("settings", settings(10));
+        department.put("metadata", settings(5));
+        department.put("created_at", CREATED_AT);
+        department.put("updated_at", CREATED_AT);
+        department.put("head", map(
+                "id", "user-0042", "email", "head@acme.example.com", "name", "Dana Head",
+                "picture", "https://cdn.example.com/avatars/user-0042.png"));
+        department.put("parent", map("id", "dept-0000", "name", "Engineering", "code", "ENG"));
+        department.put("children_count", 6);
+        department.put("member_count", 48);
+        return department;
+    }
+
+    /**
+     * A complete team tree with the given fan-out and depth below one root.
+     */
+    static Map<String, Object> teamTree(int fanOut, int depth) {
+        return team("team-0", null, "/team-0", 0, fanOut, depth);
+    }
+
+    private static Map<String, Object> team(String id, String parentId, String path, int level, int fanOut, int depth) {
+        List<Map<String, Object>> children = new ArrayList<>();
+        if (level + 1 < depth) {
+            for (int i = 0; i < fanOut; i++) {
+                String childId = id + "-" + i;
+                children.add(team(childId, id, path + "/" + childId, level + 1, fanOut, depth));
+            }
+        }
+        int memberCount = 4 + level;
+        int totalMemberCount = memberCount;
+        for (Map<String, Object> child : children) {
+            totalMemberCount += (Integer) child.get("total_member_count");
+        }
+
+        Map<String, Object> team = new LinkedHashMap<>();
+        team.put("id", id);
+        team.put("tenant_id", TENANT_ID);
+        team.put("name", "Team " + id);
+        team.put("slug", id);
+        team.put("description", "Team " + id + " at level " + level);
+        team.put("parent_id", parentId);
+        team.put("path", path);
+        team.put("level", level);
+        team.put("owner_id", "user-" + id);
+        team.put("is_active", true);
+        team.put("settings", map("visibility", "internal", "notifications", true));
+        team.put("created_at", CREATED_AT);
+        team.put("updated_at", CREATED_AT);
+        team.put("created_by", "user-0001");
+        team.put("children", children);
+        team.put("member_count", memberCount);
+        team.put("total_member_count", totalMemberCount);
+        return team;
+    }
+
+    /**
+     * An insertion-ordered map; unlike {@code Map.of} its iteration order,
+     * and so the serialized bytes, are the same in every JVM.
+     */
+    private static Map<String, Object> map(Object... keysAndValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static Map<String, Object> settings(int count) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            switch (i % 3) {
+                case 0 -> settings.put("setting_" + i, "value-" + i);
+                case 1 -> settings.put("setting_" + i, i * 10);
+                default -> settings.put("setting_" + i, i % 2 == 0);
+            }
+        }
+        return settings;
+    }
+}
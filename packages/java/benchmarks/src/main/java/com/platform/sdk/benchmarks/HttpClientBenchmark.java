@@ -0,0 +1,119 @@
+package com.platform.sdk.benchmarks;
+
+import com.platform.sdk.common.ApiException;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.teams.TeamClient;
+import com.platform.sdk.teams.TeamTree;
+import com.platform.sdk.tenants.DepartmentClient;
+import com.platform.sdk.tenants.DepartmentWithDetails;
+import com.platform.sdk.tenants.SSOConfig;
+import com.platform.sdk.tenants.Tenant;
+import com.platform.sdk.tenants.TenantClient;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The client-side cost of a call: building the request, running it through
+ * the runtime's policies and OkHttp's interceptor chain, and decoding the
+ * response. Responses are answered in memory by an OkHttp interceptor, so no
+ * socket is opened and the numbers do not depend on the network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class HttpClientBenchmark {
+    private static final String BASE_URL = "http://api.benchmark.invalid";
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private SdkRuntime runtime;
+    private TenantClient tenants;
+    private DepartmentClient departments;
+    private TeamClient teams;
+
+    @Setup
+    public void setUp() {
+        Map<String, byte[]> bodies = Map.of(
+                "/tenants/" + Fixtures.TENANT_ID, Fixtures.json(Fixtures.tenant()),
+                "/tenants/" + Fixtures.TENANT_ID + "/sso", Fixtures.json(Fixtures.ssoConfig()),
+                "/departments/" + Fixtures.DEPARTMENT_ID, Fixtures.json(Fixtures.departmentWithDetails()),
+                "/teams/tree", Fixtures.json(Map.of("data", List.of(Fixtures.teamTree(4, 4)))));
+
+        runtime = new SdkRuntime.Builder()
+                .okHttpInterceptor(chain -> respond(chain, bodies))
+                .build();
+        tenants = new TenantClient.Builder().baseUrl(BASE_URL).accessToken("benchmark-token").runtime(runtime).build();
+        departments = new DepartmentClient.Builder().baseUrl(BASE_URL).accessToken("benchmark-token").runtime(runtime).build();
+        teams = new TeamClient.Builder().baseUrl(BASE_URL).accessToken("benchmark-token").runtime(runtime).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        runtime.close();
+    }
+
+    /**
+     * Request path only: a DELETE answered with 204 and no body to decode.
+     */
+    @Benchmark
+    public void deleteTenant() throws ApiException {
+        tenants.delete(Fixtures.TENANT_ID);
+    }
+
+    @Benchmark
+    public Tenant getTenant() throws ApiException {
+        return tenants.get(Fixtures.TENANT_ID);
+    }
+
+    @Benchmark
+    public SSOConfig getSsoConfig() throws ApiException {
+        return tenants.getSSOConfig(Fixtures.TENANT_ID);
+    }
+
+    @Benchmark
+    public DepartmentWithDetails getDepartmentWithDetails() throws ApiException {
+        return departments.getWithDetails(Fixtures.DEPARTMENT_ID, true, true);
+    }
+
+    @Benchmark
+    public List<TeamTree> getTeamTree() throws ApiException {
+        return teams.getTree(null, 4, true);
+    }
+
+    private static Response respond(Interceptor.Chain chain, Map<String, byte[]> bodies) {
+        Request request = chain.request();
+        Response.Builder response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .message("OK");
+        if ("DELETE".equals(request.method())) {
+            return response.code(204).message("No Content").body(ResponseBody.create(new byte[0], null)).build();
+        }
+        byte[] body = bodies.get(request.url().encodedPath());
+        if (body == null) {
+            return response.code(404).message("Not Found").body(ResponseBody.create("{}", JSON)).build();
+        }
+        return response.code(200).body(ResponseBody.create(body, JSON)).build();
+    }
+}
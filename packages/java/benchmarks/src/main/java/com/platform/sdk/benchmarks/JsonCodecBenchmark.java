@@ -0,0 +1,126 @@
+package com.platform.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.platform.sdk.common.JsonCodecRegistry;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.teams.TeamTree;
+import com.platform.sdk.tenants.DepartmentWithDetails;
+import com.platform.sdk.tenants.SSOConfig;
+import com.platform.sdk.tenants.Tenant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON decoding and encoding of the largest models through the runtime's
+ * cached readers and writers, i.e. exactly what the clients do per response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+    private SdkRuntime runtime;
+
+    private ObjectReader tenantReader;
+    private ObjectReader ssoConfigReader;
+    private ObjectReader departmentReader;
+    private ObjectReader teamTreeReader;
+    private ObjectWriter tenantWriter;
+    private ObjectWriter ssoConfigWriter;
+    private ObjectWriter departmentWriter;
+    private ObjectWriter teamTreeWriter;
+
+    private byte[] tenantJson;
+    private byte[] ssoConfigJson;
+    private byte[] departmentJson;
+    private byte[] teamTreeJson;
+    private Tenant tenant;
+    private SSOConfig ssoConfig;
+    private DepartmentWithDetails department;
+    private TeamTree teamTree;
+
+    @Setup
+    public void setUp() throws IOException {
+        runtime = new SdkRuntime.Builder().build();
+        JsonCodecRegistry codecs = runtime.getCodecs();
+        tenantReader = codecs.reader(Tenant.class);
+        ssoConfigReader = codecs.reader(SSOConfig.class);
+        departmentReader = codecs.reader(DepartmentWithDetails.class);
+        teamTreeReader = codecs.reader(TeamTree.class);
+        tenantWriter = codecs.writer(Tenant.class);
+        ssoConfigWriter = codecs.writer(SSOConfig.class);
+        departmentWriter = codecs.writer(DepartmentWithDetails.class);
+        teamTreeWriter = codecs.writer(TeamTree.class);
+
+        tenantJson = Fixtures.json(Fixtures.tenant());
+        ssoConfigJson = Fixtures.json(Fixtures.ssoConfig());
+        departmentJson = Fixtures.json(Fixtures.departmentWithDetails());
+        // 1 + 4 + 16 + 64 = 85 teams
+        teamTreeJson = Fixtures.json(Fixtures.teamTree(4, 4));
+
+        tenant = tenantReader.readValue(tenantJson);
+        ssoConfig = ssoConfigReader.readValue(ssoConfigJson);
+        department = departmentReader.readValue(departmentJson);
+        teamTree = teamTreeReader.readValue(teamTreeJson);
+    }
+
+    @TearDown
+    public void tearDown() {
+        runtime.close();
+    }
+
+    @Benchmark
+    public Tenant decodeTenant() throws IOException {
+        return tenantReader.readValue(tenantJson);
+    }
+
+    @Benchmark
+    public SSOConfig decodeSsoConfig() throws IOException {
+        return ssoConfigReader.readValue(ssoConfigJson);
+    }
+
+    @Benchmark
+    public DepartmentWithDetails decodeDepartmentWithDetails() throws IOException {
+        return departmentReader.readValue(departmentJson);
+    }
+
+    @Benchmark
+    public TeamTree decodeTeamTree() throws IOException {
+        return teamTreeReader.readValue(teamTreeJson);
+    }
+
+    @Benchmark
+    public byte[] encodeTenant() throws IOException {
+        return tenantWriter.writeValueAsBytes(tenant);
+    }
+
+    @Benchmark
+    public byte[] encodeSsoConfig() throws IOException {
+        return ssoConfigWriter.writeValueAsBytes(ssoConfig);
+    }
+
+    @Benchmark
+    public byte[] encodeDepartmentWithDetails() throws IOException {
+        return departmentWriter.writeValueAsBytes(department);
+    }
+
+    @Benchmark
+    public byte[] encodeTeamTree() throws IOException {
+        return teamTreeWriter.writeValueAsBytes(teamTree);
+    }
+}
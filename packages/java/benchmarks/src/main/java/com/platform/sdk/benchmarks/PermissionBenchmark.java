@@ -0,0 +1,105 @@
+package com.platform.sdk.benchmarks;
+
+import com.platform.sdk.auth.Roles;
+import com.platform.sdk.auth.UserContext;
+import com.platform.sdk.permissions.RoleClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks as run on every authorized request: an exact grant, a
+ * {@code resource:*} wildcard grant and a miss, which scans everything.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class PermissionBenchmark {
+    private static final String EXACT = "invoices:read";
+    private static final String WILDCARD = "reports:export";
+    private static final String MISSING = "billing:delete";
+
+    private Set<String> granted;
+    private List<String> grantedList;
+    private List<String> required;
+    private UserContext user;
+
+    @Setup
+    public void setUp() {
+        List<String> permissions = new ArrayList<>();
+        for (String resource : List.of("invoices", "orders", "projects", "documents", "tickets")) {
+            for (String action : List.of("read", "create", "update", "archive")) {
+                permissions.add(resource + ":" + action);
+            }
+        }
+        permissions.add("reports:*");
+
+        grantedList = List.copyOf(permissions);
+        granted = Set.copyOf(permissions);
+        required = List.of("invoices:read", "orders:update", "projects:create", "tickets:archive", "reports:export");
+
+        user = new UserContext();
+        user.setUserId("user-0001");
+        user.setRoles(List.of("manager"));
+        user.setPermissions(grantedList);
+    }
+
+    @Benchmark
+    public boolean checkPermissionExact() {
+        return Roles.checkPermission(granted, EXACT);
+    }
+
+    @Benchmark
+    public boolean checkPermissionWildcard() {
+        return Roles.checkPermission(granted, WILDCARD);
+    }
+
+    @Benchmark
+    public boolean checkPermissionMissing() {
+        return Roles.checkPermission(granted, MISSING);
+    }
+
+    /**
+     * Includes expanding the roles into effective permissions, which the
+     * context does on every call.
+     */
+    @Benchmark
+    public boolean userContextHasPermission() {
+        return user.hasPermission(WILDCARD);
+    }
+
+    @Benchmark
+    public boolean userContextHasPermissionMissing() {
+        return user.hasPermission(MISSING);
+    }
+
+    @Benchmark
+    public boolean matchesPermissionWildcard() {
+        return RoleClient.matchesPermission("reports:*", WILDCARD);
+    }
+
+    @Benchmark
+    public boolean matchesPermissionMiss() {
+        return RoleClient.matchesPermission("invoices:read", MISSING);
+    }
+
+    @Benchmark
+    public boolean hasAllPermissions() {
+        return RoleClient.hasAllPermissions(grantedList, required);
+    }
+}
@@ -0,0 +1,82 @@
+package com.platform.sdk.benchmarks;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.platform.sdk.auth.AuthClient;
+import com.platform.sdk.auth.AuthException;
+import com.platform.sdk.auth.UserContext;
+import com.platform.sdk.common.SdkRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding an access token into a {@link UserContext}, which services do
+ * once per inbound request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class UserContextBenchmark {
+    // Fixed claims so the token is the same on every run
+    private static final Instant ISSUED_AT = Instant.parse("2024-01-15T10:30:00Z");
+    private static final Instant EXPIRES_AT = Instant.parse("2099-01-01T00:00:00Z");
+
+    private SdkRuntime runtime;
+    private AuthClient auth;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        runtime = new SdkRuntime.Builder().build();
+        auth = new AuthClient.Builder()
+                .issuerUrl("http://auth.benchmark.invalid")
+                .clientId("benchmark")
+                .runtime(runtime)
+                .build();
+
+        List<String> permissions = new ArrayList<>();
+        for (String resource : List.of("invoices", "orders", "projects", "documents", "tickets")) {
+            for (String action : List.of("read", "create", "update", "archive")) {
+                permissions.add(resource + ":" + action);
+            }
+        }
+        token = JWT.create()
+                .withSubject("user-0001")
+                .withIssuer("http://auth.benchmark.invalid")
+                .withClaim("email", "user-0001@acme.example.com")
+                .withClaim("name", "Benchmark User")
+                .withClaim("tenant_id", Fixtures.TENANT_ID)
+                .withClaim("roles", List.of("user", "manager"))
+                .withClaim("permissions", permissions)
+                .withIssuedAt(ISSUED_AT)
+                .withExpiresAt(EXPIRES_AT)
+                .sign(Algorithm.HMAC256("benchmark-secret"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        runtime.close();
+    }
+
+    @Benchmark
+    public UserContext getUserContext() throws AuthException {
+        return auth.getUserContext(token);
+    }
+}
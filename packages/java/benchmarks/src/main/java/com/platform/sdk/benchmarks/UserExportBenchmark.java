@@ -0,0 +1,216 @@
+package com.platform.sdk.benchmarks;
+
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.users.ListUsersParams;
+import com.platform.sdk.users.User;
+import com.platform.sdk.users.UserClient;
+import com.platform.sdk.users.UserListResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A tenant-wide user export three ways, against a local stand-in that
+ * generates the users on the fly: page by page with {@code UserClient.list},
+ * with {@code listAll} fetching the next page in the background, and as one
+ * newline-delimited JSON stream with {@code UserClient.stream}.
+ *
+ * <p>Each operation reads all users once. Run with {@code -prof gc} to compare
+ * allocation per export; the stand-in writes from a patched byte template and
+ * adds next to nothing to it.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+@State(Scope.Benchmark)
+public class UserExportBenchmark {
+
+    @Param("1000000")
+    public int users;
+
+    @Param("1000")
+    public int pageSize;
+
+    private UserStandIn standIn;
+    private SdkRuntime runtime;
+    private UserClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        standIn = new UserStandIn(users);
+        runtime = new SdkRuntime.Builder().build();
+        client = new UserClient.Builder()
+                .baseUrl(standIn.url())
+                .accessToken("benchmark-token")
+                .runtime(runtime)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        runtime.close();
+        standIn.close();
+    }
+
+    /**
+     * One blocking request per page, each decoded into a UserListResponse.
+     */
+    @Benchmark
+    public void pagedList(Blackhole blackhole) {
+        ListUsersParams params = new ListUsersParams().pageSize(pageSize);
+        for (int page = 1; ; page++) {
+            UserListResponse response = client.list(params.page(page));
+            response.getData().forEach(blackhole::consume);
+            if (!response.hasNextPage()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pages through listAll, which requests page N+1 while page N is consumed.
+     */
+    @Benchmark
+    public void pagedListAll(Blackhole blackhole) {
+        client.listAll(new ListUsersParams().pageSize(pageSize)).forEach(blackhole::consume);
+    }
+
+    /**
+     * One newline-delimited JSON response, decoded user by user.
+     */
+    @Benchmark
+    public void streamed(Blackhole blackhole) {
+        try (Stream<User> all = client.stream(null)) {
+            all.forEach(blackhole::consume);
+        }
+    }
+
+    /**
+     * Serves {@code /api/users} as JSON pages or, when asked for
+     * {@code application/x-ndjson}, as one chunked stream of all users.
+     */
+    static final class UserStandIn implements AutoCloseable {
+        private static final byte[] TEMPLATE = ("{\"id\":\"user-0000000\",\"email\":\"user0000000@example.com\","
+                + "\"name\":\"Benchmark User\",\"status\":\"active\",\"roles\":[\"user\",\"viewer\"],"
+                + "\"tenant_id\":\"tenant-0001\",\"department_id\":\"dept-0001\","
+                + "\"created_at\":\"2024-01-01T00:00:00Z\",\"updated_at\":\"2024-06-01T12:00:00Z\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        private static final int ID_DIGITS = 7;
+
+        private final int users;
+        private final int[] digitOffsets;
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        UserStandIn(int users) throws IOException {
+            this.users = users;
+            String template = new String(TEMPLATE, StandardCharsets.UTF_8);
+            int first = template.indexOf("0000000");
+            this.digitOffsets = new int[] {first, template.indexOf("0000000", first + ID_DIGITS)};
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/api/users", this::handle);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            Map<String, String> query = parseQuery(exchange.getRequestURI());
+            String accept = exchange.getRequestHeaders().getFirst("Accept");
+            byte[] line = TEMPLATE.clone();
+            try (exchange) {
+                if (accept != null && accept.contains("ndjson")) {
+                    exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+                    exchange.sendResponseHeaders(200, 0);
+                    try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), 64 * 1024)) {
+                        for (int i = 0; i < users; i++) {
+                            writeUser(out, line, i);
+                            out.write('\n');
+                        }
+                    }
+                    return;
+                }
+                int page = Integer.parseInt(query.getOrDefault("page", "1"));
+                int size = Integer.parseInt(query.getOrDefault("page_size", "20"));
+                int totalPages = (users + size - 1) / size;
+                int from = Math.min((page - 1) * size, users);
+                int to = Math.min(from + size, users);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), 64 * 1024)) {
+                    out.write("{\"data\":[".getBytes(StandardCharsets.US_ASCII));
+                    for (int i = from; i < to; i++) {
+                        if (i > from) {
+                            out.write(',');
+                        }
+                        writeUser(out, line, i);
+                    }
+                    out.write(("],\"pagination\":{\"page\":" + page + ",\"page_size\":" + size
+                            + ",\"total_items\":" + users + ",\"total_pages\":" + totalPages
+                            + ",\"has_next\":" + (page < totalPages) + "}}").getBytes(StandardCharsets.US_ASCII));
+                }
+            }
+        }
+
+        private void writeUser(OutputStream out, byte[] line, int index) throws IOException {
+            for (int offset : digitOffsets) {
+                int value = index;
+                for (int d = ID_DIGITS - 1; d >= 0; d--) {
+                    line[offset + d] = (byte) ('0' + value % 10);
+                    value /= 10;
+                }
+            }
+            out.write(line);
+        }
+
+        private static Map<String, String> parseQuery(URI uri) {
+            Map<String, String> query = new HashMap<>();
+            if (uri.getRawQuery() != null) {
+                for (String pair : uri.getRawQuery().split("&")) {
+                    int eq = pair.indexOf('=');
+                    if (eq > 0) {
+                        query.put(pair.substring(0, eq), pair.substring(eq + 1));
+                    }
+                }
+            }
+            return query;
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+}
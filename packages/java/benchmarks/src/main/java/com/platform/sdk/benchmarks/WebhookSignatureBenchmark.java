@@ -0,0 +1,86 @@
+package com.platform.sdk.benchmarks;
+
+import com.platform.sdk.webhooks.WebhookSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HMAC-SHA256 signing and verification of webhook payloads of a typical and
+ * a large size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class WebhookSignatureBenchmark {
+    private static final String SECRET = "whsec_benchmark_0123456789abcdef";
+    // A fixed timestamp keeps the signed bytes identical between runs; the
+    // verification tolerance below accepts it whenever the benchmark runs.
+    private static final long TIMESTAMP = 1_705_314_600L;
+    private static final int TOLERANCE_SECONDS = Integer.MAX_VALUE;
+
+    /**
+     * Number of users in the event payload.
+     */
+    @Param({"1", "100"})
+    public int users;
+
+    private String payload;
+    private String signature;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("id", "evt-0001");
+        event.put("type", "user.updated");
+        event.put("tenant_id", Fixtures.TENANT_ID);
+        event.put("created_at", Fixtures.CREATED_AT);
+        Object[] data = new Object[users];
+        for (int i = 0; i < users; i++) {
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("id", "user-" + i);
+            user.put("email", "user" + i + "@acme.example.com");
+            user.put("name", "User " + i);
+            user.put("status", "active");
+            user.put("roles", List.of("user", "manager"));
+            user.put("department_id", Fixtures.DEPARTMENT_ID);
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            metadata.put("source", "scim");
+            metadata.put("external_id", "ext-" + i);
+            user.put("metadata", metadata);
+            user.put("created_at", Fixtures.CREATED_AT);
+            user.put("updated_at", Fixtures.CREATED_AT);
+            data[i] = user;
+        }
+        event.put("data", data);
+        payload = new String(Fixtures.json(event), StandardCharsets.UTF_8);
+        signature = WebhookSignature.generateSignature(payload, SECRET, TIMESTAMP).getSignature();
+    }
+
+    @Benchmark
+    public WebhookSignature.SignatureResult generateSignature() {
+        return WebhookSignature.generateSignature(payload, SECRET, TIMESTAMP);
+    }
+
+    @Benchmark
+    public boolean verifySignature() {
+        return WebhookSignature.verifySignature(payload, signature, SECRET, TIMESTAMP, TOLERANCE_SECONDS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.platform.sdk.benchmarks.load;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stop-the-world collections while it is open, from the JVM's GC
+ * notifications. Concurrent cycles (G1 concurrent marking, ZGC and Shenandoah
+ * cycles) are not pauses and are skipped.
+ */
+final class GcPauses implements AutoCloseable {
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener listener = (notification, handback) -> {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        String name = info.getGcName();
+        if (name.contains("Concurrent") || name.contains("Cycles")) {
+            return;
+        }
+        record(info.getGcInfo().getDuration());
+    };
+
+    private long count;
+    private long totalMillis;
+    private long maxMillis;
+
+    GcPauses() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter) {
+                NotificationEmitter emitter = (NotificationEmitter) gc;
+                emitter.addNotificationListener(listener, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    private synchronized void record(long millis) {
+        count++;
+        totalMillis += millis;
+        maxMillis = Math.max(maxMillis, millis);
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    synchronized long getTotalMillis() {
+        return totalMillis;
+    }
+
+    synchronized long getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (Exception e) {
+                // already removed
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.platform.sdk.benchmarks.load;
+
+import com.platform.sdk.common.LatencyHistogram;
+import com.platform.sdk.common.SdkRuntime;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test of the domain clients against a {@link StandInServer}:
+ * a fixed number of callers each issue blocking calls back to back, cycling
+ * through the selected {@link Scenario}s, for a warmup and then a measured
+ * period. Reports throughput, latency percentiles of successful calls, errors,
+ * the callers' allocation rate and GC pauses.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.platform.sdk.benchmarks.load.LoadTest \
+ *     --concurrency=64 --duration=60 --latency-ms=5 --jitter-ms=20 --error-rate=0.01
+ * </pre>
+ *
+ * <p>Calls are synchronous, so everything the client allocates is allocated on
+ * the caller threads and the allocation rate is the SDK's alone. GC pauses
+ * cover the whole JVM, including an embedded stand-in; start the stand-in
+ * separately and pass {@code --target} to exclude it.
+ */
+public final class LoadTest {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final LoadTestOptions options;
+    private final Scenario.Clients clients;
+    private volatile Phase phase;
+    private volatile boolean stopped;
+
+    private LoadTest(LoadTestOptions options, Scenario.Clients clients) {
+        this.options = options;
+        this.clients = clients;
+        this.phase = new Phase(options.scenarios.size());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        StandInServer standIn = null;
+        String baseUrl = options.target;
+        if (baseUrl == null) {
+            standIn = new StandInServer(options);
+            standIn.start(0);
+            baseUrl = standIn.url();
+        }
+        SdkRuntime runtime = new SdkRuntime.Builder()
+                .maxIdleConnections(options.concurrency)
+                .maxRequests(options.concurrency)
+                .maxRequestsPerHost(options.concurrency)
+                .build();
+        try {
+            System.out.println("Load test against " + baseUrl + " (" + options + ")");
+            new LoadTest(options, new Scenario.Clients(baseUrl, runtime, options.payloadBytes)).run();
+        } finally {
+            runtime.close();
+            if (standIn != null) {
+                standIn.close();
+            }
+        }
+    }
+
+    private void run() throws InterruptedException {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            System.out.println("Thread allocation accounting is not supported by this JVM; allocation is reported as 0");
+        } else {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        List<Thread> callers = new ArrayList<>(options.concurrency);
+        for (int i = 0; i < options.concurrency; i++) {
+            int first = i;
+            Thread caller = new Thread(() -> callLoop(first), "load-test-" + i);
+            caller.setDaemon(true);
+            callers.add(caller);
+            caller.start();
+        }
+
+        TimeUnit.SECONDS.sleep(options.warmupSeconds);
+        Phase measured = new Phase(options.scenarios.size());
+        try (GcPauses gc = new GcPauses()) {
+            long start = System.nanoTime();
+            phase = measured;
+            TimeUnit.SECONDS.sleep(options.durationSeconds);
+            stopped = true;
+            long measuredNanos = System.nanoTime() - start;
+            // Let the calls in flight finish so the report does not race them
+            for (Thread caller : callers) {
+                caller.join(TimeUnit.SECONDS.toMillis(30));
+            }
+            report(measured, measuredNanos, gc);
+        }
+    }
+
+    private void callLoop(int first) {
+        List<Scenario> scenarios = options.scenarios;
+        int index = first % scenarios.size();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        while (!stopped) {
+            Phase current = phase;
+            Scenario scenario = scenarios.get(index);
+            long start = System.nanoTime();
+            try {
+                scenario.call(clients);
+                long elapsed = System.nanoTime() - start;
+                current.latency[index].record(elapsed);
+                current.totalLatency.record(elapsed);
+            } catch (RuntimeException e) {
+                current.errors[index].increment();
+                current.errorsByType.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+            }
+            long now = THREADS.getCurrentThreadAllocatedBytes();
+            current.allocatedBytes.add(now - allocated);
+            allocated = now;
+            index = index + 1 == scenarios.size() ? 0 : index + 1;
+        }
+    }
+
+    private void report(Phase measured, long nanos, GcPauses gc) {
+        double seconds = nanos / 1e9;
+        long totalOps = 0;
+        long totalErrors = 0;
+
+        System.out.println();
+        System.out.printf("%-26s %10s %8s %10s %9s %9s %9s %9s%n",
+                "scenario", "ok", "errors", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (int i = 0; i < options.scenarios.size(); i++) {
+            LatencyHistogram.Snapshot latency = measured.latency[i].snapshot();
+            long errors = measured.errors[i].sum();
+            totalOps += latency.getCount() + errors;
+            totalErrors += errors;
+            printRow(options.scenarios.get(i).id(), latency, errors, seconds);
+        }
+        printRow("total", measured.totalLatency.snapshot(), totalErrors, seconds);
+
+        long allocated = measured.allocatedBytes.sum();
+        System.out.println();
+        System.out.printf("throughput      %.0f calls/s (%d calls in %.1f s, %.2f%% errors)%n",
+                totalOps / seconds, totalOps, seconds, totalOps == 0 ? 0.0 : 100.0 * totalErrors / totalOps);
+        System.out.printf("allocation      %.1f MB/s, %.1f KB per call (caller threads)%n",
+                allocated / seconds / (1024 * 1024), totalOps == 0 ? 0.0 : allocated / 1024.0 / totalOps);
+        System.out.printf("gc pauses       %d pauses, %d ms total (%.2f%% of wall time), %d ms max%n",
+                gc.getCount(), gc.getTotalMillis(), 100.0 * gc.getTotalMillis() / (seconds * 1000),
+                gc.getMaxMillis());
+        if (!measured.errorsByType.isEmpty()) {
+            StringBuilder errors = new StringBuilder("errors by type ");
+            for (Map.Entry<String, LongAdder> entry : measured.errorsByType.entrySet()) {
+                errors.append(' ').append(entry.getKey()).append('=').append(entry.getValue().sum());
+            }
+            System.out.println(errors);
+        }
+    }
+
+    private static void printRow(String name, LatencyHistogram.Snapshot latency, long errors, double seconds) {
+        System.out.printf("%-26s %10d %8d %10.0f %9.2f %9.2f %9.2f %9.2f%n",
+                name, latency.getCount(), errors, (latency.getCount() + errors) / seconds,
+                latency.getPercentileMicros(0.5) / 1000.0, latency.getPercentileMicros(0.99) / 1000.0,
+                latency.getPercentileMicros(0.999) / 1000.0, latency.getMaxMicros() / 1000.0);
+    }
+
+    /**
+     * What the callers record during one phase of the run.
+     */
+    private static final class Phase {
+        final LatencyHistogram[] latency;
+        final LatencyHistogram totalLatency = new LatencyHistogram();
+        final LongAdder[] errors;
+        final LongAdder allocatedBytes = new LongAdder();
+        final Map<String, LongAdder> errorsByType = new ConcurrentHashMap<>();
+
+        Phase(int scenarios) {
+            latency = new LatencyHistogram[scenarios];
+            errors = new LongAdder[scenarios];
+            for (int i = 0; i < scenarios; i++) {
+                latency[i] = new LatencyHistogram();
+                errors[i] = new LongAdder();
+            }
+        }
+    }
+}
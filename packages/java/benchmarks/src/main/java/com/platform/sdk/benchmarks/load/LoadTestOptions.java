@@ -0,0 +1,130 @@
+package com.platform.sdk.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options of {@link LoadTest} and {@link StandInServer}, given as
+ * {@code --name=value}. Unknown names and out-of-range values are rejected so
+ * that a typo does not silently run a different test.
+ */
+final class LoadTestOptions {
+    static final String USAGE = String.join("\n",
+            "Options (all optional):",
+            "  --scenarios=all        comma-separated scenarios: " + Scenario.names(),
+            "  --concurrency=32       callers issuing requests back to back",
+            "  --warmup=10            seconds before measuring",
+            "  --duration=30          seconds measured",
+            "  --target=URL           use a running stand-in instead of an embedded one",
+            "  --port=8089            port of a standalone stand-in",
+            "  --items=20             items per list response",
+            "  --payload-bytes=256    text per item and per email body",
+            "  --latency-ms=0         server latency added to every response",
+            "  --jitter-ms=0          extra random latency, up to this many ms",
+            "  --error-rate=0         fraction of responses answered with 503",
+            "  --seed=42              seed for latency jitter and injected errors");
+
+    private static final Set<String> NAMES = Set.of("scenarios", "concurrency", "warmup", "duration", "target",
+            "port", "items", "payload-bytes", "latency-ms", "jitter-ms", "error-rate", "seed");
+
+    final List<Scenario> scenarios;
+    final int concurrency;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final String target;
+    final int port;
+    final int items;
+    final int payloadBytes;
+    final int latencyMillis;
+    final int jitterMillis;
+    final double errorRate;
+    final long seed;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.scenarios = parseScenarios(values.getOrDefault("scenarios", "all"));
+        this.concurrency = intValue(values, "concurrency", 32, 1);
+        this.warmupSeconds = intValue(values, "warmup", 10, 0);
+        this.durationSeconds = intValue(values, "duration", 30, 1);
+        this.target = values.get("target");
+        this.port = intValue(values, "port", 8089, 0);
+        this.items = intValue(values, "items", 20, 0);
+        this.payloadBytes = intValue(values, "payload-bytes", 256, 0);
+        this.latencyMillis = intValue(values, "latency-ms", 0, 0);
+        this.jitterMillis = intValue(values, "jitter-ms", 0, 0);
+        this.errorRate = doubleValue(values, "error-rate", 0);
+        this.seed = Long.parseLong(values.getOrDefault("seed", "42"));
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, eq);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+            values.put(name, arg.substring(eq + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    private static List<Scenario> parseScenarios(String value) {
+        if ("all".equals(value)) {
+            return List.of(Scenario.values());
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : value.split(",")) {
+            scenarios.add(Scenario.of(name.trim()));
+        }
+        return List.copyOf(scenarios);
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue, int min) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be an integer");
+        }
+        if (parsed < min) {
+            throw new IllegalArgumentException("--" + name + " must be at least " + min);
+        }
+        return parsed;
+    }
+
+    private static double doubleValue(Map<String, String> values, String name, double defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number");
+        }
+        if (parsed < 0 || parsed > 1) {
+            throw new IllegalArgumentException("--" + name + " must be between 0 and 1");
+        }
+        return parsed;
+    }
+
+    @Override
+    public String toString() {
+        return "scenarios=" + Arrays.toString(scenarios.stream().map(Scenario::id).toArray())
+                + " concurrency=" + concurrency + " warmup=" + warmupSeconds + "s duration=" + durationSeconds + "s"
+                + " items=" + items + " payload-bytes=" + payloadBytes + " latency-ms=" + latencyMillis
+                + " jitter-ms=" + jitterMillis + " error-rate=" + errorRate + " seed=" + seed;
+    }
+}
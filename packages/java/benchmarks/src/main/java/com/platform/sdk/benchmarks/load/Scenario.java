@@ -0,0 +1,166 @@
+package com.platform.sdk.benchmarks.load;
+
+import com.platform.sdk.apikeys.APIKeyClient;
+import com.platform.sdk.auth.AuthClient;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.email.EmailClient;
+import com.platform.sdk.email.SendEmailRequest;
+import com.platform.sdk.invitations.InvitationClient;
+import com.platform.sdk.notifications.NotificationClient;
+import com.platform.sdk.permissions.RoleClient;
+import com.platform.sdk.settings.SettingsClient;
+import com.platform.sdk.teams.TeamClient;
+import com.platform.sdk.tenants.DepartmentClient;
+import com.platform.sdk.tenants.TenantClient;
+import com.platform.sdk.users.UserClient;
+import com.platform.sdk.webhooks.WebhookClient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * One representative call per domain client. Each caller of the load test
+ * cycles through the selected scenarios.
+ */
+enum Scenario {
+    AUTH_INTROSPECT("auth.introspect") {
+        @Override
+        Object call(Clients clients) {
+            return clients.auth.introspect("load-test-token");
+        }
+    },
+    API_KEY_VALIDATE("apikeys.validate") {
+        @Override
+        Object call(Clients clients) {
+            return clients.apiKeys.validate("sk_live_load_test", "users:read");
+        }
+    },
+    USERS_LIST("users.list") {
+        @Override
+        Object call(Clients clients) {
+            return clients.users.list();
+        }
+    },
+    TENANTS_LIST("tenants.list") {
+        @Override
+        Object call(Clients clients) {
+            return clients.tenants.list();
+        }
+    },
+    DEPARTMENTS_LIST("departments.list") {
+        @Override
+        Object call(Clients clients) {
+            return clients.departments.list();
+        }
+    },
+    TEAMS_LIST("teams.list") {
+        @Override
+        Object call(Clients clients) {
+            return clients.teams.list();
+        }
+    },
+    ROLES_LIST("roles.list") {
+        @Override
+        Object call(Clients clients) {
+            return clients.roles.list();
+        }
+    },
+    INVITATIONS_LIST("invitations.list") {
+        @Override
+        Object call(Clients clients) {
+            return clients.invitations.list();
+        }
+    },
+    NOTIFICATIONS_LIST("notifications.list") {
+        @Override
+        Object call(Clients clients) {
+            return clients.notifications.list();
+        }
+    },
+    WEBHOOK_DELIVERIES("webhooks.listDeliveries") {
+        @Override
+        Object call(Clients clients) {
+            return clients.webhooks.listDeliveries("wh-0001");
+        }
+    },
+    EMAIL_SEND("email.send") {
+        @Override
+        Object call(Clients clients) {
+            return clients.email.send(clients.emailRequest);
+        }
+    },
+    SETTINGS_GET_ALL("settings.getAll") {
+        @Override
+        Object call(Clients clients) {
+            return clients.settings.getAll();
+        }
+    };
+
+    private final String id;
+
+    Scenario(String id) {
+        this.id = id;
+    }
+
+    String id() {
+        return id;
+    }
+
+    abstract Object call(Clients clients);
+
+    static Scenario of(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario " + id + "; expected one of " + names());
+    }
+
+    static String names() {
+        return Arrays.stream(values()).map(Scenario::id).collect(Collectors.joining(","));
+    }
+
+    /**
+     * All domain clients, sharing one runtime.
+     */
+    static final class Clients {
+        final AuthClient auth;
+        final APIKeyClient apiKeys;
+        final UserClient users;
+        final TenantClient tenants;
+        final DepartmentClient departments;
+        final TeamClient teams;
+        final RoleClient roles;
+        final InvitationClient invitations;
+        final NotificationClient notifications;
+        final WebhookClient webhooks;
+        final EmailClient email;
+        final SettingsClient settings;
+        final SendEmailRequest emailRequest;
+
+        Clients(String baseUrl, SdkRuntime runtime, int payloadBytes) {
+            String token = "load-test-token";
+            auth = new AuthClient.Builder().issuerUrl(baseUrl).clientId("load-test").clientSecret("secret")
+                    .runtime(runtime).build();
+            apiKeys = new APIKeyClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            users = new UserClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            tenants = new TenantClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            departments = new DepartmentClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            teams = new TeamClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            roles = new RoleClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            invitations = new InvitationClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            notifications = new NotificationClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime)
+                    .build();
+            webhooks = new WebhookClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            email = new EmailClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+            settings = new SettingsClient.Builder().baseUrl(baseUrl).accessToken(token).runtime(runtime).build();
+
+            emailRequest = new SendEmailRequest();
+            emailRequest.setTo(List.of("recipient@example.com"));
+            emailRequest.setSubject("Load test");
+            emailRequest.setTextContent("x".repeat(payloadBytes));
+        }
+    }
+}
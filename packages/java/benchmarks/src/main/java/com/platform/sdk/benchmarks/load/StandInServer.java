@@ -0,0 +1,228 @@
+package com.platform.sdk.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.sdk.common.SdkRuntime;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import javax.net.ServerSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A local stand-in for the platform API on MockWebServer. It answers every
+ * endpoint the {@link Scenario}s call with a canned body of the configured
+ * size, after the configured latency, and fails the configured fraction of
+ * requests with 503.
+ *
+ * <p>Run it on its own to keep its allocations and GC out of the client's
+ * numbers:
+ * <pre>
+ * java -cp target/benchmarks.jar com.platform.sdk.benchmarks.load.StandInServer --port=8089 --latency-ms=5
+ * </pre>
+ */
+public final class StandInServer implements AutoCloseable {
+    private static final String CREATED_AT = "2024-01-15T10:30:00Z";
+
+    private final MockWebServer server = new MockWebServer();
+    private final byte[] listBody;
+    private final byte[] introspectBody;
+    private final byte[] validateBody;
+    private final byte[] emailBody;
+    private final byte[] settingsBody;
+    private final byte[] errorBody;
+    private final int latencyMillis;
+    private final int jitterMillis;
+    private final double errorRate;
+    private final SplittableRandom random;
+
+    StandInServer(LoadTestOptions options) {
+        ObjectMapper mapper = SdkRuntime.createObjectMapper();
+        this.listBody = json(mapper, listResponse(options.items, options.payloadBytes));
+        this.introspectBody = json(mapper, map(
+                "active", true, "scope", "openid profile", "client_id", "load-test", "username", "user-0001",
+                "token_type", "Bearer", "exp", 4_070_908_800L, "iat", 1_705_314_600L, "sub", "user-0001"));
+        this.validateBody = json(mapper, map(
+                "valid", true, "tenant_id", "tenant-0001", "permissions", List.of("users:read", "users:write"),
+                "has_permission", true));
+        this.emailBody = json(mapper, map("success", true, "message_id", "msg-0001", "recipients_count", 1));
+        this.settingsBody = json(mapper, map(
+                "tenant_id", "tenant-0001", "settings", map("general", settings(options.items, options.payloadBytes)),
+                "updated_at", CREATED_AT));
+        this.errorBody = json(mapper, map("error", "service_unavailable", "message", "Injected failure"));
+        this.latencyMillis = options.latencyMillis;
+        this.jitterMillis = options.jitterMillis;
+        this.errorRate = options.errorRate;
+        this.random = new SplittableRandom(options.seed);
+        server.setDispatcher(new StandInDispatcher());
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        StandInServer server = new StandInServer(options);
+        server.start(options.port);
+        System.out.println("Stand-in listening on " + server.url() + " (" + options + ")");
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        Thread.currentThread().join();
+    }
+
+    void start(int port) throws IOException {
+        server.start(port);
+    }
+
+    /**
+     * Base URL, without a trailing slash.
+     */
+    String url() {
+        String url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.shutdown();
+        } catch (IOException e) {
+            // shutting down anyway
+        }
+    }
+
+    private final class StandInDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            // MockWebServer keeps every request for takeRequest(); drop ours so
+            // a long run does not hold them all in memory.
+            try {
+                server.takeRequest(0, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            double roll;
+            long delay;
+            synchronized (random) {
+                roll = random.nextDouble();
+                delay = latencyMillis + (jitterMillis > 0 ? random.nextInt(jitterMillis + 1) : 0);
+            }
+            MockResponse response = new MockResponse().setHeader("Content-Type", "application/json");
+            if (delay > 0) {
+                response.setHeadersDelay(delay, TimeUnit.MILLISECONDS);
+            }
+            if (roll < errorRate) {
+                return response.setResponseCode(503).setBody(new Buffer().write(errorBody));
+            }
+            return response.setBody(new Buffer().write(bodyFor(request)));
+        }
+
+        private byte[] bodyFor(RecordedRequest request) {
+            String path = request.getRequestUrl() != null ? request.getRequestUrl().encodedPath() : "";
+            switch (path) {
+                case "/oauth/introspect":
+                    return introspectBody;
+                case "/api-keys/validate":
+                    return validateBody;
+                case "/email/send":
+                    return emailBody;
+                case "/settings":
+                    return settingsBody;
+                default:
+                    return listBody;
+            }
+        }
+    }
+
+    /**
+     * MockWebServer flushes the response headers and body separately; with
+     * Nagle's algorithm on, the body then waits for the client's delayed ACK
+     * and every call takes about 40 ms longer than configured.
+     */
+    private static final class NoDelayServerSocketFactory extends ServerSocketFactory {
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new ServerSocket() {
+                @Override
+                public Socket accept() throws IOException {
+                    Socket socket = super.accept();
+                    socket.setTcpNoDelay(true);
+                    return socket;
+                }
+            };
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static Map<String, Object> listResponse(int items, int payloadBytes) {
+        List<Map<String, Object>> data = new ArrayList<>(items);
+        String text = "x".repeat(payloadBytes);
+        for (int i = 0; i < items; i++) {
+            // Fields shared by the list item models; each model ignores the rest
+            data.add(map(
+                    "id", "item-" + i, "tenant_id", "tenant-0001", "name", "Item " + i, "slug", "item-" + i,
+                    "title", "Item " + i, "email", "item" + i + "@example.com", "description", text,
+                    "created_at", CREATED_AT, "updated_at", CREATED_AT));
+        }
+        return map("data", data, "pagination", map(
+                "page", 1, "page_size", items, "total_items", items, "total_pages", 1,
+                "has_next", false, "has_previous", false));
+    }
+
+    private static Map<String, Object> settings(int count, int payloadBytes) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        String text = "x".repeat(payloadBytes);
+        for (int i = 0; i < count; i++) {
+            settings.put("setting_" + i, text);
+        }
+        return settings;
+    }
+
+    private static Map<String, Object> map(Object... keysAndValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static byte[] json(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
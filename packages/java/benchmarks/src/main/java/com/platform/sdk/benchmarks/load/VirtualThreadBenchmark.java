@@ -0,0 +1,125 @@
+package com.platform.sdk.benchmarks.load;
+
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.users.UserClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of blocking {@link UserClient#get(String)} calls made from platform
+ * threads versus virtual threads, against a MockWebServer with fixed latency.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.platform.sdk.benchmarks.load.VirtualThreadBenchmark 1000 10000
+ * </pre>
+ *
+ * <p>The virtual thread row is skipped on JVMs older than 21. At 10k callers
+ * both the client and the server hold one socket per caller, so raise the
+ * open file limit ({@code ulimit -n}) first.
+ */
+public final class VirtualThreadBenchmark {
+    private static final int CALLS_PER_CALLER = 5;
+    // Looked up reflectively so the benchmarks still build for JDK 17
+    private static final Method NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+    private static final long SERVER_LATENCY_MILLIS = 20;
+    private static final String USER_JSON =
+            "{\"id\":\"user-123\",\"email\":\"test@example.com\",\"name\":\"Test User\",\"status\":\"active\"}";
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = args.length > 0 ? parseLevels(args) : new int[]{1_000, 10_000};
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return new MockResponse()
+                            .setHeader("Content-Type", "application/json")
+                            .setHeadersDelay(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS)
+                            .setBody(USER_JSON);
+                }
+            });
+            server.start();
+            String baseUrl = server.url("/").toString();
+
+            System.out.printf("%-10s %10s %12s %12s%n", "threads", "callers", "calls/s", "elapsed ms");
+            for (int callers : levels) {
+                run("platform", false, callers, baseUrl);
+                if (NEW_VIRTUAL_EXECUTOR != null) {
+                    run("virtual", true, callers, baseUrl);
+                } else {
+                    System.out.printf("%-10s %10d %12s%n", "virtual", callers, "unsupported");
+                }
+            }
+        }
+    }
+
+    private static void run(String label, boolean virtual, int callers, String baseUrl) throws Exception {
+        SdkRuntime runtime = new SdkRuntime.Builder()
+                .virtualThreads(virtual)
+                .maxIdleConnections(callers)
+                .build();
+        UserClient users = new UserClient.Builder()
+                .baseUrl(baseUrl)
+                .runtime(runtime)
+                .build();
+        ExecutorService pool = virtual
+                ? (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null)
+                : Executors.newFixedThreadPool(callers);
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(callers);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < callers; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int call = 0; call < CALLS_PER_CALLER; call++) {
+                        users.get("user-123");
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - began;
+
+        pool.shutdown();
+        runtime.close();
+
+        double callsPerSecond = (double) callers * CALLS_PER_CALLER / (elapsedNanos / 1e9);
+        System.out.printf("%-10s %10d %12.0f %12d%s%n", label, callers, callsPerSecond,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                failures.get() > 0 ? "  (" + failures.get() + " callers failed)" : "");
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static int[] parseLevels(String[] args) {
+        int[] levels = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            levels[i] = Integer.parseInt(args[i]);
+        }
+        return levels;
+    }
+}
@@ -2,10 +2,15 @@ package com.platform.sdk.apikeys;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for API key management operations.
@@ -14,16 +19,29 @@ public class APIKeyClient {
     private final HttpClient httpClient;
 
     private APIKeyClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(APIKeySummary.class, APIKeyListResponse.class,
+                CreateAPIKeyResponse.class, APIKeyUsage.class, ValidateAPIKeyResponse.class);
+        this.httpClient.getCodecs().warmWriters(CreateAPIKeyRequest.class, UpdateAPIKeyRequest.class);
     }
 
     public void setAccessToken(String accessToken) {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // API Key CRUD Operations
 
     public APIKeyListResponse list(ListAPIKeysParams params) throws ApiException {
@@ -35,6 +53,17 @@ public class APIKeyClient {
         return list(null);
     }
 
+    public PagedIterable<APIKeySummary> listAll(ListAPIKeysParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/api-keys", APIKeyListResponse.class, query));
+    }
+
+    public Stream<APIKeySummary> stream(ListAPIKeysParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/api-keys", APIKeySummary.class, queryParams);
+    }
+
     public APIKeySummary get(String keyId) throws ApiException {
         try {
             return httpClient.get("/api-keys/" + keyId, APIKeySummary.class);
@@ -135,13 +164,40 @@ public class APIKeyClient {
         return result.isValid() && Boolean.TRUE.equals(result.getHasPermission());
     }
 
+    // Async Operations
+
+    public CompletableFuture<APIKeyListResponse> listAsync(ListAPIKeysParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/api-keys", APIKeyListResponse.class, queryParams);
+    }
+
+    public CompletableFuture<APIKeySummary> getAsync(String keyId) {
+        return HttpClient.mapException(httpClient.getAsync("/api-keys/" + keyId, APIKeySummary.class),
+                e -> e.getStatusCode() == 404 ? new APIKeyNotFoundException(keyId) : e);
+    }
+
+    public CompletableFuture<ValidateAPIKeyResponse> validateAsync(String key, String requiredPermission) {
+        Map<String, String> body = new HashMap<>();
+        body.put("key", key);
+        if (requiredPermission != null) {
+            body.put("required_permission", requiredPermission);
+        }
+        return httpClient.postAsync("/api-keys/validate", body, ValidateAPIKeyResponse.class);
+    }
+
+    public CompletableFuture<ValidateAPIKeyResponse> validateAsync(String key) {
+        return validateAsync(key, null);
+    }
+
     /**
      * Builder for APIKeyClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -153,11 +209,28 @@ public class APIKeyClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public APIKeyClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
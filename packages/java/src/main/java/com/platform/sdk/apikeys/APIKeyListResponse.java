@@ -1,12 +1,13 @@
 package com.platform.sdk.apikeys;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.platform.sdk.common.Page;
 import java.util.List;
 
 /**
  * Response containing a list of API keys.
  */
-public class APIKeyListResponse {
+public class APIKeyListResponse implements Page<APIKeySummary> {
     private List<APIKeySummary> data;
     private int total;
     private int page;
@@ -15,6 +16,7 @@ public class APIKeyListResponse {
     private int pageSize;
 
     // Getters and Setters
+    @Override
     public List<APIKeySummary> getData() { return data; }
     public void setData(List<APIKeySummary> data) { this.data = data; }
 
@@ -26,4 +28,10 @@ public class APIKeyListResponse {
 
     public int getPageSize() { return pageSize; }
     public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+
+    @Override
+    public boolean hasNextPage() { return pageSize > 0 && (long) page * pageSize < total; }
+
+    @Override
+    public int totalPages() { return pageSize > 0 ? (total + pageSize - 1) / pageSize : 0; }
 }
@@ -4,12 +4,14 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.SdkRuntime;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for authentication operations.
@@ -24,7 +26,9 @@ public class AuthClient {
         this.issuerUrl = builder.issuerUrl;
         this.clientId = builder.clientId;
         this.clientSecret = builder.clientSecret;
-        this.httpClient = new HttpClient(builder.issuerUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.issuerUrl, builder.timeout, builder.runtime);
+        this.httpClient.getCodecs().warmReaders(TokenResponse.class, TokenIntrospectionResponse.class);
+        this.httpClient.getCodecs().warmReaders(new TypeReference<List<Session>>() {});
     }
 
     /**
@@ -64,6 +68,22 @@ public class AuthClient {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #refreshToken(String)}.
+     */
+    public CompletableFuture<TokenResponse> refreshTokenAsync(String refreshToken) {
+        Map<String, String> body = new HashMap<>();
+        body.put("grant_type", "refresh_token");
+        body.put("refresh_token", refreshToken);
+        if (clientId != null) {
+            body.put("client_id", clientId);
+        }
+
+        return HttpClient.mapException(
+                httpClient.postAsync("/oauth/token", body, TokenResponse.class),
+                e -> new AuthException("Token refresh failed: " + e.getMessage(), e));
+    }
+
     /**
      * Introspect a token to check if it's valid.
      */
@@ -84,13 +104,30 @@ public class AuthClient {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #introspect(String)}.
+     */
+    public CompletableFuture<TokenIntrospectionResponse> introspectAsync(String token) {
+        Map<String, String> body = new HashMap<>();
+        body.put("token", token);
+        if (clientId != null) {
+            body.put("client_id", clientId);
+        }
+        if (clientSecret != null) {
+            body.put("client_secret", clientSecret);
+        }
+
+        return HttpClient.mapException(
+                httpClient.postAsync("/oauth/introspect", body, TokenIntrospectionResponse.class),
+                e -> new AuthException("Token introspection failed: " + e.getMessage(), e));
+    }
+
     /**
      * Logout and invalidate the access token.
      */
     public void logout(String accessToken) throws AuthException {
-        httpClient.setAccessToken(accessToken);
         try {
-            httpClient.postVoid("/oauth/revoke", Map.of("token", accessToken));
+            httpClient.withAccessToken(accessToken).postVoid("/oauth/revoke", Map.of("token", accessToken));
         } catch (Exception e) {
             throw new AuthException("Logout failed: " + e.getMessage(), e);
         }
@@ -142,9 +179,8 @@ public class AuthClient {
      * List active sessions for the current user.
      */
     public List<Session> listSessions(String accessToken) throws AuthException {
-        httpClient.setAccessToken(accessToken);
         try {
-            return httpClient.get("/api/sessions", new TypeReference<List<Session>>() {});
+            return httpClient.withAccessToken(accessToken).get("/api/sessions", new TypeReference<List<Session>>() {});
         } catch (Exception e) {
             throw new AuthException("Failed to list sessions: " + e.getMessage(), e);
         }
@@ -154,9 +190,8 @@ public class AuthClient {
      * Revoke a specific session.
      */
     public void revokeSession(String accessToken, String sessionId) throws AuthException {
-        httpClient.setAccessToken(accessToken);
         try {
-            httpClient.delete("/api/sessions/" + sessionId);
+            httpClient.withAccessToken(accessToken).delete("/api/sessions/" + sessionId);
         } catch (Exception e) {
             throw new AuthException("Failed to revoke session: " + e.getMessage(), e);
         }
@@ -166,9 +201,8 @@ public class AuthClient {
      * Revoke all sessions except the current one.
      */
     public void revokeAllSessions(String accessToken) throws AuthException {
-        httpClient.setAccessToken(accessToken);
         try {
-            httpClient.postVoid("/api/sessions/revoke-all", null);
+            httpClient.withAccessToken(accessToken).postVoid("/api/sessions/revoke-all", null);
         } catch (Exception e) {
             throw new AuthException("Failed to revoke sessions: " + e.getMessage(), e);
         }
@@ -182,6 +216,7 @@ public class AuthClient {
         private String clientId;
         private String clientSecret;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder issuerUrl(String issuerUrl) {
             this.issuerUrl = issuerUrl;
@@ -203,6 +238,14 @@ public class AuthClient {
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public AuthClient build() {
             if (issuerUrl == null || issuerUrl.isEmpty()) {
                 throw new IllegalArgumentException("issuerUrl is required");
@@ -0,0 +1,218 @@
+package com.platform.sdk.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.platform.sdk.common.TokenProvider;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token provider that keeps an OAuth access token fresh.
+ *
+ * <p>The token is refreshed through {@link AuthClient#refreshTokenAsync(String)}
+ * in the background shortly before it expires. Reads are a volatile load and a
+ * clock check; a reader only waits when the token has already expired. However
+ * many threads notice that a refresh is due, one refresh request is sent, and
+ * the new token is published atomically for all of them.
+ *
+ * <pre>{@code
+ * RefreshingTokenProvider tokens = new RefreshingTokenProvider(auth, auth.login(email, password));
+ * UserClient users = new UserClient.Builder()
+ *     .baseUrl("https://api.example.com")
+ *     .tokenProvider(tokens)
+ *     .build();
+ * }</pre>
+ */
+public final class RefreshingTokenProvider implements TokenProvider, AutoCloseable {
+    private static final Duration DEFAULT_REFRESH_BEFORE = Duration.ofSeconds(60);
+    private static final long RETRY_DELAY_MILLIS = 5_000;
+
+    private final AuthClient authClient;
+    private final long refreshBeforeMillis;
+    private final AtomicReference<Tokens> tokens = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Tokens>> refreshing = new AtomicReference<>();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private volatile boolean closed;
+
+    public RefreshingTokenProvider(AuthClient authClient, TokenResponse initial) {
+        this(authClient, initial, DEFAULT_REFRESH_BEFORE);
+    }
+
+    /**
+     * @param refreshBefore how long before expiry to refresh; tokens that live
+     *                      shorter than twice this are refreshed at half-life
+     */
+    public RefreshingTokenProvider(AuthClient authClient, TokenResponse initial, Duration refreshBefore) {
+        if (authClient == null || initial == null || initial.getAccessToken() == null) {
+            throw new IllegalArgumentException("authClient and an initial access token are required");
+        }
+        if (refreshBefore == null || refreshBefore.isNegative()) {
+            throw new IllegalArgumentException("refreshBefore must not be negative");
+        }
+        this.authClient = authClient;
+        this.refreshBeforeMillis = refreshBefore.toMillis();
+        publish(Tokens.from(initial, null, refreshBeforeMillis));
+    }
+
+    @Override
+    public String getAccessToken() {
+        Tokens current = tokens.get();
+        long now = System.currentTimeMillis();
+        if (now < current.refreshAtMillis && now < current.expiresAtMillis) {
+            return current.accessToken;
+        }
+        if (now < current.expiresAtMillis) {
+            refresh(current);
+            return current.accessToken;
+        }
+        try {
+            return refresh(current).join().accessToken;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AuthException("Token refresh failed: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * The refresh token the next refresh will use.
+     */
+    public String getRefreshToken() {
+        return tokens.get().refreshToken;
+    }
+
+    /**
+     * Number of refresh requests sent.
+     */
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * Number of refresh requests that failed.
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * Stop scheduling background refreshes. Expired tokens are still
+     * refreshed on demand.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Refresh the given tokens, or join the refresh already in flight.
+     */
+    private CompletableFuture<Tokens> refresh(Tokens stale) {
+        CompletableFuture<Tokens> running = refreshing.get();
+        if (running != null) {
+            return running;
+        }
+        CompletableFuture<Tokens> next = new CompletableFuture<>();
+        if (!refreshing.compareAndSet(null, next)) {
+            running = refreshing.get();
+            return running != null ? running : CompletableFuture.completedFuture(tokens.get());
+        }
+        Tokens latest = tokens.get();
+        if (latest != stale) {
+            // Another refresh published while we were getting here
+            refreshing.set(null);
+            next.complete(latest);
+            return next;
+        }
+
+        refreshCount.increment();
+        authClient.refreshTokenAsync(stale.refreshToken).whenComplete((response, error) -> {
+            if (error == null) {
+                publish(Tokens.from(response, stale.refreshToken, refreshBeforeMillis));
+            } else {
+                failureCount.increment();
+                // Keep serving the current token and retry a little later
+                publish(stale.retryLater(System.currentTimeMillis() + RETRY_DELAY_MILLIS));
+            }
+            refreshing.set(null);
+            if (error == null) {
+                next.complete(tokens.get());
+            } else {
+                next.completeExceptionally(error);
+            }
+        });
+        return next;
+    }
+
+    private void publish(Tokens next) {
+        tokens.set(next);
+        if (closed || next.refreshAtMillis == Long.MAX_VALUE) {
+            return;
+        }
+        long delay = Math.max(0, next.refreshAtMillis - System.currentTimeMillis());
+        CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!closed && tokens.get() == next) {
+                refresh(next);
+            }
+        });
+    }
+
+    /**
+     * Immutable token set; replaced as a whole on every refresh.
+     */
+    private static final class Tokens {
+        final String accessToken;
+        final String refreshToken;
+        final long refreshAtMillis;
+        final long expiresAtMillis;
+
+        Tokens(String accessToken, String refreshToken, long refreshAtMillis, long expiresAtMillis) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.refreshAtMillis = refreshAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        static Tokens from(TokenResponse response, String previousRefreshToken, long refreshBeforeMillis) {
+            long now = System.currentTimeMillis();
+            String refreshToken = response.getRefreshToken() != null
+                    ? response.getRefreshToken() : previousRefreshToken;
+            long expiresAt = expiresAt(response, now);
+            if (expiresAt == Long.MAX_VALUE || refreshToken == null) {
+                // Nothing to schedule; let the server judge the token
+                return new Tokens(response.getAccessToken(), refreshToken, Long.MAX_VALUE, Long.MAX_VALUE);
+            }
+            long lifetime = Math.max(0, expiresAt - now);
+            long refreshAt = Math.max(expiresAt - refreshBeforeMillis, now + lifetime / 2);
+            return new Tokens(response.getAccessToken(), refreshToken, refreshAt, expiresAt);
+        }
+
+        /**
+         * Expiry from {@code expires_in}, else from the JWT {@code exp} claim,
+         * else never.
+         */
+        private static long expiresAt(TokenResponse response, long now) {
+            if (response.getExpiresIn() != null) {
+                return now + response.getExpiresIn() * 1000L;
+            }
+            try {
+                Date exp = JWT.decode(response.getAccessToken()).getExpiresAt();
+                return exp != null ? exp.getTime() : Long.MAX_VALUE;
+            } catch (JWTDecodeException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        Tokens retryLater(long retryAtMillis) {
+            return new Tokens(accessToken, refreshToken, retryAtMillis, expiresAtMillis);
+        }
+    }
+}
@@ -31,6 +31,12 @@ public class ApiException extends RuntimeException {
         this.errorCode = null;
     }
 
+    public ApiException(String message, int statusCode, String errorCode, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
@@ -0,0 +1,157 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Which calls to pack into batch requests, and how many to wait for.
+ *
+ * <p>Calls to a batched endpoint are held for up to {@code maxDelay}, or until
+ * {@code maxBatchSize} calls with the same credentials are waiting, and then
+ * sent together as one {@code POST} to the batch endpoint:
+ *
+ * <pre>
+ * {"requests": [{"id": "0", "method": "GET", "path": "/api/users/u1"},
+ *               {"id": "1", "method": "POST", "path": "/permissions/check", "body": {...}}]}
+ * </pre>
+ *
+ * <p>Sub-requests that carry an idempotency key also get
+ * {@code "headers": {"Idempotency-Key": "..."}}. The server answers each
+ * sub-request by id, with the status, body and optionally headers it would
+ * have returned on its own:
+ *
+ * <pre>
+ * {"responses": [{"id": "0", "status": 200, "body": {...}},
+ *                {"id": "1", "status": 404, "body": {"message": "Role not found"}},
+ *                {"id": "2", "status": 503, "headers": {"Retry-After": "1"}}]}
+ * </pre>
+ *
+ * <p>Item statuses are retried under the runtime's {@link RetryPolicy} and
+ * retry budget exactly like unbatched calls, by submitting the call again
+ * to a later batch. The batch request itself is a POST, retried only as the
+ * policy allows for POSTs.
+ *
+ * <p>Circuit breakers, rate limits, concurrency limits, bulkheads, metrics
+ * and interceptors see the batch request, under the batch endpoint's
+ * template. Batched calls are exempt from those of their own endpoints, so
+ * set limits for batched traffic on the batch path.
+ */
+public final class BatchConfig {
+    private final String path;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final List<String> endpoints;
+
+    private BatchConfig(Builder builder) {
+        this.path = builder.path;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxDelay = builder.maxDelay;
+        this.endpoints = List.copyOf(builder.endpoints);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Batched endpoints as {@code "METHOD /path/prefix"}.
+     */
+    public List<String> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Whether calls to the given endpoint are batched.
+     */
+    boolean covers(Endpoint endpoint) {
+        String template = endpoint.getTemplate();
+        for (String batched : endpoints) {
+            int space = batched.indexOf(' ');
+            if (!batched.regionMatches(0, endpoint.getMethod(), 0, space)
+                    || space != endpoint.getMethod().length()) {
+                continue;
+            }
+            String prefix = batched.substring(space + 1);
+            if (prefix.endsWith("/")
+                    ? template.startsWith(prefix) && template.length() > prefix.length()
+                    : template.startsWith(prefix)
+                    && (template.length() == prefix.length() || template.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builder for BatchConfig.
+     */
+    public static class Builder {
+        private String path = "/batch";
+        private int maxBatchSize = 50;
+        private Duration maxDelay = Duration.ofMillis(2);
+        private final List<String> endpoints = new ArrayList<>();
+
+        /**
+         * Path of the batch endpoint, relative to each client's base URL.
+         */
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * Most calls sent in one batch request.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Longest a call waits for others to share its batch.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Batch calls with the given method whose path starts with the prefix.
+         * A prefix ending in {@code /} matches only paths below it, so
+         * {@code endpoint("GET", "/api/users/")} batches user lookups but not
+         * the user listing.
+         */
+        public Builder endpoint(String method, String pathPrefix) {
+            if (method == null || pathPrefix == null || !pathPrefix.startsWith("/")) {
+                throw new IllegalArgumentException("method and a path prefix starting with / are required");
+            }
+            endpoints.add(method.toUpperCase() + " " + pathPrefix);
+            return this;
+        }
+
+        public BatchConfig build() {
+            if (path == null || !path.startsWith("/")) {
+                throw new IllegalArgumentException("path must start with /");
+            }
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("maxBatchSize must be at least 1");
+            }
+            if (maxDelay == null || maxDelay.isNegative()) {
+                throw new IllegalArgumentException("maxDelay must not be negative");
+            }
+            if (endpoints.isEmpty()) {
+                throw new IllegalArgumentException("at least one endpoint is required");
+            }
+            return new BatchConfig(this);
+        }
+    }
+}
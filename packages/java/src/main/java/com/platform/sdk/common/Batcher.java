@@ -0,0 +1,236 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Packs calls to batched endpoints into batch requests, as described by
+ * {@link BatchConfig}.
+ *
+ * <p>Calls wait in a batch per credential, since a batch request carries a
+ * single Authorization header. A batch is sent when it reaches the maximum
+ * size, or when its first call has waited the maximum delay. Each call gets
+ * back a response made from its entry in the batch response, so status
+ * handling and decoding are the same as for a call of its own. Only the
+ * method, path, query, body and idempotency key of a call are sent; other
+ * headers are not. Calls cancelled while waiting are left out of the batch.
+ *
+ * <p>When the batch request itself fails, its calls fail with an
+ * {@link ApiException} coded {@code BATCH_FAILED} whose cause is the batch
+ * failure. A 404 or 401 from the batch endpoint is then not mistaken for the
+ * status of the calls in it.
+ */
+final class Batcher {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final BatchConfig config;
+    private final String basePath;
+    private final ObjectMapper objectMapper;
+    private final BiFunction<String, RequestBody, CompletableFuture<JsonNode>> send;
+    private final Executor timer;
+    private final Map<String, List<Entry>> pending = new HashMap<>();
+
+    /**
+     * @param send posts a batch body with the given Authorization header (or
+     *             null for none) and yields the decoded batch response
+     */
+    Batcher(BatchConfig config, String baseUrl, ObjectMapper objectMapper,
+            BiFunction<String, RequestBody, CompletableFuture<JsonNode>> send) {
+        this.config = config;
+        String path = HttpUrl.get(baseUrl).encodedPath();
+        this.basePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        this.objectMapper = objectMapper;
+        this.send = send;
+        this.timer = CompletableFuture.delayedExecutor(config.getMaxDelay().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Whether the request goes into a batch rather than out on its own.
+     */
+    boolean covers(Request request) {
+        Endpoint endpoint = request.tag(Endpoint.class);
+        return endpoint != null && config.covers(endpoint) && !config.getPath().equals(endpoint.getTemplate());
+    }
+
+    String getPath() {
+        return config.getPath();
+    }
+
+    /**
+     * Add the request to the batch for its credentials. The future yields the
+     * request's own response, or fails if the batch request failed.
+     */
+    CompletableFuture<Response> submit(Request request) {
+        Entry entry = new Entry(request);
+        String authorization = request.header("Authorization");
+        String key = authorization != null ? authorization : "";
+        List<Entry> full = null;
+        boolean first;
+        List<Entry> batch;
+        synchronized (pending) {
+            batch = pending.computeIfAbsent(key, k -> new ArrayList<>());
+            batch.add(entry);
+            first = batch.size() == 1;
+            if (batch.size() >= config.getMaxBatchSize()) {
+                full = pending.remove(key);
+            }
+        }
+        if (full != null) {
+            send(authorization, full);
+        } else if (first) {
+            List<Entry> scheduled = batch;
+            timer.execute(() -> flush(key, authorization, scheduled));
+        }
+        return entry.response;
+    }
+
+    private void flush(String key, String authorization, List<Entry> batch) {
+        synchronized (pending) {
+            // A batch that filled up has been sent already
+            if (pending.get(key) != batch) {
+                return;
+            }
+            pending.remove(key);
+        }
+        send(authorization, batch);
+    }
+
+    private void send(String authorization, List<Entry> waiting) {
+        List<Entry> batch = new ArrayList<>(waiting.size());
+        for (Entry entry : waiting) {
+            if (!entry.response.isDone()) {
+                batch.add(entry);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        RequestBody body;
+        try {
+            body = encode(batch);
+        } catch (IOException e) {
+            failAll(batch, new ApiException("Failed to serialize batch request", e));
+            return;
+        }
+        send.apply(authorization, body).whenComplete((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                failAll(batch, new ApiException("Batch request failed: " + cause.getMessage(), 0,
+                        "BATCH_FAILED", cause));
+                return;
+            }
+            Map<String, JsonNode> byId = new HashMap<>();
+            JsonNode responses = result != null ? result.path("responses") : null;
+            if (responses != null) {
+                for (JsonNode item : responses) {
+                    byId.put(item.path("id").asText(), item);
+                }
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                Entry entry = batch.get(i);
+                JsonNode item = byId.get(Integer.toString(i));
+                if (item == null) {
+                    entry.response.completeExceptionally(new ApiException("Batch response has no result for "
+                            + entry.request.method() + " " + entry.request.url().encodedPath(), 0,
+                            "BATCH_RESULT_MISSING"));
+                    continue;
+                }
+                try {
+                    entry.response.complete(toResponse(entry.request, item));
+                } catch (IOException e) {
+                    entry.response.completeExceptionally(
+                            new ApiException("Failed to read batch result: " + e.getMessage(), e));
+                }
+            }
+        });
+    }
+
+    private RequestBody encode(List<Entry> batch) throws IOException {
+        Buffer json = new Buffer();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json.outputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("requests");
+            for (int i = 0; i < batch.size(); i++) {
+                Request request = batch.get(i).request;
+                generator.writeStartObject();
+                generator.writeStringField("id", Integer.toString(i));
+                generator.writeStringField("method", request.method());
+                generator.writeStringField("path", relativePath(request.url()));
+                String idempotencyKey = request.header(RetryPolicy.IDEMPOTENCY_KEY_HEADER);
+                if (idempotencyKey != null) {
+                    generator.writeObjectFieldStart("headers");
+                    generator.writeStringField(RetryPolicy.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    generator.writeEndObject();
+                }
+                if (request.body() != null) {
+                    Buffer body = new Buffer();
+                    request.body().writeTo(body);
+                    if (body.size() > 0) {
+                        generator.writeFieldName("body");
+                        generator.writeRawValue(body.readUtf8());
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return RequestBody.create(json.readByteString(), JSON);
+    }
+
+    private String relativePath(HttpUrl url) {
+        String path = url.encodedPath().substring(basePath.length());
+        return url.encodedQuery() != null ? path + "?" + url.encodedQuery() : path;
+    }
+
+    private Response toResponse(Request request, JsonNode item) throws IOException {
+        JsonNode body = item.get("body");
+        byte[] bytes = body == null || body.isNull() ? new byte[0] : objectMapper.writeValueAsBytes(body);
+        Response.Builder response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(item.path("status").asInt(500))
+                .message("")
+                .body(ResponseBody.create(bytes, JSON));
+        // Item headers such as Retry-After feed the same retry decision as a response of its own
+        item.path("headers").fields().forEachRemaining(header ->
+                response.header(header.getKey(), header.getValue().asText()));
+        return response.build();
+    }
+
+    private static void failAll(List<Entry> batch, Throwable error) {
+        for (Entry entry : batch) {
+            entry.response.completeExceptionally(error);
+        }
+    }
+
+    private static final class Entry {
+        final Request request;
+        final CompletableFuture<Response> response = new CompletableFuture<>();
+
+        Entry(Request request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.platform.sdk.common;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed share of the runtime's capacity for one group of endpoints.
+ *
+ * <p>Requests of a bulkhead take a slot for the whole attempt, including
+ * reading the response, and run on the bulkhead's own OkHttp dispatcher and
+ * connection pool. A slow or failing group therefore only exhausts its own
+ * slots, threads and connections, never those of other groups.
+ */
+public final class Bulkhead {
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+
+    private final String name;
+    private final BulkheadConfig config;
+    private final List<String> prefixes;
+    private final long maxQueueWaitNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    // Transport, created when the runtime is built
+    private final Map<OkHttpClient, OkHttpClient> clients = new ConcurrentHashMap<>();
+    private volatile Dispatcher dispatcher;
+    private volatile ConnectionPool connectionPool;
+
+    Bulkhead(String name, BulkheadConfig config, List<String> prefixes) {
+        this.name = name;
+        this.config = config;
+        this.prefixes = List.copyOf(prefixes);
+        this.maxQueueWaitNanos = config.getMaxQueueWait().toNanos();
+    }
+
+    /**
+     * Create the bulkhead's dispatcher and connection pool.
+     *
+     * @param executor executor for async calls, or null for OkHttp's default
+     */
+    synchronized void bind(ExecutorService executor, Duration keepAlive) {
+        if (dispatcher != null) {
+            throw new IllegalStateException("Bulkhead " + name + " already belongs to a runtime");
+        }
+        Dispatcher own = executor != null ? new Dispatcher(executor) : new Dispatcher();
+        own.setMaxRequests(config.getMaxConcurrentCalls());
+        own.setMaxRequestsPerHost(config.getMaxConcurrentCalls());
+        connectionPool = new ConnectionPool(config.getMaxConcurrentCalls(), keepAlive.toMillis(),
+                TimeUnit.MILLISECONDS);
+        dispatcher = own;
+    }
+
+    /**
+     * The given runtime client, with the same timeouts and interceptors, on
+     * this bulkhead's dispatcher and connection pool.
+     */
+    OkHttpClient client(OkHttpClient base) {
+        return clients.computeIfAbsent(base, shared -> shared.newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .build());
+    }
+
+    void close() {
+        if (dispatcher != null) {
+            dispatcher.executorService().shutdown();
+            connectionPool.evictAll();
+        }
+    }
+
+    boolean matches(String template) {
+        for (String prefix : prefixes) {
+            if (template.startsWith(prefix)
+                    && (template.length() == prefix.length() || template.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Take a slot if one is free now. Every slot must be given back with
+     * {@link #release()}.
+     */
+    public boolean tryAcquire() {
+        int max = config.getMaxConcurrentCalls();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Take a slot, queueing if there is room. The future fails with
+     * {@link BulkheadFullException} if the queue is full or no slot frees up in time.
+     */
+    CompletableFuture<Void> acquireAsync() {
+        if (tryAcquire()) {
+            return ACQUIRED;
+        }
+        if (queued.incrementAndGet() > config.getMaxQueueSize()) {
+            queued.decrementAndGet();
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new BulkheadFullException(name));
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiter.whenComplete((slot, error) -> queued.decrementAndGet());
+        waiters.add(waiter);
+        // A slot may have been released between the first attempt and enqueueing
+        if (tryAcquire() && !waiter.complete(null)) {
+            release();
+        }
+        return waiter.orTimeout(maxQueueWaitNanos, TimeUnit.NANOSECONDS).exceptionallyCompose(error -> {
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new BulkheadFullException(name));
+        });
+    }
+
+    /**
+     * Block until a slot is free.
+     *
+     * @throws BulkheadFullException if the queue is full or no slot frees up in time
+     */
+    void acquire() throws ApiException {
+        if (tryAcquire()) {
+            return;
+        }
+        CompletableFuture<Void> slot = acquireAsync();
+        try {
+            slot.get();
+        } catch (InterruptedException e) {
+            // Give the slot back if it arrives after we stopped waiting
+            slot.thenRun(this::release);
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting for bulkhead " + name, e);
+        } catch (ExecutionException e) {
+            throw (ApiException) e.getCause();
+        }
+    }
+
+    /**
+     * Give back a slot, handing it straight to the oldest live waiter.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+        while (!waiters.isEmpty() && tryAcquire()) {
+            if (!handOff()) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean handOff() {
+        CompletableFuture<Void> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            if (waiter.complete(null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BulkheadConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Path prefixes of the endpoints that run in this bulkhead.
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Read the gauges of the bulkhead's connection pool and dispatcher.
+     */
+    public PoolStats getPoolStats() {
+        if (dispatcher == null) {
+            return new PoolStats(0, 0, 0, 0, config.getMaxConcurrentCalls(), config.getMaxConcurrentCalls());
+        }
+        return new PoolStats(connectionPool.connectionCount(), connectionPool.idleConnectionCount(),
+                dispatcher.runningCallsCount(), dispatcher.queuedCallsCount(), dispatcher.getMaxRequests(),
+                dispatcher.getMaxRequestsPerHost());
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead{" + name + ", " + inFlight.get() + "/" + config.getMaxConcurrentCalls()
+                + ", queued=" + queued.get() + "}";
+    }
+}
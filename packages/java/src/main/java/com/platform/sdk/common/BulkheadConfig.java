@@ -0,0 +1,92 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+
+/**
+ * Size of one {@link Bulkhead}.
+ *
+ * <p>At most {@code maxConcurrentCalls} requests of the bulkhead are in flight
+ * at once. Up to {@code maxQueueSize} more wait for a slot, each for at most
+ * {@code maxQueueWait}; the rest fail at once with {@link BulkheadFullException}.
+ * The default has no queue.
+ */
+public final class BulkheadConfig {
+    private final int maxConcurrentCalls;
+    private final int maxQueueSize;
+    private final Duration maxQueueWait;
+
+    private BulkheadConfig(Builder builder) {
+        this.maxConcurrentCalls = builder.maxConcurrentCalls;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.maxQueueWait = builder.maxQueueWait;
+    }
+
+    /**
+     * A bulkhead of the given size without a queue.
+     */
+    public static BulkheadConfig of(int maxConcurrentCalls) {
+        return new Builder().maxConcurrentCalls(maxConcurrentCalls).build();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public Duration getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    /**
+     * Builder for BulkheadConfig.
+     */
+    public static class Builder {
+        private int maxConcurrentCalls = 25;
+        private int maxQueueSize;
+        private Duration maxQueueWait = Duration.ZERO;
+
+        /**
+         * Requests in flight at once. This also sizes the bulkhead's own
+         * dispatcher and connection pool.
+         */
+        public Builder maxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            return this;
+        }
+
+        /**
+         * Requests that may wait for a slot. Zero rejects at once.
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Longest a queued request waits for a slot.
+         */
+        public Builder maxQueueWait(Duration maxQueueWait) {
+            this.maxQueueWait = maxQueueWait;
+            return this;
+        }
+
+        public BulkheadConfig build() {
+            if (maxConcurrentCalls < 1) {
+                throw new IllegalArgumentException("maxConcurrentCalls must be at least 1");
+            }
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("maxQueueSize must not be negative");
+            }
+            if (maxQueueWait.isNegative()) {
+                throw new IllegalArgumentException("maxQueueWait must not be negative");
+            }
+            if (maxQueueSize > 0 && maxQueueWait.isZero()) {
+                throw new IllegalArgumentException("maxQueueWait must be positive when requests are queued");
+            }
+            return new BulkheadConfig(this);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.platform.sdk.common;
+
+/**
+ * Exception thrown without contacting the server because the request's
+ * bulkhead had no free slot and no room in its queue, or the queued request
+ * waited longer than the bulkhead allows.
+ */
+public class BulkheadFullException extends ApiException {
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead) {
+        super("Bulkhead " + bulkhead + " is full", 0, "BULKHEAD_FULL");
+        this.bulkhead = bulkhead;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
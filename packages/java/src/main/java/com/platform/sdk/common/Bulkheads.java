@@ -0,0 +1,108 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Bulkheads of one runtime, each owning the endpoints under some path
+ * prefixes, for example {@code /oauth} and {@code /api-keys/validate} for the
+ * authentication hot path, or {@code /email} for a non-critical subsystem.
+ *
+ * <p>A request runs in the first bulkhead with a matching prefix. Requests
+ * that match none share the runtime's dispatcher and connection pool as before.
+ */
+public final class Bulkheads {
+    private final List<Bulkhead> bulkheads;
+
+    private Bulkheads(Builder builder) {
+        this.bulkheads = List.copyOf(builder.bulkheads);
+    }
+
+    /**
+     * Get a bulkhead by name, or null if there is none.
+     */
+    public Bulkhead get(String name) {
+        for (Bulkhead bulkhead : bulkheads) {
+            if (bulkhead.getName().equals(name)) {
+                return bulkhead;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get all bulkheads in the order they were added.
+     */
+    public Map<String, Bulkhead> getAll() {
+        Map<String, Bulkhead> all = new LinkedHashMap<>();
+        bulkheads.forEach(bulkhead -> all.put(bulkhead.getName(), bulkhead));
+        return all;
+    }
+
+    /**
+     * The bulkhead for an endpoint template, or null if it has none.
+     */
+    Bulkhead forTemplate(String template) {
+        for (Bulkhead bulkhead : bulkheads) {
+            if (bulkhead.matches(template)) {
+                return bulkhead;
+            }
+        }
+        return null;
+    }
+
+    void bind(boolean virtualThreads, Duration keepAlive) {
+        for (Bulkhead bulkhead : bulkheads) {
+            ExecutorService executor = virtualThreads ? VirtualThreads.newExecutor() : null;
+            bulkhead.bind(executor, keepAlive);
+        }
+    }
+
+    void close() {
+        bulkheads.forEach(Bulkhead::close);
+    }
+
+    /**
+     * Builder for Bulkheads.
+     */
+    public static class Builder {
+        private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+        /**
+         * Run requests whose path starts with any of the prefixes in a bulkhead
+         * of their own. Prefixes match whole segments, so {@code /email} covers
+         * {@code /email/send} but not {@code /emails}.
+         */
+        public Builder bulkhead(String name, BulkheadConfig config, String... pathPrefixes) {
+            if (name == null || config == null) {
+                throw new IllegalArgumentException("name and config are required");
+            }
+            if (pathPrefixes.length == 0) {
+                throw new IllegalArgumentException("at least one path prefix is required");
+            }
+            for (Bulkhead bulkhead : bulkheads) {
+                if (bulkhead.getName().equals(name)) {
+                    throw new IllegalArgumentException("duplicate bulkhead " + name);
+                }
+            }
+            List<String> prefixes = new ArrayList<>();
+            for (String pathPrefix : pathPrefixes) {
+                String prefix = pathPrefix.endsWith("/") ? pathPrefix.substring(0, pathPrefix.length() - 1) : pathPrefix;
+                prefixes.add(prefix.startsWith("/") ? prefix : "/" + prefix);
+            }
+            bulkheads.add(new Bulkhead(name, config, prefixes));
+            return this;
+        }
+
+        public Bulkheads build() {
+            if (bulkheads.isEmpty()) {
+                throw new IllegalArgumentException("at least one bulkhead is required");
+            }
+            return new Bulkheads(this);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Which GET results the {@link ResponseCache} keeps, and for how long.
+ *
+ * <p>Time-to-live is chosen by result type, e.g. {@code Role} for five
+ * minutes and {@code Tenant} for one. Types without a TTL use
+ * {@code defaultTtl}, which is zero (not cached) unless set. With
+ * {@code refreshAhead} set to, say, 0.8, a read of an entry older than 80% of
+ * its TTL still returns the cached value but also refreshes it in the
+ * background, so hot entries never expire under load.
+ */
+public final class CachePolicy {
+    private final Map<Type, Duration> ttls;
+    private final Duration defaultTtl;
+    private final double refreshAhead;
+
+    private CachePolicy(Builder builder) {
+        this.ttls = Map.copyOf(builder.ttls);
+        this.defaultTtl = builder.defaultTtl;
+        this.refreshAhead = builder.refreshAhead;
+    }
+
+    /**
+     * Time-to-live for results of the given type; zero means do not cache.
+     */
+    public Duration ttlFor(Type resultType) {
+        return ttls.getOrDefault(resultType, defaultTtl);
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public double getRefreshAhead() {
+        return refreshAhead;
+    }
+
+    /**
+     * Builder for CachePolicy.
+     */
+    public static class Builder {
+        private final Map<Type, Duration> ttls = new HashMap<>();
+        private Duration defaultTtl = Duration.ZERO;
+        private double refreshAhead;
+
+        public Builder ttl(Class<?> resultType, Duration ttl) {
+            ttls.put(resultType, ttl);
+            return this;
+        }
+
+        /**
+         * Set the TTL of a generic result type such as {@code List<DepartmentTree>}.
+         */
+        public Builder ttl(TypeReference<?> resultType, Duration ttl) {
+            ttls.put(resultType.getType(), ttl);
+            return this;
+        }
+
+        public Builder defaultTtl(Duration defaultTtl) {
+            this.defaultTtl = defaultTtl;
+            return this;
+        }
+
+        /**
+         * Fraction of the TTL, in (0, 1), after which reads trigger a background
+         * refresh. Zero, the default, disables refresh-ahead.
+         */
+        public Builder refreshAhead(double refreshAhead) {
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        public CachePolicy build() {
+            if (refreshAhead < 0 || refreshAhead >= 1) {
+                throw new IllegalArgumentException("refreshAhead must be in [0, 1)");
+            }
+            if (defaultTtl.isNegative() || ttls.values().stream().anyMatch(Duration::isNegative)) {
+                throw new IllegalArgumentException("TTLs must not be negative");
+            }
+            return new CachePolicy(this);
+        }
+    }
+}
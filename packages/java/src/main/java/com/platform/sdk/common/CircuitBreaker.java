@@ -0,0 +1,198 @@
+package com.platform.sdk.common;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker for one endpoint template.
+ *
+ * <p>While closed, outcomes are recorded in a count-based sliding window. While
+ * open, {@link #tryAcquire()} is a volatile read and a clock check, so a sick
+ * backend is shed without touching the network. Counters are cumulative since
+ * the breaker was created.
+ */
+public final class CircuitBreaker {
+    /**
+     * Breaker state.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtNanos;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+    // Sliding window and half-open progress, guarded by this
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private int windowSlowCalls;
+    private int halfOpenSuccesses;
+
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder slowCallCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder openedCount = new LongAdder();
+
+    CircuitBreaker(String name, CircuitBreakerConfig config) {
+        this.name = name;
+        this.config = config;
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.openNanos = config.getOpenDuration().toNanos();
+        this.window = new byte[config.getWindowSize()];
+    }
+
+    /**
+     * Ask permission for a call. Every permitted call must be followed by
+     * {@link #onResult(long, boolean)} or {@link #onIgnored()}.
+     */
+    public boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openNanos) {
+                rejectedCount.increment();
+                return false;
+            }
+            toHalfOpen();
+        }
+        if (halfOpenPermits.getAndUpdate(permits -> permits > 0 ? permits - 1 : permits) > 0) {
+            return true;
+        }
+        rejectedCount.increment();
+        return false;
+    }
+
+    /**
+     * Record the outcome of a permitted call.
+     */
+    public void onResult(long durationNanos, boolean success) {
+        boolean slow = durationNanos >= slowCallNanos;
+        (success ? successCount : failureCount).increment();
+        if (slow) {
+            slowCallCount.increment();
+        }
+
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                if (!success || slow) {
+                    open();
+                } else if (++halfOpenSuccesses >= config.getHalfOpenProbes()) {
+                    close();
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+            record((byte) ((success ? 0 : FAILED) | (slow ? SLOW : 0)));
+            if (windowCount >= config.getMinimumCalls()
+                    && (windowFailures >= config.getFailureRateThreshold() * windowCount
+                    || windowSlowCalls >= config.getSlowCallRateThreshold() * windowCount)) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * End a permitted call that has no outcome, such as a cancelled one. No
+     * sample is recorded; a half-open probe permit goes back for another call.
+     */
+    public void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    private void record(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            windowFailures -= evicted & FAILED;
+            windowSlowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = outcome;
+        windowFailures += outcome & FAILED;
+        windowSlowCalls += (outcome & SLOW) >> 1;
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        openedAtNanos = System.nanoTime();
+        state = State.OPEN;
+        openedCount.increment();
+    }
+
+    private synchronized void toHalfOpen() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+            halfOpenSuccesses = 0;
+            halfOpenPermits.set(config.getHalfOpenProbes());
+            state = State.HALF_OPEN;
+        }
+    }
+
+    private void close() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        windowSlowCalls = 0;
+        state = State.CLOSED;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Failure share of the calls currently in the sliding window.
+     */
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0 : (double) windowFailures / windowCount;
+    }
+
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getSlowCallCount() {
+        return slowCallCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Number of times the breaker has tripped open.
+     */
+    public long getOpenedCount() {
+        return openedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" + name + ", " + state + "}";
+    }
+}
@@ -0,0 +1,18 @@
+package com.platform.sdk.common;
+
+/**
+ * Exception thrown without contacting the server because the endpoint's
+ * circuit breaker is open.
+ */
+public class CircuitBreakerOpenException extends ApiException {
+    private final String endpoint;
+
+    public CircuitBreakerOpenException(String endpoint) {
+        super("Circuit breaker open for " + endpoint, 0, "CIRCUIT_OPEN");
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
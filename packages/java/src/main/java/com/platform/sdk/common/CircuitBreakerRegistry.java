@@ -0,0 +1,46 @@
+package com.platform.sdk.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breakers of one runtime, keyed by endpoint template.
+ *
+ * <p>Endpoints beyond {@value #MAX_BREAKERS} distinct templates share a single
+ * overflow breaker, which bounds memory if identifiers slip through templating.
+ */
+public final class CircuitBreakerRegistry {
+    static final int MAX_BREAKERS = 1000;
+    static final String OVERFLOW = "{other}";
+
+    private final CircuitBreakerConfig config;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    CircuitBreakerRegistry(CircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the breaker for a path template such as {@code /roles/{id}}.
+     */
+    public CircuitBreaker get(String template) {
+        CircuitBreaker breaker = breakers.get(template);
+        if (breaker != null) {
+            return breaker;
+        }
+        String key = breakers.size() < MAX_BREAKERS ? template : OVERFLOW;
+        return breakers.computeIfAbsent(key, name -> new CircuitBreaker(name, config));
+    }
+
+    /**
+     * Get all breakers created so far, sorted by template.
+     */
+    public Map<String, CircuitBreaker> getAll() {
+        return new TreeMap<>(breakers);
+    }
+}
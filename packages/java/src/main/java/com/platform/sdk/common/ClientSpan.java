@@ -0,0 +1,92 @@
+package com.platform.sdk.common;
+
+/**
+ * One finished attempt, reported to a {@link Tracer}.
+ */
+public final class ClientSpan {
+    private final TraceContext context;
+    private final Endpoint endpoint;
+    private final long startMillis;
+    private final long durationNanos;
+    private final int status;
+    private final Throwable error;
+    private final long requestBytes;
+    private final long responseBytes;
+
+    ClientSpan(TraceContext context, Exchange exchange) {
+        this.context = context;
+        this.endpoint = exchange.getEndpoint();
+        this.startMillis = exchange.getStartMillis();
+        this.durationNanos = exchange.getNetworkNanos();
+        this.status = exchange.getStatus();
+        this.error = exchange.getError();
+        this.requestBytes = exchange.getRequestBytes();
+        this.responseBytes = exchange.getResponseBytes();
+    }
+
+    /**
+     * Span name, such as {@code GET /roles/{id}}.
+     */
+    public String getName() {
+        return endpoint.toString();
+    }
+
+    /**
+     * Ids of this span; its parent is the caller's span.
+     */
+    public TraceContext getContext() {
+        return context;
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Start time in epoch milliseconds.
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Time until the response headers arrived or the attempt failed.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * HTTP status, or -1 if the attempt failed without a response.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Transport failure, or null.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    public boolean isError() {
+        return error != null || status >= 500;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Response body size as announced by the server, or -1 if unknown.
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " " + context + " status=" + status + " " + durationNanos / 1000 + "us";
+    }
+}
@@ -0,0 +1,152 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+
+/**
+ * Settings for the adaptive concurrency limits.
+ *
+ * <p>Each endpoint group starts at {@code initialLimit} concurrent requests and
+ * adjusts between {@code minLimit} and {@code maxLimit} as responses arrive:
+ * <ul>
+ *   <li>{@link Algorithm#AIMD} adds one slot per successful response while the
+ *       group is busy and multiplies the limit by {@code backoffRatio} on a drop.</li>
+ *   <li>{@link Algorithm#GRADIENT} compares short-term RTT with the long-term
+ *       baseline and shrinks the limit as queueing delay builds up, before
+ *       errors appear. Drops also apply {@code backoffRatio}.</li>
+ * </ul>
+ * A drop is a transport failure, a 429 or a 5xx response. Requests over the
+ * limit wait up to {@code maxQueueWait} for a slot; with the default of zero
+ * they are rejected at once.
+ */
+public final class ConcurrencyLimitConfig {
+    /**
+     * How the limit reacts to samples.
+     */
+    public enum Algorithm {
+        AIMD, GRADIENT
+    }
+
+    private final Algorithm algorithm;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private final Duration maxQueueWait;
+
+    private ConcurrencyLimitConfig(Builder builder) {
+        this.algorithm = builder.algorithm;
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.rttTolerance = builder.rttTolerance;
+        this.maxQueueWait = builder.maxQueueWait;
+    }
+
+    public static ConcurrencyLimitConfig defaults() {
+        return new Builder().build();
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    public Duration getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    /**
+     * Builder for ConcurrencyLimitConfig.
+     */
+    public static class Builder {
+        private Algorithm algorithm = Algorithm.GRADIENT;
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private double rttTolerance = 1.5;
+        private Duration maxQueueWait = Duration.ZERO;
+
+        public Builder algorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Factor, in (0, 1), applied to the limit when a request is dropped.
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * How much slower than the baseline RTT responses may get before the
+         * gradient algorithm starts shrinking the limit.
+         */
+        public Builder rttTolerance(double rttTolerance) {
+            this.rttTolerance = rttTolerance;
+            return this;
+        }
+
+        /**
+         * Longest a request may wait for a slot. Zero rejects immediately.
+         */
+        public Builder maxQueueWait(Duration maxQueueWait) {
+            this.maxQueueWait = maxQueueWait;
+            return this;
+        }
+
+        public ConcurrencyLimitConfig build() {
+            if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+                throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+            }
+            if (rttTolerance < 1) {
+                throw new IllegalArgumentException("rttTolerance must be at least 1");
+            }
+            if (maxQueueWait.isNegative()) {
+                throw new IllegalArgumentException("maxQueueWait must not be negative");
+            }
+            return new ConcurrencyLimitConfig(this);
+        }
+    }
+}
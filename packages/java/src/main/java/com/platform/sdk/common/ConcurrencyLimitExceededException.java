@@ -0,0 +1,18 @@
+package com.platform.sdk.common;
+
+/**
+ * Exception thrown without contacting the server because the endpoint group
+ * is at its concurrency limit and no slot freed up within the queue deadline.
+ */
+public class ConcurrencyLimitExceededException extends ApiException {
+    private final String group;
+
+    public ConcurrencyLimitExceededException(String group) {
+        super("Concurrency limit reached for " + group, 0, "CONCURRENCY_LIMITED");
+        this.group = group;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+}
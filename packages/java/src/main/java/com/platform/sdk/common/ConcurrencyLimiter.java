@@ -0,0 +1,184 @@
+package com.platform.sdk.common;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive limit on in-flight requests for one endpoint group.
+ *
+ * <p>Slots are taken with a compare-and-set on the in-flight count. Requests
+ * that find the group full wait in a FIFO queue of futures; a finished request
+ * hands its slot straight to the oldest waiter that has not yet timed out.
+ */
+public final class ConcurrencyLimiter {
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+    private static final double SHORT_RTT_WEIGHT = 0.2;
+    private static final double LONG_RTT_WEIGHT = 0.01;
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final ConcurrencyLimitConfig config;
+    private final long maxQueueWaitNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+    private volatile int limit;
+
+    // Limit estimate and RTT averages, guarded by this
+    private double estimate;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    ConcurrencyLimiter(String name, ConcurrencyLimitConfig config) {
+        this.name = name;
+        this.config = config;
+        this.maxQueueWaitNanos = config.getMaxQueueWait().toNanos();
+        this.limit = config.getInitialLimit();
+        this.estimate = config.getInitialLimit();
+    }
+
+    /**
+     * Take a slot if one is free now. Every slot must be given back with
+     * {@link #onComplete(long, boolean)} or {@link #release()}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Take a slot, queueing up to the configured deadline. The future fails with
+     * {@link ConcurrencyLimitExceededException} if no slot frees up in time.
+     */
+    CompletableFuture<Void> acquireAsync() {
+        if (tryAcquire()) {
+            return ACQUIRED;
+        }
+        if (maxQueueWaitNanos == 0) {
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(name));
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        // A slot may have been released between the first attempt and enqueueing
+        if (tryAcquire() && !waiter.complete(null)) {
+            release();
+        }
+        return waiter.orTimeout(maxQueueWaitNanos, TimeUnit.NANOSECONDS).exceptionallyCompose(error -> {
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(name));
+        });
+    }
+
+    /**
+     * Give back a slot and update the limit from the request's round trip.
+     *
+     * @param dropped whether the backend failed or pushed back on the request
+     */
+    public void onComplete(long rttNanos, boolean dropped) {
+        synchronized (this) {
+            if (dropped) {
+                droppedCount.increment();
+                estimate *= config.getBackoffRatio();
+            } else if (config.getAlgorithm() == ConcurrencyLimitConfig.Algorithm.AIMD) {
+                if (inFlight.get() * 2 >= estimate) {
+                    estimate += 1;
+                }
+            } else {
+                estimate = gradient(rttNanos);
+            }
+            estimate = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), estimate));
+            limit = (int) estimate;
+        }
+        release();
+    }
+
+    /**
+     * Give back a slot without a sample, e.g. after a cancelled request.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private double gradient(long rttNanos) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        if (longRttNanos > shortRttNanos * 2) {
+            // Recovering from an incident: let the baseline catch up quickly
+            longRttNanos = shortRttNanos * 2;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, config.getRttTolerance() * longRttNanos / shortRttNanos));
+        double target = estimate * gradient + Math.sqrt(estimate);
+        if (inFlight.get() * 2 < estimate) {
+            // Not enough traffic to prove a higher limit is safe
+            target = Math.min(target, estimate);
+        }
+        return estimate * (1 - SMOOTHING) + target * SMOOTHING;
+    }
+
+    /**
+     * Hand free slots to queued waiters. Taking the slot first and then looking
+     * for a live waiter means a waiter that enqueues concurrently is never stranded.
+     */
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            if (!handOff()) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean handOff() {
+        CompletableFuture<Void> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            if (waiter.complete(null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter{" + name + ", " + inFlight.get() + "/" + limit + "}";
+    }
+}
@@ -0,0 +1,77 @@
+package com.platform.sdk.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Adaptive concurrency limiters of one runtime, one per endpoint group.
+ *
+ * <p>An endpoint group is the resource the path template belongs to, so
+ * {@code /users/{id}} and {@code /users/me} share the {@code /users} limiter,
+ * while {@code /api/users/{id}} and {@code /api/notifications} get limiters of
+ * their own.
+ */
+public final class ConcurrencyLimits {
+    static final int MAX_GROUPS = 100;
+
+    private final ConcurrencyLimitConfig config;
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    ConcurrencyLimits(ConcurrencyLimitConfig config) {
+        this.config = config;
+    }
+
+    public ConcurrencyLimitConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the limiter for an endpoint group such as {@code /users}.
+     */
+    public ConcurrencyLimiter get(String group) {
+        ConcurrencyLimiter limiter = limiters.get(group);
+        if (limiter != null) {
+            return limiter;
+        }
+        String key = limiters.size() < MAX_GROUPS ? group : CircuitBreakerRegistry.OVERFLOW;
+        return limiters.computeIfAbsent(key, name -> new ConcurrencyLimiter(name, config));
+    }
+
+    /**
+     * Get all limiters created so far, sorted by group.
+     */
+    public Map<String, ConcurrencyLimiter> getAll() {
+        return new TreeMap<>(limiters);
+    }
+
+    ConcurrencyLimiter forTemplate(String template) {
+        return get(Endpoint.groupOf(template));
+    }
+
+    /**
+     * Block until a slot in the template's group is free.
+     *
+     * @throws ConcurrencyLimitExceededException if none frees up within the queue deadline
+     */
+    ConcurrencyLimiter acquire(String template) throws ApiException {
+        ConcurrencyLimiter limiter = forTemplate(template);
+        if (limiter.tryAcquire()) {
+            return limiter;
+        }
+        CompletableFuture<Void> slot = limiter.acquireAsync();
+        try {
+            slot.get();
+            return limiter;
+        } catch (InterruptedException e) {
+            // Give the slot back if it arrives after we stopped waiting
+            slot.thenRun(limiter::release);
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting for a concurrency slot", e);
+        } catch (ExecutionException e) {
+            throw (ApiException) e.getCause();
+        }
+    }
+}
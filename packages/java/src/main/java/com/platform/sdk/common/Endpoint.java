@@ -0,0 +1,148 @@
+package com.platform.sdk.common;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An API endpoint identified by HTTP method and path template, such as
+ * {@code GET /roles/{id}}.
+ *
+ * <p>Templates are derived from concrete paths. Segments that look like
+ * identifiers become {@code {id}}: anything with digits, upper case, dots or
+ * other punctuation, very long segments, the segment after {@code slug},
+ * {@code validate} or {@code accept}, and the segment after a collection of
+ * the API such as {@code users} or {@code roles}, unless it is one of the
+ * collection's own routes ({@code /users/me}, {@code /teams/tree}, ...).
+ * Other lower-case words stay literal. The query string is dropped.
+ */
+public final class Endpoint {
+    private static final Set<String> IDENTIFIER_PREFIXES = Set.of("slug", "validate", "accept");
+    // Collections whose next segment is an item id, so ids such as usr_abc are not taken for routes
+    private static final Set<String> COLLECTIONS = Set.of(
+            "api-keys", "departments", "deliveries", "devices", "invitations", "members", "notifications",
+            "roles", "sessions", "settings", "teams", "templates", "tenants", "users", "webhooks");
+    // Fixed routes directly below a collection
+    private static final Set<String> COLLECTION_ROUTES = Set.of(
+            "accept", "bulk", "cleanup", "definitions", "devices", "me", "preferences", "read-all", "reset",
+            "revoke-all", "slug", "tree", "unread-count", "validate");
+    // POSTs that only ask the server something and change nothing a cached read returns
+    private static final Set<String> QUERY_POSTS = Set.of(
+            "/api-keys/validate", "/email/config/test", "/oauth/introspect", "/oauth/token",
+            "/permissions/check", "/tenants/{id}/sso/test");
+    private static final int MAX_LITERAL_LENGTH = 32;
+
+    private final String method;
+    private final String template;
+
+    private Endpoint(String method, String template) {
+        this.method = method;
+        this.template = template;
+    }
+
+    public static Endpoint of(String method, String path) {
+        return new Endpoint(method, templateOf(path));
+    }
+
+    /**
+     * An endpoint whose template is used as is.
+     */
+    static Endpoint ofTemplate(String method, String template) {
+        return new Endpoint(method, template);
+    }
+
+    /**
+     * Replace identifier-like path segments with {@code {id}}.
+     */
+    public static String templateOf(String path) {
+        int query = path.indexOf('?');
+        String route = query >= 0 ? path.substring(0, query) : path;
+
+        StringBuilder template = new StringBuilder(route.length());
+        String previous = "";
+        int start = 0;
+        while (start <= route.length()) {
+            int end = route.indexOf('/', start);
+            if (end < 0) {
+                end = route.length();
+            }
+            if (end > start) {
+                String segment = route.substring(start, end);
+                template.append('/').append(isIdentifier(segment, previous) ? "{id}" : segment);
+                previous = segment;
+            }
+            start = end + 1;
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    /**
+     * Resource group of a template: its first segment, or the first two for
+     * {@code /api/...} paths, so {@code /api/users/{id}} belongs to
+     * {@code /api/users}. Cache invalidation and concurrency limits use it.
+     */
+    static String groupOf(String template) {
+        int end = template.indexOf('/', 1);
+        if (end > 0 && template.startsWith("/api/")) {
+            end = template.indexOf('/', end + 1);
+        }
+        return end < 0 ? template : template.substring(0, end);
+    }
+
+    private static boolean isIdentifier(String segment, String previous) {
+        if (IDENTIFIER_PREFIXES.contains(previous) || segment.length() > MAX_LITERAL_LENGTH) {
+            return true;
+        }
+        if (COLLECTIONS.contains(previous) && !COLLECTION_ROUTES.contains(segment)) {
+            return true;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if ((c < 'a' || c > 'z') && c != '-' && c != '_') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a successful call may change what reads of its group return:
+     * any method but GET and HEAD, except POSTs that only query the server,
+     * such as {@code POST /permissions/check}.
+     */
+    public boolean isWrite() {
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return false;
+        }
+        return !("POST".equals(method) && QUERY_POSTS.contains(template));
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Endpoint)) {
+            return false;
+        }
+        Endpoint other = (Endpoint) o;
+        return method.equals(other.method) && template.equals(other.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, template);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + template;
+    }
+}
@@ -0,0 +1,158 @@
+package com.platform.sdk.common;
+
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * One attempt as seen by {@link RequestInterceptor}s: the request on its way
+ * out and, in {@link RequestInterceptor#after}, how it went.
+ *
+ * <p>An exchange is created per attempt only when interceptors are configured,
+ * and the request is only copied if an interceptor adds headers.
+ */
+public final class Exchange {
+    private final Request request;
+    private final Object[] states;
+    private final long startMillis;
+    private String[] addedHeaders;
+    private int addedCount;
+    private boolean sent;
+
+    private int status = -1;
+    private IOException error;
+    private long networkNanos;
+    private Response response;
+
+    Exchange(Request request, int interceptorCount) {
+        this.request = request;
+        this.states = new Object[interceptorCount];
+        this.startMillis = System.currentTimeMillis();
+    }
+
+    public Endpoint getEndpoint() {
+        return request.tag(Endpoint.class);
+    }
+
+    public String getMethod() {
+        return request.method();
+    }
+
+    public String getUrl() {
+        return request.url().toString();
+    }
+
+    /**
+     * Wall-clock time the attempt was started, in epoch milliseconds.
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public String getRequestHeader(String name) {
+        for (int i = addedCount - 2; i >= 0; i -= 2) {
+            if (addedHeaders[i].equalsIgnoreCase(name)) {
+                return addedHeaders[i + 1];
+            }
+        }
+        return request.header(name);
+    }
+
+    /**
+     * Set a request header. Only allowed in {@link RequestInterceptor#before}.
+     */
+    public void setRequestHeader(String name, String value) {
+        if (sent) {
+            throw new IllegalStateException("The request has already been sent");
+        }
+        if (addedHeaders == null) {
+            addedHeaders = new String[4];
+        } else if (addedCount == addedHeaders.length) {
+            addedHeaders = Arrays.copyOf(addedHeaders, addedCount * 2);
+        }
+        addedHeaders[addedCount++] = name;
+        addedHeaders[addedCount++] = value;
+    }
+
+    /**
+     * Request body size, 0 without a body, or -1 if unknown.
+     */
+    public long getRequestBytes() {
+        RequestBody body = request.body();
+        if (body == null) {
+            return 0;
+        }
+        try {
+            return body.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * HTTP status, or -1 if the attempt failed without a response.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Transport failure of the attempt, or null.
+     */
+    public IOException getError() {
+        return error;
+    }
+
+    /**
+     * Time from sending the request until its response headers arrived or it failed.
+     */
+    public long getNetworkNanos() {
+        return networkNanos;
+    }
+
+    /**
+     * Response body size as announced by the server, or -1 if unknown.
+     */
+    public long getResponseBytes() {
+        ResponseBody body = response != null ? response.body() : null;
+        return body != null ? body.contentLength() : -1;
+    }
+
+    public String getResponseHeader(String name) {
+        return response != null ? response.header(name) : null;
+    }
+
+    Object[] states() {
+        return states;
+    }
+
+    /**
+     * The request to send, with the headers the interceptors added.
+     */
+    Request prepare() {
+        sent = true;
+        if (addedCount == 0) {
+            return request;
+        }
+        Request.Builder builder = request.newBuilder();
+        for (int i = 0; i < addedCount; i += 2) {
+            builder.header(addedHeaders[i], addedHeaders[i + 1]);
+        }
+        return builder.build();
+    }
+
+    void complete(Response response, long networkNanos) {
+        this.response = response;
+        this.status = response.code();
+        this.networkNanos = networkNanos;
+    }
+
+    void fail(IOException error, long networkNanos) {
+        this.error = error;
+        this.networkNanos = networkNanos;
+    }
+}
@@ -0,0 +1,143 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+
+/**
+ * Hedging policy for GET requests.
+ *
+ * <p>When the first attempt has not answered after the endpoint's observed
+ * {@code delayPercentile} latency (clamped to {@code [minDelay, maxDelay]}), a
+ * second identical request is sent and whichever answers first wins; the other
+ * is cancelled. Until an endpoint has {@code minSamples} successful calls the
+ * delay is {@code maxDelay}.
+ *
+ * <p>Hedges draw on a per-client budget: every GET deposits {@code budgetRatio}
+ * tokens (up to {@code maxBudget}) and every hedge spends one, so hedging adds
+ * at most that fraction of extra load even when a backend is slow across the board.
+ */
+public final class HedgePolicy {
+    private static final HedgePolicy NONE = new HedgePolicy(new Builder(), false);
+
+    private final boolean enabled;
+    private final double delayPercentile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final int minSamples;
+    private final double budgetRatio;
+    private final int maxBudget;
+
+    private HedgePolicy(Builder builder, boolean enabled) {
+        this.enabled = enabled;
+        this.delayPercentile = builder.delayPercentile;
+        this.minDelay = builder.minDelay;
+        this.maxDelay = builder.maxDelay;
+        this.minSamples = builder.minSamples;
+        this.budgetRatio = builder.budgetRatio;
+        this.maxBudget = builder.maxBudget;
+    }
+
+    /**
+     * A policy that never hedges. This is the default.
+     */
+    public static HedgePolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Hedge at the p95 latency, between 10 ms and 1 s, for at most 5% extra requests.
+     */
+    public static HedgePolicy defaults() {
+        return new Builder().build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getDelayPercentile() {
+        return delayPercentile;
+    }
+
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public int getMaxBudget() {
+        return maxBudget;
+    }
+
+    /**
+     * Builder for HedgePolicy.
+     */
+    public static class Builder {
+        private double delayPercentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private int minSamples = 20;
+        private double budgetRatio = 0.05;
+        private int maxBudget = 10;
+
+        /**
+         * Latency percentile, in (0, 1), after which the hedge is sent.
+         */
+        public Builder delayPercentile(double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Upper bound on the hedge delay, also used until enough latencies are observed.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder minSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Hedge tokens earned per GET and the most a client can save up.
+         */
+        public Builder budget(double budgetRatio, int maxBudget) {
+            this.budgetRatio = budgetRatio;
+            this.maxBudget = maxBudget;
+            return this;
+        }
+
+        public HedgePolicy build() {
+            if (delayPercentile <= 0 || delayPercentile >= 1) {
+                throw new IllegalArgumentException("delayPercentile must be in (0, 1)");
+            }
+            if (minDelay.isNegative() || maxDelay.compareTo(minDelay) < 0) {
+                throw new IllegalArgumentException("delays must satisfy 0 <= minDelay <= maxDelay");
+            }
+            if (minSamples < 1) {
+                throw new IllegalArgumentException("minSamples must be at least 1");
+            }
+            if (budgetRatio < 0 || maxBudget < 0) {
+                throw new IllegalArgumentException("hedge budget must not be negative");
+            }
+            return new HedgePolicy(this, true);
+        }
+    }
+}
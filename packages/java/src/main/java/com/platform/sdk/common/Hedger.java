@@ -0,0 +1,94 @@
+package com.platform.sdk.common;
+
+import okhttp3.Request;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client hedging decisions: tracks recent GET latencies per endpoint
+ * template and the hedge budget.
+ */
+final class Hedger {
+    private static final int MAX_ENDPOINTS = 1000;
+    private static final int WINDOW_SIZE = 128;
+    private static final int REFRESH_INTERVAL = 16;
+
+    private final HedgePolicy policy;
+    private final TokenBudget budget;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    Hedger(HedgePolicy policy) {
+        this.policy = policy;
+        this.budget = new TokenBudget(policy.getBudgetRatio(), policy.getMaxBudget());
+    }
+
+    boolean isEnabled() {
+        return policy.isEnabled();
+    }
+
+    /**
+     * Credit the budget for a new GET.
+     */
+    void recordRequest() {
+        budget.deposit();
+    }
+
+    /**
+     * Milliseconds to wait for the first attempt before hedging.
+     */
+    long delayMillis(Request request) {
+        long percentile = window(request).percentileNanos;
+        long delay = percentile < 0 ? policy.getMaxDelay().toMillis() : TimeUnit.NANOSECONDS.toMillis(percentile);
+        return Math.max(policy.getMinDelay().toMillis(), Math.min(policy.getMaxDelay().toMillis(), delay));
+    }
+
+    /**
+     * Spend a budget token for a hedge, if one is available.
+     */
+    boolean tryAcquire() {
+        return budget.tryAcquire();
+    }
+
+    void recordLatency(Request request, long nanos) {
+        window(request).record(nanos);
+    }
+
+    private LatencyWindow window(Request request) {
+        String template = request.tag(Endpoint.class).getTemplate();
+        LatencyWindow window = latencies.get(template);
+        if (window != null) {
+            return window;
+        }
+        String key = latencies.size() < MAX_ENDPOINTS ? template : CircuitBreakerRegistry.OVERFLOW;
+        return latencies.computeIfAbsent(key, name -> new LatencyWindow());
+    }
+
+    /**
+     * Ring of recent latencies. The percentile is recomputed every few samples
+     * and published through a volatile, so reading it on the request path is cheap.
+     */
+    private final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int index;
+        private int count;
+        private int sinceRefresh;
+        volatile long percentileNanos = -1;
+
+        synchronized void record(long nanos) {
+            samples[index] = nanos;
+            index = (index + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            if (count >= policy.getMinSamples() && (++sinceRefresh >= REFRESH_INTERVAL || percentileNanos < 0)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                percentileNanos = sorted[(int) Math.ceil(policy.getDelayPercentile() * count) - 1];
+                sinceRefresh = 0;
+            }
+        }
+    }
+}
@@ -1,49 +1,157 @@
 package com.platform.sdk.common;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import okhttp3.*;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.time.Duration;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * HTTP client wrapper for SDK API calls.
  */
 public class HttpClient {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String NDJSON = "application/x-ndjson";
+    private static final RequestBody EMPTY_JSON_OBJECT = RequestBody.create("{}", JSON);
+    private static final ResponseHandler<Void> DISCARD = response -> null;
+
     private final OkHttpClient client;
     private final ObjectMapper objectMapper;
+    private final JsonCodecRegistry codecs;
+    private final Retrier retrier;
+    private final Hedger hedger;
+    private final CircuitBreakerRegistry breakers;
+    private final RateLimits rateLimits;
+    private final ConcurrencyLimits concurrencyLimits;
+    private final Bulkheads bulkheads;
+    private final Batcher batcher;
+    private final SingleFlight singleFlight;
+    private final ValidatorCache validatorCache;
+    private final ResponseCache responseCache;
+    private final CachePolicy cachePolicy;
+    private final MetricsRecorder metrics;
+    private final Interceptors interceptors;
+    private final boolean needsRequestKey;
     private final String baseUrl;
-    private String accessToken;
+    private volatile TokenProvider tokenProvider;
 
     public HttpClient(String baseUrl) {
         this(baseUrl, Duration.ofSeconds(30));
     }
 
     public HttpClient(String baseUrl, Duration timeout) {
+        this(baseUrl, timeout, null);
+    }
+
+    /**
+     * Create a client that shares the connection pool, dispatcher and
+     * ObjectMapper of the given runtime ({@link SdkRuntime#shared()} if null).
+     */
+    public HttpClient(String baseUrl, Duration timeout, SdkRuntime runtime) {
+        SdkRuntime resolved = runtime != null ? runtime : SdkRuntime.shared();
         this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
-                .readTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
-                .writeTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
-                .build();
-        this.objectMapper = new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.client = resolved.okHttpClient(timeout);
+        this.objectMapper = resolved.getObjectMapper();
+        this.codecs = resolved.getCodecs();
+        this.retrier = new Retrier(resolved.getRetryPolicy());
+        this.hedger = new Hedger(resolved.getHedgePolicy());
+        this.breakers = resolved.getCircuitBreakers();
+        this.rateLimits = resolved.getRateLimits();
+        this.concurrencyLimits = resolved.getConcurrencyLimits();
+        this.bulkheads = resolved.getBulkheads();
+        BatchConfig batching = resolved.getBatchConfig();
+        this.batcher = batching != null
+                ? new Batcher(batching, this.baseUrl, objectMapper, this::sendBatch) : null;
+        this.singleFlight = resolved.getSingleFlight();
+        this.validatorCache = resolved.getValidatorCache();
+        this.responseCache = resolved.getResponseCache();
+        this.cachePolicy = resolved.getCachePolicy();
+        this.metrics = resolved.getMetrics();
+        this.interceptors = Interceptors.of(resolved.getInterceptors());
+        this.needsRequestKey = singleFlight != null || validatorCache != null || responseCache != null;
     }
 
+    private HttpClient(HttpClient base, TokenProvider tokenProvider) {
+        this.baseUrl = base.baseUrl;
+        this.client = base.client;
+        this.objectMapper = base.objectMapper;
+        this.codecs = base.codecs;
+        this.retrier = base.retrier;
+        this.hedger = base.hedger;
+        this.breakers = base.breakers;
+        this.rateLimits = base.rateLimits;
+        this.concurrencyLimits = base.concurrencyLimits;
+        this.bulkheads = base.bulkheads;
+        this.batcher = base.batcher;
+        this.singleFlight = base.singleFlight;
+        this.validatorCache = base.validatorCache;
+        this.responseCache = base.responseCache;
+        this.cachePolicy = base.cachePolicy;
+        this.metrics = base.metrics;
+        this.interceptors = base.interceptors;
+        this.needsRequestKey = base.needsRequestKey;
+        this.tokenProvider = tokenProvider;
+    }
+
+    /**
+     * Use a fixed token for all subsequent requests of this client.
+     */
     public void setAccessToken(String accessToken) {
-        this.accessToken = accessToken;
+        this.tokenProvider = accessToken != null ? TokenProvider.of(accessToken) : null;
     }
 
+    /**
+     * The token the next request would carry, or null.
+     */
     public String getAccessToken() {
-        return accessToken;
+        TokenProvider provider = tokenProvider;
+        return provider != null ? provider.getAccessToken() : null;
+    }
+
+    /**
+     * Ask the given provider for the token of every subsequent request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    public TokenProvider getTokenProvider() {
+        return tokenProvider;
+    }
+
+    /**
+     * A view of this client that sends the given token. The view shares the
+     * connection pool, limits, caches and budgets of this client; creating one
+     * is cheap and leaves this client's token untouched.
+     */
+    public HttpClient withAccessToken(String accessToken) {
+        return withTokenProvider(accessToken != null ? TokenProvider.of(accessToken) : null);
+    }
+
+    /**
+     * A view of this client that takes its tokens from the given provider.
+     *
+     * @see #withAccessToken(String)
+     */
+    public HttpClient withTokenProvider(TokenProvider tokenProvider) {
+        return new HttpClient(this, tokenProvider);
     }
 
     public <T> T get(String path, Class<T> responseType) throws ApiException {
@@ -51,16 +159,7 @@ public class HttpClient {
     }
 
     public <T> T get(String path, Class<T> responseType, Map<String, String> queryParams) throws ApiException {
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl + path).newBuilder();
-        if (queryParams != null) {
-            queryParams.forEach(urlBuilder::addQueryParameter);
-        }
-
-        Request request = buildRequest(urlBuilder.build())
-                .get()
-                .build();
-
-        return execute(request, responseType);
+        return executeGet(newGetRequest(path, queryParams), jsonHandler(responseType), responseType);
     }
 
     public <T> T get(String path, TypeReference<T> typeReference) throws ApiException {
@@ -68,116 +167,1025 @@ public class HttpClient {
     }
 
     public <T> T get(String path, TypeReference<T> typeReference, Map<String, String> queryParams) throws ApiException {
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl + path).newBuilder();
-        if (queryParams != null) {
-            queryParams.forEach(urlBuilder::addQueryParameter);
-        }
+        return executeGet(newGetRequest(path, queryParams), jsonHandler(typeReference), typeReference.getType());
+    }
 
-        Request request = buildRequest(urlBuilder.build())
-                .get()
-                .build();
+    public <T> T post(String path, Object body, Class<T> responseType) throws ApiException {
+        return execute(newJsonRequest("POST", path, body), jsonHandler(responseType));
+    }
 
-        return execute(request, typeReference);
+    public <T> T put(String path, Object body, Class<T> responseType) throws ApiException {
+        return execute(newJsonRequest("PUT", path, body), jsonHandler(responseType));
     }
 
-    public <T> T post(String path, Object body, Class<T> responseType) throws ApiException {
-        Request request = buildRequest(HttpUrl.parse(baseUrl + path))
-                .post(createJsonBody(body))
-                .build();
+    public <T> T patch(String path, Object body, Class<T> responseType) throws ApiException {
+        return execute(newJsonRequest("PATCH", path, body), jsonHandler(responseType));
+    }
 
-        return execute(request, responseType);
+    public void delete(String path) throws ApiException {
+        execute(newDeleteRequest(path), DISCARD);
     }
 
-    public <T> T put(String path, Object body, Class<T> responseType) throws ApiException {
-        Request request = buildRequest(HttpUrl.parse(baseUrl + path))
-                .put(createJsonBody(body))
+    public void postVoid(String path, Object body) throws ApiException {
+        execute(newJsonRequest("POST", path, body), DISCARD);
+    }
+
+    /**
+     * Stream a listing as newline-delimited JSON, one item per line, decoding
+     * each item as it arrives instead of buffering the response. The stream
+     * holds a connection, and the endpoint's bulkhead slot if any, until it
+     * is closed or fully read; close it with try-with-resources.
+     *
+     * <p>Failures before the first item are retried like other GETs. Read
+     * failures after that surface from the stream as {@link ApiException}.
+     */
+    public <T> Stream<T> getStream(String path, Class<T> itemType, Map<String, String> queryParams)
+            throws ApiException {
+        Request request = newGetRequest(path, queryParams).newBuilder()
+                .header("Accept", NDJSON)
                 .build();
+        ObjectReader reader = codecs.reader(itemType);
+        retrier.recordRequest();
+        Bulkhead bulkhead = bulkheadFor(request);
+        for (int attempt = 1; ; attempt++) {
+            long delay;
+            acquireSlot(request, bulkhead);
+            Response response = null;
+            boolean streaming = false;
+            try {
+                response = send(request, bulkhead);
+                delay = retrier.delayAfter(request, attempt, response);
+                if (delay < 0) {
+                    handleErrorResponse(response);
+                    requireNdjson(response);
+                    Stream<T> items = NdjsonStream.of(response, reader, () -> release(bulkhead));
+                    streaming = true;
+                    return items;
+                }
+            } catch (IOException e) {
+                delay = retrier.delayAfter(request, attempt, e);
+                if (delay < 0) {
+                    throw new ApiException("Request failed: " + e.getMessage(), e);
+                }
+            } finally {
+                // Once streaming, the stream owns the response and the slot
+                if (!streaming) {
+                    if (response != null) {
+                        response.close();
+                    }
+                    release(bulkhead);
+                }
+            }
+            recordRetry(request);
+            sleepBeforeRetry(delay);
+        }
+    }
 
-        return execute(request, responseType);
+    /**
+     * Guard against servers that ignore the Accept header and answer with a
+     * regular JSON page, which would otherwise decode as a single bogus item.
+     */
+    private static void requireNdjson(Response response) throws ApiException {
+        MediaType type = response.body() != null ? response.body().contentType() : null;
+        if (type != null && !type.subtype().contains("ndjson") && !type.subtype().contains("jsonl")) {
+            throw new ApiException("Expected a newline-delimited JSON response but got " + type,
+                    response.code(), "UNEXPECTED_CONTENT_TYPE");
+        }
     }
 
-    public <T> T patch(String path, Object body, Class<T> responseType) throws ApiException {
-        Request request = buildRequest(HttpUrl.parse(baseUrl + path))
-                .patch(createJsonBody(body))
-                .build();
+    // Asynchronous variants. Calls are enqueued on the runtime's dispatcher and the
+    // returned futures complete on its threads; failures complete them with ApiException.
 
-        return execute(request, responseType);
+    public <T> CompletableFuture<T> getAsync(String path, Class<T> responseType) {
+        return getAsync(path, responseType, null);
     }
 
-    public void delete(String path) throws ApiException {
-        Request request = buildRequest(HttpUrl.parse(baseUrl + path))
-                .delete()
-                .build();
+    public <T> CompletableFuture<T> getAsync(String path, Class<T> responseType, Map<String, String> queryParams) {
+        return executeGetAsync(newGetRequest(path, queryParams), jsonHandler(responseType), responseType);
+    }
 
-        executeVoid(request);
+    public <T> CompletableFuture<T> getAsync(String path, TypeReference<T> typeReference) {
+        return getAsync(path, typeReference, null);
     }
 
-    public void postVoid(String path, Object body) throws ApiException {
-        Request request = buildRequest(HttpUrl.parse(baseUrl + path))
-                .post(createJsonBody(body))
+    public <T> CompletableFuture<T> getAsync(String path, TypeReference<T> typeReference,
+                                             Map<String, String> queryParams) {
+        return executeGetAsync(newGetRequest(path, queryParams), jsonHandler(typeReference),
+                typeReference.getType());
+    }
+
+    public <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> responseType) {
+        return sendAsync("POST", path, body, jsonHandler(responseType));
+    }
+
+    public <T> CompletableFuture<T> putAsync(String path, Object body, Class<T> responseType) {
+        return sendAsync("PUT", path, body, jsonHandler(responseType));
+    }
+
+    public <T> CompletableFuture<T> patchAsync(String path, Object body, Class<T> responseType) {
+        return sendAsync("PATCH", path, body, jsonHandler(responseType));
+    }
+
+    public CompletableFuture<Void> deleteAsync(String path) {
+        return executeAsync(newDeleteRequest(path), DISCARD);
+    }
+
+    public CompletableFuture<Void> postVoidAsync(String path, Object body) {
+        return sendAsync("POST", path, body, DISCARD);
+    }
+
+    /**
+     * Translate the ApiException an async call failed with, the way the blocking
+     * domain methods do in their catch blocks. Other failures pass through unchanged.
+     */
+    public static <T> CompletableFuture<T> mapException(CompletableFuture<T> future,
+                                                        Function<ApiException, ? extends RuntimeException> mapper) {
+        return future.exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof ApiException) {
+                return CompletableFuture.failedFuture(mapper.apply((ApiException) cause));
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    private Request newGetRequest(String path, Map<String, String> queryParams) {
+        HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl + path).newBuilder();
+        if (queryParams != null) {
+            queryParams.forEach(urlBuilder::addQueryParameter);
+        }
+
+        return buildRequest(urlBuilder.build(), "GET", path)
+                .get()
                 .build();
+    }
+
+    private Request newJsonRequest(String method, String path, Object body) throws ApiException {
+        long start = metrics != null ? System.nanoTime() : 0;
+        RequestBody json = createJsonBody(body);
+        long serializationNanos = metrics != null ? System.nanoTime() - start : 0;
+        Request.Builder builder = buildRequest(HttpUrl.parse(baseUrl + path), method, path)
+                .method(method, json);
+
+        RetryPolicy retryPolicy = retrier.getPolicy();
+        if (retryPolicy.isEnabled() && retryPolicy.isIdempotencyKeys()
+                && ("POST".equals(method) || "PATCH".equals(method))) {
+            builder.header(RetryPolicy.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString());
+        }
+        Request request = builder.build();
+        if (metrics != null) {
+            metrics.recordSerialization(request.tag(Endpoint.class), serializationNanos);
+        }
+        return request;
+    }
 
-        executeVoid(request);
+    private Request newDeleteRequest(String path) {
+        return buildRequest(HttpUrl.parse(baseUrl + path), "DELETE", path)
+                .delete()
+                .build();
     }
 
-    private Request.Builder buildRequest(HttpUrl url) {
+    private Request.Builder buildRequest(HttpUrl url, String method, String path) {
         Request.Builder builder = new Request.Builder()
                 .url(url)
+                .tag(Endpoint.class, Endpoint.of(method, path))
                 .header("Content-Type", "application/json")
                 .header("Accept", "application/json");
 
+        String accessToken = getAccessToken();
         if (accessToken != null) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (interceptors != null) {
+            // Attempts may run on other threads; take the caller's context now
+            builder.tag(Interceptors.Captured.class, interceptors.capture());
+        }
 
         return builder;
     }
 
+    /**
+     * Serialize the body as UTF-8 bytes straight into a buffer, without building
+     * an intermediate String. The buffer keeps the request replayable and lets
+     * OkHttp send a Content-Length.
+     */
     private RequestBody createJsonBody(Object body) throws ApiException {
+        if (body == null) {
+            return EMPTY_JSON_OBJECT;
+        }
+        Buffer json = new Buffer();
         try {
-            String json = body == null ? "{}" : objectMapper.writeValueAsString(body);
-            return RequestBody.create(json, MediaType.parse("application/json"));
+            codecs.writer(body.getClass()).writeValue(json.outputStream(), body);
         } catch (IOException e) {
             throw new ApiException("Failed to serialize request body", e);
         }
+        return new JsonRequestBody(json);
+    }
+
+    private <T> ResponseHandler<T> jsonHandler(Class<T> responseType) {
+        if (responseType == Void.class) {
+            return response -> null;
+        }
+        ObjectReader reader = codecs.reader(responseType);
+        return response -> readJson(response.body(), reader);
     }
 
-    private <T> T execute(Request request, Class<T> responseType) throws ApiException {
-        try (Response response = client.newCall(request).execute()) {
-            handleErrorResponse(response);
-            String body = response.body() != null ? response.body().string() : "";
-            if (body.isEmpty() || responseType == Void.class) {
+    private <T> ResponseHandler<T> jsonHandler(TypeReference<T> typeReference) {
+        ObjectReader reader = codecs.reader(typeReference);
+        return response -> readJson(response.body(), reader);
+    }
+
+    /**
+     * Deserialize directly from the response byte stream. An empty body yields null.
+     */
+    private static <T> T readJson(ResponseBody body, ObjectReader reader) throws IOException {
+        if (body == null) {
+            return null;
+        }
+        try (JsonParser parser = reader.createParser(body.byteStream())) {
+            if (parser.nextToken() == null) {
                 return null;
             }
-            return objectMapper.readValue(body, responseType);
-        } catch (IOException e) {
-            throw new ApiException("Request failed: " + e.getMessage(), e);
+            return reader.readValue(parser);
         }
     }
 
-    private <T> T execute(Request request, TypeReference<T> typeReference) throws ApiException {
-        try (Response response = client.newCall(request).execute()) {
-            handleErrorResponse(response);
-            String body = response.body() != null ? response.body().string() : "";
-            if (body.isEmpty()) {
-                return null;
+    /**
+     * Run a GET through the response cache, request coalescing and validator
+     * cache, whichever are enabled.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T executeGet(Request request, ResponseHandler<T> handler, Type resultType) throws ApiException {
+        String key = needsRequestKey ? requestKey(request, resultType) : null;
+        Duration ttl = cacheTtl(resultType);
+        if (ttl != null) {
+            ResponseCache.Entry cached = responseCache.get(key);
+            if (cached != null) {
+                refreshAheadIfDue(cached, request, handler, key, ttl);
+                return (T) cached.getValue();
             }
-            return objectMapper.readValue(body, typeReference);
-        } catch (IOException e) {
-            throw new ApiException("Request failed: " + e.getMessage(), e);
+        }
+        return coalesce(request, handler, key, ttl);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> executeGetAsync(Request request, ResponseHandler<T> handler, Type resultType) {
+        String key = needsRequestKey ? requestKey(request, resultType) : null;
+        Duration ttl = cacheTtl(resultType);
+        if (ttl != null) {
+            ResponseCache.Entry cached = responseCache.get(key);
+            if (cached != null) {
+                refreshAheadIfDue(cached, request, handler, key, ttl);
+                return CompletableFuture.completedFuture((T) cached.getValue());
+            }
+        }
+        return coalesceAsync(request, handler, key, ttl);
+    }
+
+    /**
+     * Identify a GET by URL, credentials and result type.
+     */
+    private static String requestKey(Request request, Type resultType) {
+        String authorization = request.header("Authorization");
+        return request.url() + "\n" + (authorization != null ? authorization : "") + "\n" + resultType.getTypeName();
+    }
+
+    /**
+     * Time-to-live for caching results of this type, or null if they are not cached.
+     */
+    private Duration cacheTtl(Type resultType) {
+        if (responseCache == null) {
+            return null;
+        }
+        Duration ttl = cachePolicy.ttlFor(resultType);
+        return ttl.isZero() ? null : ttl;
+    }
+
+    private <T> void refreshAheadIfDue(ResponseCache.Entry cached, Request request, ResponseHandler<T> handler,
+                                       String key, Duration ttl) {
+        if (cached.claimRefresh(System.nanoTime())) {
+            // The caching handler stores the result; on failure the entry simply expires
+            coalesceAsync(request, handler, key, ttl);
+        }
+    }
+
+    /**
+     * Join an identical GET already in flight if coalescing is on. The first
+     * caller performs the request on its own thread.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(Request request, ResponseHandler<T> handler, String key, Duration ttl) throws ApiException {
+        if (singleFlight == null) {
+            return fetch(request, handler, key, ttl);
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = singleFlight.join(key, flight);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+        try {
+            T result = fetch(request, handler, key, ttl);
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too: waiters block on the flight without a timeout
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            singleFlight.land(key, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> coalesceAsync(Request request, ResponseHandler<T> handler, String key,
+                                                   Duration ttl) {
+        if (singleFlight == null) {
+            return fetchAsync(request, handler, key, ttl);
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = singleFlight.join(key, flight);
+        if (existing == null) {
+            fetchAsync(request, handler, key, ttl).whenComplete((result, error) -> {
+                singleFlight.land(key, flight);
+                if (error != null) {
+                    flight.completeExceptionally(error);
+                } else {
+                    flight.complete(result);
+                }
+            });
+            existing = flight;
+        }
+        // Each caller gets its own stage, so cancelling it leaves the shared call running
+        return existing.thenApply(result -> (T) result);
+    }
+
+    private <T> T fetch(Request request, ResponseHandler<T> handler, String key, Duration ttl) throws ApiException {
+        ValidatorCache.Entry validated = validatorCache != null ? validatorCache.get(key) : null;
+        request = conditional(request, validated);
+        handler = caching(request, key, ttl, validated, handler);
+        return hedger.isEnabled() ? await(executeHedged(request, handler)) : execute(request, handler);
+    }
+
+    private <T> CompletableFuture<T> fetchAsync(Request request, ResponseHandler<T> handler, String key,
+                                                Duration ttl) {
+        ValidatorCache.Entry validated = validatorCache != null ? validatorCache.get(key) : null;
+        request = conditional(request, validated);
+        handler = caching(request, key, ttl, validated, handler);
+        return hedger.isEnabled() ? executeHedged(request, handler) : executeAsync(request, handler);
+    }
+
+    private static Request conditional(Request request, ValidatorCache.Entry validated) {
+        if (validated == null) {
+            return request;
+        }
+        Request.Builder builder = request.newBuilder();
+        if (validated.etag != null) {
+            builder.header("If-None-Match", validated.etag);
+        }
+        if (validated.lastModified != null) {
+            builder.header("If-Modified-Since", validated.lastModified);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Wrap the handler so that 304 responses are served from the validator
+     * cache and results are stored in the validator and response caches.
+     * Called before the request is sent, so the entry carries the group's
+     * generation from before any write that overlaps the read.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> ResponseHandler<T> caching(Request request, String key, Duration ttl,
+                                           ValidatorCache.Entry validated, ResponseHandler<T> handler) {
+        if (validatorCache == null && ttl == null) {
+            return handler;
+        }
+        String group = Endpoint.groupOf(request.tag(Endpoint.class).getTemplate());
+        long generation = ttl != null ? responseCache.generation(group) : 0;
+        return response -> {
+            T value;
+            long weight;
+            if (response.code() == 304 && validated != null) {
+                validatorCache.recordNotModified();
+                value = (T) validated.value;
+                weight = validated.weight;
+            } else {
+                weight = weigh(response);
+                value = handler.handle(response);
+                if (validatorCache != null) {
+                    validatorCache.store(key, response, value, weight);
+                }
+            }
+            if (ttl != null && value != null) {
+                long now = System.nanoTime();
+                long ttlNanos = ttl.toNanos();
+                long refreshNanos = cachePolicy.getRefreshAhead() > 0
+                        ? (long) (ttlNanos * cachePolicy.getRefreshAhead()) : ttlNanos;
+                responseCache.put(key,
+                        new ResponseCache.Entry(value, weight, group, generation, now + ttlNanos, now + refreshNanos));
+            }
+            return value;
+        };
+    }
+
+    /**
+     * The body's size in bytes, from Content-Length when the server sent it.
+     * Otherwise the body is read into memory, which the parser would do
+     * anyway, and measured there.
+     */
+    private static long weigh(Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return 0;
+        }
+        long length = body.contentLength();
+        if (length >= 0) {
+            return length;
+        }
+        BufferedSource source = body.source();
+        source.request(Long.MAX_VALUE);
+        return source.getBuffer().size();
+    }
+
+    /**
+     * Drop cached reads of the resource a successful write touched.
+     */
+    private void invalidateAfterWrite(Request request) {
+        Endpoint endpoint = request.tag(Endpoint.class);
+        if (responseCache != null && endpoint.isWrite()) {
+            responseCache.invalidateGroup(Endpoint.groupOf(endpoint.getTemplate()));
+        }
+    }
+
+    /**
+     * Send the request, and send it again if the first copy is slower than the
+     * endpoint usually is. The first copy to succeed wins and the other is
+     * cancelled; a failure only wins if no other copy is still running.
+     */
+    private <T> CompletableFuture<T> executeHedged(Request request, ResponseHandler<T> handler) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger running = new AtomicInteger(1);
+        hedger.recordRequest();
+
+        CompletableFuture<T> primary = executeAsync(request, handler);
+        race(request, primary, true, result, running, System.nanoTime());
+        result.whenComplete((value, error) -> primary.cancel(false));
+
+        CompletableFuture.delayedExecutor(hedger.delayMillis(request), TimeUnit.MILLISECONDS).execute(() -> {
+            if (result.isDone() || !hedger.tryAcquire()) {
+                return;
+            }
+            running.incrementAndGet();
+            CompletableFuture<T> hedge = executeAsync(request, handler);
+            race(request, hedge, false, result, running, System.nanoTime());
+            result.whenComplete((value, error) -> hedge.cancel(false));
+        });
+        return result;
+    }
+
+    private <T> void race(Request request, CompletableFuture<T> copy, boolean primary, CompletableFuture<T> result,
+                          AtomicInteger running, long start) {
+        copy.whenComplete((value, error) -> {
+            boolean last = running.decrementAndGet() == 0;
+            if (error == null) {
+                hedger.recordLatency(request, System.nanoTime() - start);
+                result.complete(value);
+            } else if (copy.isCancelled()) {
+                if (primary && result.isDone() && !result.isCompletedExceptionally()) {
+                    // Lost to the hedge: the endpoint took at least this long, and
+                    // leaving it out would pull the hedge delay down after every win
+                    hedger.recordLatency(request, System.nanoTime() - start);
+                }
+            } else if (last) {
+                result.completeExceptionally(error);
+            }
+        });
+    }
+
+    /**
+     * Block on an async call from a synchronous method, rethrowing its ApiException.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws ApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting for response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ApiException("Request failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private <T> T execute(Request request, ResponseHandler<T> handler) throws ApiException {
+        if (batcher != null && batcher.covers(request)) {
+            return await(executeBatched(request, handler));
+        }
+        retrier.recordRequest();
+        Bulkhead bulkhead = bulkheadFor(request);
+        for (int attempt = 1; ; attempt++) {
+            long delay;
+            acquireSlot(request, bulkhead);
+            try (Response response = send(request, bulkhead)) {
+                delay = retrier.delayAfter(request, attempt, response);
+                if (delay < 0) {
+                    handleErrorResponse(response);
+                    invalidateAfterWrite(request);
+                    return handle(request, handler, response);
+                }
+            } catch (IOException e) {
+                delay = retrier.delayAfter(request, attempt, e);
+                if (delay < 0) {
+                    throw new ApiException("Request failed: " + e.getMessage(), e);
+                }
+            } finally {
+                // The slot covers reading the response, which the try above closed
+                release(bulkhead);
+            }
+            recordRetry(request);
+            sleepBeforeRetry(delay);
         }
     }
 
-    private void executeVoid(Request request) throws ApiException {
-        try (Response response = client.newCall(request).execute()) {
-            handleErrorResponse(response);
+    /**
+     * Wait for the rate limits, then for the bulkhead slot, so a caller that is
+     * only waiting for its permit does not hold a slot others could send on.
+     */
+    private void acquireSlot(Request request, Bulkhead bulkhead) throws ApiException {
+        if (rateLimits != null) {
+            rateLimits.acquire(request.tag(Endpoint.class).getTemplate());
+        }
+        if (bulkhead != null) {
+            try {
+                bulkhead.acquire();
+            } catch (ApiException e) {
+                refundRateLimits(request);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Send one attempt, admitted by the concurrency limit, guarded by the
+     * endpoint's circuit breaker and wrapped by the interceptors. The caller
+     * holds the rate limit permit and the bulkhead slot, if any.
+     */
+    private Response send(Request request, Bulkhead bulkhead) throws IOException {
+        String template = request.tag(Endpoint.class).getTemplate();
+        ConcurrencyLimiter limiter;
+        CircuitBreaker breaker;
+        try {
+            limiter = concurrencyLimits != null ? concurrencyLimits.acquire(template) : null;
+        } catch (ApiException e) {
+            refundRateLimits(request);
+            throw e;
+        }
+        try {
+            breaker = acquireBreaker(request);
+        } catch (CircuitBreakerOpenException e) {
+            if (limiter != null) {
+                limiter.release();
+            }
+            // The attempt never went out, so it should not cost quota
+            refundRateLimits(request);
+            throw e;
+        }
+        Exchange exchange;
+        Request sent;
+        try {
+            exchange = interceptors != null ? interceptors.before(request) : null;
+            sent = exchange != null ? exchange.prepare() : request;
+        } catch (Throwable e) {
+            abandonAttempt(breaker, limiter);
+            throw e;
+        }
+        long start = System.nanoTime();
+        try {
+            Response response = transport(bulkhead).newCall(sent).execute();
+            long elapsed = System.nanoTime() - start;
+            onAttemptComplete(request, breaker, limiter, elapsed, response.code());
+            if (exchange != null) {
+                exchange.complete(response, elapsed);
+                try {
+                    interceptors.after(exchange);
+                } catch (Throwable e) {
+                    // The caller never gets the response, so nobody else would close it
+                    response.close();
+                    throw e;
+                }
+            }
+            return response;
         } catch (IOException e) {
-            throw new ApiException("Request failed: " + e.getMessage(), e);
+            long elapsed = System.nanoTime() - start;
+            onAttemptComplete(request, breaker, limiter, elapsed, -1);
+            if (exchange != null) {
+                exchange.fail(e, elapsed);
+                interceptors.after(exchange);
+            }
+            throw e;
         }
     }
 
+    /**
+     * The bulkhead of the request's endpoint, or null if it has none.
+     */
+    private Bulkhead bulkheadFor(Request request) {
+        return bulkheads != null ? bulkheads.forTemplate(request.tag(Endpoint.class).getTemplate()) : null;
+    }
+
+    /**
+     * The OkHttp client to send on: the bulkhead's own dispatcher and pool, or the runtime's.
+     */
+    private OkHttpClient transport(Bulkhead bulkhead) {
+        return bulkhead != null ? bulkhead.client(client) : client;
+    }
+
+    /**
+     * Give back the rate limit permits of an attempt that was turned away before it went out.
+     */
+    private void refundRateLimits(Request request) {
+        if (rateLimits != null) {
+            rateLimits.cancel(request.tag(Endpoint.class).getTemplate());
+        }
+    }
+
+    private static void release(Bulkhead bulkhead) {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Report an attempt's outcome to its breaker, concurrency limiter and metrics.
+     * A status of -1 means the attempt failed without a response.
+     */
+    private void onAttemptComplete(Request request, CircuitBreaker breaker, ConcurrencyLimiter limiter, long nanos,
+                                   int status) {
+        if (metrics != null) {
+            metrics.recordAttempt(request.tag(Endpoint.class), status, nanos);
+        }
+        if (breaker != null) {
+            breaker.onResult(nanos, status >= 0 && status < 500);
+        }
+        if (limiter != null) {
+            limiter.onComplete(nanos, status < 0 || status == 429 || status >= 500);
+        }
+    }
+
+    /**
+     * Give back the breaker permit and concurrency slot of an attempt that was
+     * never sent, without recording an outcome.
+     */
+    private static void abandonAttempt(CircuitBreaker breaker, ConcurrencyLimiter limiter) {
+        if (breaker != null) {
+            breaker.onIgnored();
+        }
+        if (limiter != null) {
+            limiter.release();
+        }
+    }
+
+    /**
+     * Get the breaker for the request's endpoint, or null if breakers are disabled.
+     *
+     * @throws CircuitBreakerOpenException if the breaker rejects the call
+     */
+    private CircuitBreaker acquireBreaker(Request request) throws CircuitBreakerOpenException {
+        if (breakers == null) {
+            return null;
+        }
+        String template = request.tag(Endpoint.class).getTemplate();
+        CircuitBreaker breaker = breakers.get(template);
+        if (!breaker.tryAcquire()) {
+            throw new CircuitBreakerOpenException(template);
+        }
+        return breaker;
+    }
+
+    /**
+     * Run the response handler, timing it when metrics are enabled.
+     */
+    private <T> T handle(Request request, ResponseHandler<T> handler, Response response) throws IOException {
+        if (metrics == null) {
+            return handler.handle(response);
+        }
+        long start = System.nanoTime();
+        T result = handler.handle(response);
+        metrics.recordDeserialization(request.tag(Endpoint.class), System.nanoTime() - start);
+        return result;
+    }
+
+    private void recordRetry(Request request) {
+        if (metrics != null) {
+            metrics.recordRetry(request.tag(Endpoint.class));
+        }
+    }
+
+    private static void sleepBeforeRetry(long delayMillis) throws ApiException {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String method, String path, Object body, ResponseHandler<T> handler) {
+        Request request;
+        try {
+            request = newJsonRequest(method, path, body);
+        } catch (ApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return executeAsync(request, handler);
+    }
+
+    private <T> CompletableFuture<T> executeAsync(Request request, ResponseHandler<T> handler) {
+        if (batcher != null && batcher.covers(request)) {
+            return executeBatched(request, handler);
+        }
+        retrier.recordRequest();
+        return sendAsync(request, handler);
+    }
+
+    /**
+     * Start the first attempt without crediting the retry budget, which the
+     * caller has done for the logical call already.
+     */
+    private <T> CompletableFuture<T> sendAsync(Request request, ResponseHandler<T> handler) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        paceAsync(request, handler, future, 1);
+        return future;
+    }
+
+    /**
+     * Reserve the rate limit permits and wait for them without blocking a
+     * thread, then go on to the bulkhead.
+     */
+    private <T> void paceAsync(Request request, ResponseHandler<T> handler, CompletableFuture<T> future,
+                               int attempt) {
+        if (future.isDone()) {
+            return;
+        }
+        long wait = 0;
+        if (rateLimits != null) {
+            try {
+                wait = rateLimits.reserveNanos(request.tag(Endpoint.class).getTemplate());
+            } catch (RateLimitExceededException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+        }
+        if (wait > 0) {
+            CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS)
+                    .execute(() -> attemptAsync(request, handler, future, attempt));
+        } else {
+            attemptAsync(request, handler, future, attempt);
+        }
+    }
+
+    /**
+     * Wait for a bulkhead slot without blocking a thread, then go on to the
+     * concurrency limit. The slot is held until the attempt's response was handled.
+     */
+    private <T> void attemptAsync(Request request, ResponseHandler<T> handler, CompletableFuture<T> future,
+                                  int attempt) {
+        Bulkhead bulkhead = bulkheadFor(request);
+        if (bulkhead == null) {
+            admitAsync(request, handler, future, attempt, null);
+            return;
+        }
+        bulkhead.acquireAsync().whenComplete((slot, error) -> {
+            if (error != null) {
+                refundRateLimits(request);
+                future.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else if (future.isDone()) {
+                refundRateLimits(request);
+                bulkhead.release();
+            } else {
+                admitAsync(request, handler, future, attempt, bulkhead);
+            }
+        });
+    }
+
+    /**
+     * Wait for a concurrency slot without blocking a thread, then send.
+     */
+    private <T> void admitAsync(Request request, ResponseHandler<T> handler, CompletableFuture<T> future,
+                                int attempt, Bulkhead bulkhead) {
+        if (concurrencyLimits == null) {
+            callAsync(request, handler, future, attempt, null, bulkhead);
+            return;
+        }
+        ConcurrencyLimiter limiter = concurrencyLimits.forTemplate(request.tag(Endpoint.class).getTemplate());
+        limiter.acquireAsync().whenComplete((slot, error) -> {
+            if (error != null) {
+                refundRateLimits(request);
+                release(bulkhead);
+                future.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else if (future.isDone()) {
+                refundRateLimits(request);
+                limiter.release();
+                release(bulkhead);
+            } else {
+                callAsync(request, handler, future, attempt, limiter, bulkhead);
+            }
+        });
+    }
+
+    private <T> void callAsync(Request request, ResponseHandler<T> handler, CompletableFuture<T> future,
+                               int attempt, ConcurrencyLimiter limiter, Bulkhead bulkhead) {
+        if (future.isDone()) {
+            refundRateLimits(request);
+            if (limiter != null) {
+                limiter.release();
+            }
+            release(bulkhead);
+            return;
+        }
+        CircuitBreaker breaker;
+        try {
+            breaker = acquireBreaker(request);
+        } catch (CircuitBreakerOpenException e) {
+            refundRateLimits(request);
+            if (limiter != null) {
+                limiter.release();
+            }
+            release(bulkhead);
+            future.completeExceptionally(e);
+            return;
+        }
+        Exchange exchange;
+        Call call;
+        try {
+            exchange = interceptors != null ? interceptors.before(request) : null;
+            call = transport(bulkhead).newCall(exchange != null ? exchange.prepare() : request);
+        } catch (Throwable e) {
+            // An interceptor threw before the attempt went out
+            abandonAttempt(breaker, limiter);
+            release(bulkhead);
+            future.completeExceptionally(e);
+            return;
+        }
+        long start = System.nanoTime();
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                long elapsed = System.nanoTime() - start;
+                if (call.isCanceled()) {
+                    // A cancelled call says nothing about the backend's health
+                    abandonAttempt(breaker, limiter);
+                } else {
+                    onAttemptComplete(request, breaker, limiter, elapsed, -1);
+                }
+                Throwable failure = null;
+                if (exchange != null) {
+                    exchange.fail(e, elapsed);
+                    try {
+                        interceptors.after(exchange);
+                    } catch (Throwable error) {
+                        failure = error;
+                    }
+                }
+                release(bulkhead);
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                    return;
+                }
+                long delay = call.isCanceled() ? -1 : retrier.delayAfter(request, attempt, e);
+                if (delay >= 0) {
+                    retryAsync(request, handler, future, attempt, delay);
+                    return;
+                }
+                future.completeExceptionally(new ApiException("Request failed: " + e.getMessage(), e));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                long elapsed = System.nanoTime() - start;
+                onAttemptComplete(request, breaker, limiter, elapsed, response.code());
+                long delay = -1;
+                T result = null;
+                Throwable failure = null;
+                try (response) {
+                    if (exchange != null) {
+                        exchange.complete(response, elapsed);
+                        interceptors.after(exchange);
+                    }
+                    delay = retrier.delayAfter(request, attempt, response);
+                    if (delay < 0) {
+                        handleErrorResponse(response);
+                        invalidateAfterWrite(request);
+                        result = handle(request, handler, response);
+                    }
+                } catch (IOException e) {
+                    failure = new ApiException("Request failed: " + e.getMessage(), e);
+                } catch (Throwable e) {
+                    failure = e;
+                }
+                // Free the slot before the caller or the retry can ask for it again
+                release(bulkhead);
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else if (delay >= 0) {
+                    retryAsync(request, handler, future, attempt, delay);
+                } else {
+                    future.complete(result);
+                }
+            }
+        });
+    }
+
+    /**
+     * Send the request as part of a batch and handle its share of the batch
+     * response like a response of its own, including retries of retryable
+     * statuses in a later batch.
+     */
+    private <T> CompletableFuture<T> executeBatched(Request request, ResponseHandler<T> handler) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        retrier.recordRequest();
+        submitBatched(request, handler, future, 1);
+        return future;
+    }
+
+    private <T> void submitBatched(Request request, ResponseHandler<T> handler, CompletableFuture<T> future,
+                                   int attempt) {
+        CompletableFuture<Response> item = batcher.submit(request);
+        // A call cancelled while its batch is still waiting is left out of it
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                item.cancel(false);
+            }
+        });
+        item.whenComplete((response, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+            long delay = -1;
+            T result = null;
+            Throwable failure = null;
+            try (response) {
+                delay = retrier.delayAfter(request, attempt, response);
+                if (delay < 0) {
+                    handleErrorResponse(response);
+                    invalidateAfterWrite(request);
+                    result = handle(request, handler, response);
+                }
+            } catch (IOException e) {
+                failure = new ApiException("Request failed: " + e.getMessage(), e);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else if (delay >= 0) {
+                recordRetry(request);
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS)
+                        .execute(() -> submitBatched(request, handler, future, attempt + 1));
+            } else {
+                future.complete(result);
+            }
+        });
+    }
+
+    /**
+     * Post a batch body under the given Authorization header. The batch
+     * request itself is retried, limited, isolated, measured and traced like
+     * any other call to the batch endpoint; the endpoints of the calls in it
+     * are not consulted. The calls credited the retry budget already.
+     */
+    private CompletableFuture<JsonNode> sendBatch(String authorization, RequestBody body) {
+        String path = batcher.getPath();
+        Request.Builder builder = buildRequest(HttpUrl.parse(baseUrl + path), "POST", path)
+                .post(body)
+                .removeHeader("Authorization");
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return sendAsync(builder.build(), jsonHandler(JsonNode.class));
+    }
+
+    private <T> void retryAsync(Request request, ResponseHandler<T> handler, CompletableFuture<T> future,
+                                int attempt, long delayMillis) {
+        recordRetry(request);
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS)
+                .execute(() -> paceAsync(request, handler, future, attempt + 1));
+    }
+
     private void handleErrorResponse(Response response) throws ApiException {
-        if (!response.isSuccessful()) {
+        if (!response.isSuccessful() && !isNotModified(response)) {
             String errorBody = "";
             try {
                 if (response.body() != null) {
@@ -201,7 +1209,56 @@ public class HttpClient {
         }
     }
 
+    /**
+     * Whether this is a 304 answer to a conditional request we sent.
+     */
+    private static boolean isNotModified(Response response) {
+        return response.code() == 304 && (response.request().header("If-None-Match") != null
+                || response.request().header("If-Modified-Since") != null);
+    }
+
     public ObjectMapper getObjectMapper() {
         return objectMapper;
     }
+
+    public JsonCodecRegistry getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * JSON request body backed by an already serialized buffer. Writing shares the
+     * buffer's segments with the sink instead of copying bytes, so the body can be
+     * written again if OkHttp retries the call.
+     */
+    private static final class JsonRequestBody extends RequestBody {
+        private final Buffer json;
+
+        JsonRequestBody(Buffer json) {
+            this.json = json;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return JSON;
+        }
+
+        @Override
+        public long contentLength() {
+            return json.size();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            json.copyTo(sink.getBuffer(), 0, json.size());
+            sink.emitCompleteSegments();
+        }
+    }
+
+    /**
+     * Reads a successful response into the caller's result type.
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(Response response) throws IOException;
+    }
 }
@@ -0,0 +1,148 @@
+package com.platform.sdk.common;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Metrics recorder that keeps a latency histogram per endpoint template and
+ * status class, plus serialization and deserialization histograms, retry
+ * counts and body bytes per endpoint. Read them with {@link #snapshot()} or
+ * expose them through {@link JmxMetrics}.
+ *
+ * <pre>{@code
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * SdkRuntime runtime = new SdkRuntime.Builder()
+ *     .metrics(metrics)
+ *     .build();
+ *
+ * metrics.snapshot().getEndpoints().forEach(System.out::println);
+ * }</pre>
+ *
+ * <p>Histograms are created on first use. Endpoints beyond
+ * {@value #MAX_ENDPOINTS} distinct templates share one {@code {other}} entry
+ * per method.
+ */
+public final class InMemoryMetrics implements MetricsRecorder {
+    static final int MAX_ENDPOINTS = 1000;
+    static final String[] STATUS_CLASSES = {"io_error", "1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final int SERIALIZATION = STATUS_CLASSES.length;
+    private static final int DESERIALIZATION = SERIALIZATION + 1;
+
+    private final ConcurrentHashMap<Endpoint, EndpointRecorder> endpoints = new ConcurrentHashMap<>();
+    private volatile Supplier<PoolStats> pool;
+
+    @Override
+    public void recordAttempt(Endpoint endpoint, int status, long networkNanos) {
+        recorder(endpoint).histogram(statusIndex(status)).record(networkNanos);
+    }
+
+    @Override
+    public void recordRetry(Endpoint endpoint) {
+        recorder(endpoint).retries.increment();
+    }
+
+    @Override
+    public void recordBytes(Endpoint endpoint, long sent, long received) {
+        EndpointRecorder recorder = recorder(endpoint);
+        if (sent > 0) {
+            recorder.bytesSent.add(sent);
+        }
+        if (received > 0) {
+            recorder.bytesReceived.add(received);
+        }
+    }
+
+    @Override
+    public void recordSerialization(Endpoint endpoint, long nanos) {
+        recorder(endpoint).histogram(SERIALIZATION).record(nanos);
+    }
+
+    @Override
+    public void recordDeserialization(Endpoint endpoint, long nanos) {
+        recorder(endpoint).histogram(DESERIALIZATION).record(nanos);
+    }
+
+    @Override
+    public void bindPool(Supplier<PoolStats> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Copy the current measurements, endpoints with the most network time first.
+     */
+    public MetricsSnapshot snapshot() {
+        List<MetricsSnapshot.EndpointMetrics> result = new ArrayList<>(endpoints.size());
+        endpoints.forEach((endpoint, recorder) -> result.add(recorder.snapshot(endpoint)));
+        result.sort((a, b) -> Long.compare(b.getTotalNetworkMicros(), a.getTotalNetworkMicros()));
+        return new MetricsSnapshot(result, getPoolStats());
+    }
+
+    /**
+     * Current pool gauges, or null if the recorder is not attached to a runtime.
+     */
+    public PoolStats getPoolStats() {
+        Supplier<PoolStats> source = pool;
+        return source != null ? source.get() : null;
+    }
+
+    /**
+     * Drop all measurements.
+     */
+    public void clear() {
+        endpoints.clear();
+    }
+
+    private EndpointRecorder recorder(Endpoint endpoint) {
+        EndpointRecorder recorder = endpoints.get(endpoint);
+        if (recorder != null) {
+            return recorder;
+        }
+        Endpoint key = endpoints.size() < MAX_ENDPOINTS
+                ? endpoint : Endpoint.ofTemplate(endpoint.getMethod(), CircuitBreakerRegistry.OVERFLOW);
+        return endpoints.computeIfAbsent(key, k -> new EndpointRecorder());
+    }
+
+    static int statusIndex(int status) {
+        return status < 0 ? 0 : Math.max(1, Math.min(5, status / 100));
+    }
+
+    private static final class EndpointRecorder {
+        final AtomicReferenceArray<LatencyHistogram> histograms =
+                new AtomicReferenceArray<>(DESERIALIZATION + 1);
+        final LongAdder retries = new LongAdder();
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+
+        LatencyHistogram histogram(int index) {
+            LatencyHistogram histogram = histograms.get(index);
+            if (histogram == null) {
+                histograms.compareAndSet(index, null, new LatencyHistogram());
+                histogram = histograms.get(index);
+            }
+            return histogram;
+        }
+
+        MetricsSnapshot.EndpointMetrics snapshot(Endpoint endpoint) {
+            Map<String, LatencyHistogram.Snapshot> byStatus = new LinkedHashMap<>();
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                LatencyHistogram histogram = histograms.get(i);
+                if (histogram != null) {
+                    byStatus.put(STATUS_CLASSES[i], histogram.snapshot());
+                }
+            }
+            return new MetricsSnapshot.EndpointMetrics(endpoint, byStatus, snapshotOf(SERIALIZATION),
+                    snapshotOf(DESERIALIZATION), retries.sum(), bytesSent.sum(), bytesReceived.sum());
+        }
+
+        private LatencyHistogram.Snapshot snapshotOf(int index) {
+            LatencyHistogram histogram = histograms.get(index);
+            return histogram != null ? histogram.snapshot() : LatencyHistogram.Snapshot.EMPTY;
+        }
+    }
+}
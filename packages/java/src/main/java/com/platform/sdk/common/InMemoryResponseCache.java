@@ -0,0 +1,304 @@
+package com.platform.sdk.common;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded in-memory {@link ResponseCache}.
+ *
+ * <p>Entries are weighed by the size of the response body they were parsed
+ * from, and the cache holds at most {@code maxWeight} bytes. Two eviction
+ * policies are available:
+ * <ul>
+ *   <li>{@link Eviction#LRU} evicts the least recently used entries.</li>
+ *   <li>{@link Eviction#W_TINY_LFU} (the default) admits new entries through a
+ *       small LRU window. When the window overflows, its oldest entry only
+ *       displaces the main area's least recently used entry if it has been
+ *       requested more often, as estimated by a count-min sketch. One-off reads,
+ *       such as a scan over all users, then cannot flush the hot set.</li>
+ * </ul>
+ * Operations take a single lock; they are short and allocation-free on hits.
+ */
+public final class InMemoryResponseCache implements ResponseCache {
+    /**
+     * How entries are chosen for eviction.
+     */
+    public enum Eviction {
+        LRU, W_TINY_LFU
+    }
+
+    private static final int WINDOW_PERCENT = 1;
+
+    private final long maxWeight;
+    private final Eviction eviction;
+    private final long maxWindowWeight;
+    private final FrequencySketch sketch;
+
+    // Access-ordered; the window is only used by W_TINY_LFU. Guarded by this.
+    private final LinkedHashMap<String, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> generations = new HashMap<>();
+    private long windowWeight;
+    private long mainWeight;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+
+    private InMemoryResponseCache(Builder builder) {
+        this.maxWeight = builder.maxWeight;
+        this.eviction = builder.eviction;
+        this.maxWindowWeight = Math.max(1, maxWeight * WINDOW_PERCENT / 100);
+        this.sketch = eviction == Eviction.W_TINY_LFU ? new FrequencySketch(builder.expectedEntries) : null;
+    }
+
+    @Override
+    public synchronized Entry get(String key) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        Entry entry = window.get(key);
+        if (entry == null) {
+            entry = main.get(key);
+        }
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            remove(key);
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry;
+    }
+
+    @Override
+    public synchronized void put(String key, Entry entry) {
+        if (entry.getGeneration() < generation(entry.getGroup())) {
+            return;
+        }
+        remove(key);
+        if (entry.getWeight() > maxWeight) {
+            return;
+        }
+        if (eviction == Eviction.LRU) {
+            main.put(key, entry);
+            mainWeight += entry.getWeight();
+            while (mainWeight > maxWeight) {
+                evictEldest(main);
+            }
+            return;
+        }
+        window.put(key, entry);
+        windowWeight += entry.getWeight();
+        while (windowWeight > maxWindowWeight) {
+            Map.Entry<String, Entry> candidate = window.entrySet().iterator().next();
+            window.remove(candidate.getKey());
+            windowWeight -= candidate.getValue().getWeight();
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    /**
+     * Move a window entry into the main area if it is used more often than
+     * the entries it would displace.
+     */
+    private void admit(String key, Entry candidate) {
+        int candidateFrequency = sketch.frequency(key);
+        while (windowWeight + mainWeight + candidate.getWeight() > maxWeight && !main.isEmpty()) {
+            Map.Entry<String, Entry> victim = main.entrySet().iterator().next();
+            if (candidateFrequency <= sketch.frequency(victim.getKey())) {
+                evictionCount++;
+                return;
+            }
+            evictEldest(main);
+        }
+        main.put(key, candidate);
+        mainWeight += candidate.getWeight();
+    }
+
+    private void evictEldest(LinkedHashMap<String, Entry> area) {
+        Iterator<Entry> eldest = area.values().iterator();
+        long weight = eldest.next().getWeight();
+        eldest.remove();
+        if (area == main) {
+            mainWeight -= weight;
+        } else {
+            windowWeight -= weight;
+        }
+        evictionCount++;
+    }
+
+    private void remove(String key) {
+        Entry removed = window.remove(key);
+        if (removed != null) {
+            windowWeight -= removed.getWeight();
+        }
+        removed = main.remove(key);
+        if (removed != null) {
+            mainWeight -= removed.getWeight();
+        }
+    }
+
+    @Override
+    public synchronized void invalidateGroup(String group) {
+        generations.merge(group, 1L, Long::sum);
+        invalidationCount += invalidate(window, group) + invalidate(main, group);
+    }
+
+    @Override
+    public synchronized long generation(String group) {
+        return generations.getOrDefault(group, 0L);
+    }
+
+    private int invalidate(LinkedHashMap<String, Entry> area, String group) {
+        int removed = 0;
+        for (Iterator<Entry> it = area.values().iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (group.equals(entry.getGroup())) {
+                it.remove();
+                if (area == main) {
+                    mainWeight -= entry.getWeight();
+                } else {
+                    windowWeight -= entry.getWeight();
+                }
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized void clear() {
+        window.clear();
+        main.clear();
+        windowWeight = 0;
+        mainWeight = 0;
+    }
+
+    @Override
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hitCount, missCount, evictionCount, invalidationCount,
+                window.size() + main.size(), windowWeight + mainWeight);
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters, four rows deep. All counters are
+     * halved once the number of increments reaches ten times the width, so
+     * frequencies reflect recent popularity rather than all-time totals.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97cb3127, 0x0ba2c8f1, 0x5d8a3a2f, 0x7fbce7ed};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int resetThreshold;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.max(64, expectedEntries) - 1) << 1;
+            this.counters = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.resetThreshold = width * 10;
+        }
+
+        void increment(String key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = indexOf(hash, row);
+                if (counters[row][index] < MAX_COUNT) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= resetThreshold) {
+                reset();
+            }
+        }
+
+        int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, counters[row][indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void reset() {
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xed5ad4bb;
+            return hash ^ (hash >>> 11);
+        }
+    }
+
+    /**
+     * Builder for InMemoryResponseCache.
+     */
+    public static class Builder {
+        private long maxWeight = 64L * 1024 * 1024;
+        private Eviction eviction = Eviction.W_TINY_LFU;
+        private int expectedEntries = 10_000;
+
+        /**
+         * Total size of the cached response bodies, in bytes.
+         */
+        public Builder maxWeight(long maxWeight) {
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        public Builder eviction(Eviction eviction) {
+            this.eviction = eviction;
+            return this;
+        }
+
+        /**
+         * Rough number of entries, used to size the frequency sketch.
+         */
+        public Builder expectedEntries(int expectedEntries) {
+            this.expectedEntries = expectedEntries;
+            return this;
+        }
+
+        public InMemoryResponseCache build() {
+            if (maxWeight < 1) {
+                throw new IllegalArgumentException("maxWeight must be positive");
+            }
+            if (expectedEntries < 1) {
+                throw new IllegalArgumentException("expectedEntries must be positive");
+            }
+            return new InMemoryResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.platform.sdk.common;
+
+import okhttp3.Request;
+
+import java.util.List;
+
+/**
+ * Runs a fixed list of {@link RequestInterceptor}s around an attempt.
+ */
+final class Interceptors {
+    private final RequestInterceptor[] interceptors;
+
+    private Interceptors(List<RequestInterceptor> interceptors) {
+        this.interceptors = interceptors.toArray(new RequestInterceptor[0]);
+    }
+
+    /**
+     * Interceptors for the given list, or null if it is empty so that callers
+     * skip the hooks entirely.
+     */
+    static Interceptors of(List<RequestInterceptor> interceptors) {
+        return interceptors.isEmpty() ? null : new Interceptors(interceptors);
+    }
+
+    /**
+     * Capture each interceptor's per-call state on the calling thread, to be
+     * attached to the request as a tag.
+     */
+    Captured capture() {
+        Object[] values = new Object[interceptors.length];
+        for (int i = 0; i < interceptors.length; i++) {
+            values[i] = interceptors[i].capture();
+        }
+        return new Captured(values);
+    }
+
+    Exchange before(Request request) {
+        Exchange exchange = new Exchange(request, interceptors.length);
+        Object[] states = exchange.states();
+        Captured captured = request.tag(Captured.class);
+        for (int i = 0; i < interceptors.length; i++) {
+            states[i] = captured != null
+                    ? interceptors[i].before(exchange, captured.values[i])
+                    : interceptors[i].before(exchange);
+        }
+        return exchange;
+    }
+
+    /**
+     * Run every interceptor's {@code after}, even when an earlier one throws,
+     * so each can close what its {@code before} opened. The first exception is
+     * rethrown with any later ones suppressed.
+     */
+    void after(Exchange exchange) {
+        Object[] states = exchange.states();
+        RuntimeException failure = null;
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            try {
+                interceptors[i].after(exchange, states[i]);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Request tag holding what the interceptors captured when the call was made.
+     */
+    static final class Captured {
+        private final Object[] values;
+
+        private Captured(Object[] values) {
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.platform.sdk.common;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes an {@link InMemoryMetrics} as an MXBean named
+ * {@code com.platform.sdk:type=Metrics,name=<name>}. Every attribute read
+ * takes a fresh snapshot.
+ *
+ * <pre>{@code
+ * JmxMetrics jmx = JmxMetrics.register(metrics, "orders-service");
+ * // ...
+ * jmx.close();   // unregister
+ * }</pre>
+ */
+public final class JmxMetrics implements SdkMetricsMXBean, AutoCloseable {
+    public static final String DOMAIN = "com.platform.sdk";
+
+    private final InMemoryMetrics metrics;
+    private final MBeanServer server;
+    private final ObjectName name;
+
+    private JmxMetrics(InMemoryMetrics metrics, MBeanServer server, ObjectName name) {
+        this.metrics = metrics;
+        this.server = server;
+        this.name = name;
+    }
+
+    /**
+     * Register the metrics with the platform MBean server.
+     *
+     * @throws IllegalStateException if the name is taken or registration fails
+     */
+    public static JmxMetrics register(InMemoryMetrics metrics, String name) {
+        if (metrics == null || name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("metrics and name are required");
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=Metrics,name=" + ObjectName.quote(name));
+            JmxMetrics bean = new JmxMetrics(metrics, server, objectName);
+            server.registerMBean(bean, objectName);
+            return bean;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register metrics MBean " + name, e);
+        }
+    }
+
+    public ObjectName getObjectName() {
+        return name;
+    }
+
+    /**
+     * Unregister the MBean.
+     */
+    @Override
+    public void close() {
+        try {
+            server.unregisterMBean(name);
+        } catch (InstanceNotFoundException e) {
+            // Already gone
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister metrics MBean " + name, e);
+        }
+    }
+
+    @Override
+    public int getConnectionCount() {
+        PoolStats pool = metrics.getPoolStats();
+        return pool != null ? pool.getConnectionCount() : -1;
+    }
+
+    @Override
+    public int getIdleConnectionCount() {
+        PoolStats pool = metrics.getPoolStats();
+        return pool != null ? pool.getIdleConnectionCount() : -1;
+    }
+
+    @Override
+    public int getRunningCalls() {
+        PoolStats pool = metrics.getPoolStats();
+        return pool != null ? pool.getRunningCalls() : -1;
+    }
+
+    @Override
+    public int getQueuedCalls() {
+        PoolStats pool = metrics.getPoolStats();
+        return pool != null ? pool.getQueuedCalls() : -1;
+    }
+
+    @Override
+    public Map<String, Long> getAttemptCounts() {
+        return byStatus(LatencyHistogram.Snapshot::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Micros() {
+        return byStatus(s -> s.getPercentileMicros(0.5));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Micros() {
+        return byStatus(s -> s.getPercentileMicros(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP999Micros() {
+        return byStatus(s -> s.getPercentileMicros(0.999));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyMaxMicros() {
+        return byStatus(LatencyHistogram.Snapshot::getMaxMicros);
+    }
+
+    @Override
+    public Map<String, Long> getSerializationP99Micros() {
+        return byEndpoint(e -> e.getSerialization().getPercentileMicros(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getDeserializationP99Micros() {
+        return byEndpoint(e -> e.getDeserialization().getPercentileMicros(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getRetryCounts() {
+        return byEndpoint(MetricsSnapshot.EndpointMetrics::getRetryCount);
+    }
+
+    @Override
+    public Map<String, Long> getBytesSent() {
+        return byEndpoint(MetricsSnapshot.EndpointMetrics::getBytesSent);
+    }
+
+    @Override
+    public Map<String, Long> getBytesReceived() {
+        return byEndpoint(MetricsSnapshot.EndpointMetrics::getBytesReceived);
+    }
+
+    private Map<String, Long> byStatus(ToLongFunction<LatencyHistogram.Snapshot> value) {
+        Map<String, Long> result = new TreeMap<>();
+        for (MetricsSnapshot.EndpointMetrics endpoint : metrics.snapshot().getEndpoints()) {
+            endpoint.getLatencyByStatus().forEach((status, snapshot) ->
+                    result.put(endpoint.getEndpoint() + " " + status, value.applyAsLong(snapshot)));
+        }
+        return result;
+    }
+
+    private Map<String, Long> byEndpoint(ToLongFunction<MetricsSnapshot.EndpointMetrics> value) {
+        Map<String, Long> result = new TreeMap<>();
+        for (MetricsSnapshot.EndpointMetrics endpoint : metrics.snapshot().getEndpoints()) {
+            result.put(endpoint.getEndpoint().toString(), value.applyAsLong(endpoint));
+        }
+        return result;
+    }
+}
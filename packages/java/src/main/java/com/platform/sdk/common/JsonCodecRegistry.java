@@ -0,0 +1,72 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of pre-built {@link ObjectReader} and {@link ObjectWriter} instances.
+ *
+ * <p>Readers and writers are immutable and resolve their root (de)serializer
+ * when created, so looking one up here skips the mapper's type resolution and
+ * serializer cache lookups on every call. Generic types are keyed by their
+ * reflective {@link Type}, which means a fresh {@code new TypeReference<List<X>>() {}}
+ * per call still hits the cache.
+ *
+ * <p>One registry belongs to each {@link SdkRuntime} and is shared by its clients.
+ * Domain clients warm the types they use when they are built, so the first
+ * production request does not pay introspection cost.
+ */
+public class JsonCodecRegistry {
+    private final ObjectMapper objectMapper;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonCodecRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, t -> objectMapper.readerFor(type));
+    }
+
+    public ObjectReader reader(TypeReference<?> typeReference) {
+        return readers.computeIfAbsent(typeReference.getType(), t -> objectMapper.readerFor(typeReference));
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * Build and cache readers for the given response types.
+     */
+    public void warmReaders(Class<?>... types) {
+        for (Class<?> type : types) {
+            reader(type);
+        }
+    }
+
+    /**
+     * Build and cache readers for the given generic response types.
+     */
+    public void warmReaders(TypeReference<?>... typeReferences) {
+        for (TypeReference<?> typeReference : typeReferences) {
+            reader(typeReference);
+        }
+    }
+
+    /**
+     * Build and cache writers for the given request body types.
+     */
+    public void warmWriters(Class<?>... types) {
+        for (Class<?> type : types) {
+            writer(type);
+        }
+    }
+}
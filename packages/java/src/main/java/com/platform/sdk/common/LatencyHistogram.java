@@ -0,0 +1,129 @@
+package com.platform.sdk.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram.
+ *
+ * <p>Values are kept in microseconds. Each power of two is split into 32
+ * linear sub-buckets, so any recorded value is reported within about 3% from
+ * 1 µs up to 19 hours; longer values are clamped. Recording is a few shifts
+ * and one atomic increment, and the histogram takes a fixed 8 KiB.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final long MAX_MICROS = (1L << 36) - 1;
+    static final int BUCKET_COUNT = indexOf(MAX_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one duration.
+     */
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(0, nanos / 1000), MAX_MICROS);
+        counts.incrementAndGet(indexOf(micros));
+        totalMicros.add(micros);
+        long max;
+        while (micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros)) {
+            // retry
+        }
+    }
+
+    /**
+     * Copy the current counts. Recording may continue meanwhile; the copy is
+     * consistent enough for monitoring, not an atomic cut.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, totalMicros.sum(), maxMicros.get());
+    }
+
+    static int indexOf(long micros) {
+        int bucket = 64 - Long.numberOfLeadingZeros(micros | SUB_BUCKET_MASK) - SUB_BUCKET_BITS;
+        return (bucket << (SUB_BUCKET_BITS - 1)) + (int) (micros >>> bucket);
+    }
+
+    /**
+     * Largest value that lands in the same sub-bucket as the given index.
+     */
+    static long highestEquivalent(int index) {
+        int bucket = index < SUB_BUCKET_COUNT ? 0 : (index >> (SUB_BUCKET_BITS - 1)) - 1;
+        long subBucket = index - ((long) bucket << (SUB_BUCKET_BITS - 1));
+        return ((subBucket + 1) << bucket) - 1;
+    }
+
+    /**
+     * Immutable copy of a histogram.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], 0, 0, 0);
+
+        private final long[] counts;
+        private final long count;
+        private final long totalMicros;
+        private final long maxMicros;
+
+        private Snapshot(long[] counts, long count, long totalMicros, long maxMicros) {
+            this.counts = counts;
+            this.count = count;
+            this.totalMicros = totalMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Sum of all recorded values, which ranks endpoints by the time spent on them.
+         */
+        public long getTotalMicros() {
+            return totalMicros;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        public double getMeanMicros() {
+            return count == 0 ? 0 : (double) totalMicros / count;
+        }
+
+        /**
+         * Value at the given percentile, e.g. 0.99 for p99, or 0 if nothing
+         * was recorded.
+         */
+        public long getPercentileMicros(double percentile) {
+            if (percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("percentile must be in [0, 1]");
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestEquivalent(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + " p50=" + getPercentileMicros(0.5) + "us p99=" + getPercentileMicros(0.99)
+                    + "us p999=" + getPercentileMicros(0.999) + "us max=" + maxMicros + "us";
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.platform.sdk.common;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+
+/**
+ * Reports wire body sizes to a {@link MetricsRecorder}. One stateless
+ * instance serves every call of a runtime.
+ */
+final class MetricsEventListener extends EventListener {
+    private final MetricsRecorder metrics;
+
+    MetricsEventListener(MetricsRecorder metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        Endpoint endpoint = call.request().tag(Endpoint.class);
+        if (endpoint != null) {
+            metrics.recordBytes(endpoint, byteCount, 0);
+        }
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        Endpoint endpoint = call.request().tag(Endpoint.class);
+        if (endpoint != null) {
+            metrics.recordBytes(endpoint, 0, byteCount);
+        }
+    }
+}
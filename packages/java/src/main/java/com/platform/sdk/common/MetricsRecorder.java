@@ -0,0 +1,57 @@
+package com.platform.sdk.common;
+
+import java.util.function.Supplier;
+
+/**
+ * Receives request measurements from the clients of a runtime.
+ *
+ * <p>Methods are called on request and dispatcher threads, so implementations
+ * must be thread-safe and cheap. Every method has an empty default, so a
+ * recorder only implements what it forwards. {@link InMemoryMetrics} keeps
+ * histograms for pull-based snapshots and JMX; other implementations can
+ * bridge to a metrics library.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * One attempt on the wire, from sending the request until its response
+     * headers arrived. {@code status} is the HTTP status, or -1 when the
+     * attempt failed without a response. Retries and hedges are attempts of
+     * their own.
+     */
+    default void recordAttempt(Endpoint endpoint, int status, long networkNanos) {
+    }
+
+    /**
+     * An attempt is about to be retried.
+     */
+    default void recordRetry(Endpoint endpoint) {
+    }
+
+    /**
+     * Body bytes written or read on the wire, before decompression.
+     */
+    default void recordBytes(Endpoint endpoint, long sent, long received) {
+    }
+
+    /**
+     * Time spent encoding a request body as JSON.
+     */
+    default void recordSerialization(Endpoint endpoint, long nanos) {
+    }
+
+    /**
+     * Time spent reading and decoding a response body. The body is parsed as
+     * it streams in, so this includes reading what had not arrived with the
+     * headers.
+     */
+    default void recordDeserialization(Endpoint endpoint, long nanos) {
+    }
+
+    /**
+     * Called once by the runtime this recorder is attached to, with a source
+     * of connection pool and dispatcher gauges.
+     */
+    default void bindPool(Supplier<PoolStats> pool) {
+    }
+}
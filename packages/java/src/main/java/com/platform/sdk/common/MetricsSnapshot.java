@@ -0,0 +1,137 @@
+package com.platform.sdk.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of the measurements of an {@link InMemoryMetrics}.
+ */
+public final class MetricsSnapshot {
+    private final List<EndpointMetrics> endpoints;
+    private final PoolStats pool;
+
+    MetricsSnapshot(List<EndpointMetrics> endpoints, PoolStats pool) {
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        this.pool = pool;
+    }
+
+    /**
+     * Measurements per endpoint, the endpoint with the most network time first.
+     */
+    public List<EndpointMetrics> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Measurements of one endpoint, or null if it was not called.
+     */
+    public EndpointMetrics getEndpoint(String method, String template) {
+        for (EndpointMetrics metrics : endpoints) {
+            if (metrics.endpoint.getMethod().equals(method) && metrics.endpoint.getTemplate().equals(template)) {
+                return metrics;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Connection pool and dispatcher gauges, or null if the recorder is not
+     * attached to a runtime.
+     */
+    public PoolStats getPool() {
+        return pool;
+    }
+
+    /**
+     * Measurements of one endpoint template.
+     */
+    public static final class EndpointMetrics {
+        private final Endpoint endpoint;
+        private final Map<String, LatencyHistogram.Snapshot> latencyByStatus;
+        private final LatencyHistogram.Snapshot serialization;
+        private final LatencyHistogram.Snapshot deserialization;
+        private final long retryCount;
+        private final long bytesSent;
+        private final long bytesReceived;
+
+        EndpointMetrics(Endpoint endpoint, Map<String, LatencyHistogram.Snapshot> latencyByStatus,
+                        LatencyHistogram.Snapshot serialization, LatencyHistogram.Snapshot deserialization,
+                        long retryCount, long bytesSent, long bytesReceived) {
+            this.endpoint = endpoint;
+            this.latencyByStatus = Collections.unmodifiableMap(latencyByStatus);
+            this.serialization = serialization;
+            this.deserialization = deserialization;
+            this.retryCount = retryCount;
+            this.bytesSent = bytesSent;
+            this.bytesReceived = bytesReceived;
+        }
+
+        public Endpoint getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * Network latency per status class ({@code 2xx}, {@code 4xx},
+         * {@code 5xx}, ..., and {@code io_error} for attempts without a response).
+         */
+        public Map<String, LatencyHistogram.Snapshot> getLatencyByStatus() {
+            return latencyByStatus;
+        }
+
+        /**
+         * Network latency of one status class; empty if none was seen.
+         */
+        public LatencyHistogram.Snapshot getLatency(String statusClass) {
+            return latencyByStatus.getOrDefault(statusClass, LatencyHistogram.Snapshot.EMPTY);
+        }
+
+        /**
+         * Attempts sent, over all status classes.
+         */
+        public long getAttemptCount() {
+            long count = 0;
+            for (LatencyHistogram.Snapshot snapshot : latencyByStatus.values()) {
+                count += snapshot.getCount();
+            }
+            return count;
+        }
+
+        /**
+         * Network time spent on this endpoint, over all status classes.
+         */
+        public long getTotalNetworkMicros() {
+            long total = 0;
+            for (LatencyHistogram.Snapshot snapshot : latencyByStatus.values()) {
+                total += snapshot.getTotalMicros();
+            }
+            return total;
+        }
+
+        public LatencyHistogram.Snapshot getSerialization() {
+            return serialization;
+        }
+
+        public LatencyHistogram.Snapshot getDeserialization() {
+            return deserialization;
+        }
+
+        public long getRetryCount() {
+            return retryCount;
+        }
+
+        public long getBytesSent() {
+            return bytesSent;
+        }
+
+        public long getBytesReceived() {
+            return bytesReceived;
+        }
+
+        @Override
+        public String toString() {
+            return endpoint + " attempts=" + getAttemptCount() + " retries=" + retryCount
+                    + " latency=" + latencyByStatus + " deserialization={" + deserialization + "}";
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Items of a newline-delimited JSON response, decoded one at a time straight
+ * from the socket. Only the item being decoded and the parser's buffer are
+ * held in memory, however long the response is.
+ *
+ * <p>The response and {@code onClose} are released when the stream is closed,
+ * when the last item has been read, or when reading fails, whichever comes first.
+ */
+final class NdjsonStream<T> implements Iterator<T> {
+    private final Response response;
+    private final Runnable onClose;
+    private MappingIterator<T> items;
+    private boolean closed;
+
+    private NdjsonStream(Response response, Runnable onClose) {
+        this.response = response;
+        this.onClose = onClose;
+    }
+
+    static <T> Stream<T> of(Response response, ObjectReader reader, Runnable onClose) throws IOException {
+        NdjsonStream<T> iterator = new NdjsonStream<>(response, onClose);
+        try {
+            if (response.body() != null) {
+                iterator.items = reader.readValues(response.body().byteStream());
+            }
+        } catch (IOException | RuntimeException e) {
+            iterator.close();
+            throw e;
+        }
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (items != null && items.hasNextValue()) {
+                return true;
+            }
+        } catch (IOException e) {
+            close();
+            throw new ApiException("Stream failed: " + e.getMessage(), e);
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return items.nextValue();
+        } catch (IOException e) {
+            close();
+            throw new ApiException("Stream failed: " + e.getMessage(), e);
+        }
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (items != null) {
+                items.close();
+            }
+        } catch (IOException ignored) {
+        } finally {
+            response.close();
+            onClose.run();
+        }
+    }
+}
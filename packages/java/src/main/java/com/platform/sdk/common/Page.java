@@ -0,0 +1,31 @@
+package com.platform.sdk.common;
+
+import java.util.List;
+
+/**
+ * One page of a paged listing, as returned by the {@code list} operations.
+ *
+ * @param <T> item type
+ */
+public interface Page<T> {
+
+    List<T> getData();
+
+    /**
+     * Whether the listing continues after this page.
+     */
+    boolean hasNextPage();
+
+    /**
+     * Number of pages in the listing, or 0 if the server did not say.
+     */
+    int totalPages();
+
+    /**
+     * Cursor of the page after this one, or null if this is the last page or
+     * the listing is not paginated by cursor.
+     */
+    default String nextCursor() {
+        return null;
+    }
+}
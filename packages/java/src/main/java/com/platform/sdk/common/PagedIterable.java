@@ -0,0 +1,289 @@
+package com.platform.sdk.common;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * All items of a paged listing, fetched lazily page by page.
+ *
+ * <p>Each iterator requests the first page when it is created. As soon as a
+ * page arrives the request for the next one is sent, so the next page is on
+ * the wire while the caller works through the current one. The walk ends at
+ * the first page without a successor or without items.
+ *
+ * <p>Listings built from query parameters follow the server's cursors: once a
+ * page carries a {@link Page#nextCursor() next cursor}, the following pages
+ * are requested with {@code after} set to it instead of a page number, which
+ * keeps deep scans cheap for the server and free of skipped or repeated items
+ * under concurrent writes.
+ *
+ * <pre>{@code
+ * try (Stream<User> users = userClient.listAll(new ListUsersParams().pageSize(100)).stream()) {
+ *     users.filter(User::isActive).forEach(exporter::write);
+ * }
+ * }</pre>
+ *
+ * <p>For full scans, {@link #parallel(int)} fetches several pages at once
+ * once the first page tells how many there are, and {@link #unordered()}
+ * hands out pages as they arrive rather than in page order.
+ *
+ * <p>Failed pages surface from {@code hasNext()} and {@code next()} as the
+ * {@link ApiException} of the request. An iterable may be iterated more than
+ * once; every iterator starts again from the first page.
+ *
+ * @param <T> item type
+ */
+public final class PagedIterable<T> implements Iterable<T> {
+    private final int firstPage;
+    private final IntFunction<? extends CompletableFuture<? extends Page<T>>> fetch;
+    private final Function<String, ? extends CompletableFuture<? extends Page<T>>> fetchAfter;
+    private final int maxConcurrency;
+    private final boolean ordered;
+    private final boolean startsAtCursor;
+
+    private PagedIterable(int firstPage, IntFunction<? extends CompletableFuture<? extends Page<T>>> fetch,
+                          Function<String, ? extends CompletableFuture<? extends Page<T>>> fetchAfter,
+                          int maxConcurrency, boolean ordered, boolean startsAtCursor) {
+        this.firstPage = firstPage;
+        this.fetch = fetch;
+        this.fetchAfter = fetchAfter;
+        this.maxConcurrency = maxConcurrency;
+        this.ordered = ordered;
+        this.startsAtCursor = startsAtCursor;
+    }
+
+    /**
+     * Walk the pages from {@code firstPage} on, fetching page {@code n} with {@code fetch.apply(n)}.
+     */
+    public static <T> PagedIterable<T> byPage(int firstPage,
+                                              IntFunction<? extends CompletableFuture<? extends Page<T>>> fetch) {
+        if (firstPage < 1) {
+            throw new IllegalArgumentException("firstPage must be at least 1");
+        }
+        if (fetch == null) {
+            throw new IllegalArgumentException("fetch is required");
+        }
+        return new PagedIterable<>(firstPage, fetch, null, 1, true, false);
+    }
+
+    /**
+     * Walk the pages of a listing whose query parameters are given, starting
+     * at their {@code page} or {@code after} parameter or the first page. Every
+     * following page is fetched with a copy of the parameters that has its own
+     * {@code page}, or its own {@code after} once the server sends cursors.
+     */
+    public static <T> PagedIterable<T> byPage(Map<String, String> queryParams,
+                                              Function<Map<String, String>, ? extends CompletableFuture<? extends Page<T>>> fetch) {
+        if (fetch == null) {
+            throw new IllegalArgumentException("fetch is required");
+        }
+        Map<String, String> base = Map.copyOf(queryParams);
+        String page = base.get("page");
+        int firstPage = page != null ? Integer.parseInt(page) : 1;
+        if (firstPage < 1) {
+            throw new IllegalArgumentException("page must be at least 1");
+        }
+        if (base.containsKey("after") || base.containsKey("before")) {
+            // Already positioned by cursor: page numbers would not line up with it
+            return new PagedIterable<T>(firstPage, number -> fetch.apply(base), cursor -> {
+                Map<String, String> query = new HashMap<>(base);
+                query.put("after", cursor);
+                query.remove("before");
+                return fetch.apply(query);
+            }, 1, true, true);
+        }
+        return new PagedIterable<T>(firstPage, number -> {
+            Map<String, String> query = new HashMap<>(base);
+            query.put("page", Integer.toString(number));
+            return fetch.apply(query);
+        }, cursor -> {
+            Map<String, String> query = new HashMap<>(base);
+            query.remove("page");
+            query.remove("before");
+            query.put("after", cursor);
+            return fetch.apply(query);
+        }, 1, true, false);
+    }
+
+    /**
+     * The same listing, fetching up to {@code maxConcurrency} pages at once
+     * once the first page reports the page count. Pages still count against
+     * the limit until the caller has moved past them, so a slow consumer holds
+     * back new requests instead of buffering the whole listing.
+     *
+     * <p>Listings whose first page does not report a page count, or carries a
+     * cursor, are walked one page ahead as usual.
+     */
+    public PagedIterable<T> parallel(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        return new PagedIterable<>(firstPage, fetch, fetchAfter, maxConcurrency, ordered, startsAtCursor);
+    }
+
+    /**
+     * The same listing, handing out each page as soon as it arrives instead of
+     * in page order. Only makes a difference together with {@link #parallel(int)}.
+     */
+    public PagedIterable<T> unordered() {
+        return new PagedIterable<>(firstPage, fetch, fetchAfter, maxConcurrency, false, startsAtCursor);
+    }
+
+    @Override
+    public PageIterator<T> iterator() {
+        return new PageIterator<>(firstPage, fetch, fetchAfter, maxConcurrency, ordered, startsAtCursor);
+    }
+
+    /**
+     * A sequential stream of all items. Closing the stream cancels the pages in flight.
+     */
+    public Stream<T> stream() {
+        PageIterator<T> iterator = iterator();
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    /**
+     * Iterator over the items of a {@link PagedIterable}, ahead of the caller
+     * by one page, or by up to the parallelism of the iterable.
+     *
+     * @param <T> item type
+     */
+    public static final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+        private final IntFunction<? extends CompletableFuture<? extends Page<T>>> fetch;
+        private final Function<String, ? extends CompletableFuture<? extends Page<T>>> fetchAfter;
+        private final int maxConcurrency;
+        private final boolean ordered;
+        // Requested pages the caller has not moved past yet, in page order
+        private final Deque<CompletableFuture<? extends Page<T>>> window = new ArrayDeque<>();
+        // Requested pages in the order they completed, when unordered
+        private final BlockingQueue<CompletableFuture<? extends Page<T>>> arrived = new LinkedBlockingQueue<>();
+        private int nextNumber;
+        private int lastNumber = -1;
+        private boolean byCursor;
+        private Iterator<T> items = Collections.emptyIterator();
+        private int pagesFetched;
+
+        PageIterator(int firstPage, IntFunction<? extends CompletableFuture<? extends Page<T>>> fetch,
+                     Function<String, ? extends CompletableFuture<? extends Page<T>>> fetchAfter,
+                     int maxConcurrency, boolean ordered, boolean startsAtCursor) {
+            this.fetch = fetch;
+            this.fetchAfter = fetchAfter;
+            this.byCursor = startsAtCursor;
+            this.maxConcurrency = maxConcurrency;
+            this.ordered = ordered;
+            this.nextNumber = firstPage;
+            track(fetch.apply(nextNumber++));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!items.hasNext()) {
+                if (window.isEmpty()) {
+                    return false;
+                }
+                Page<T> page = await(take());
+                List<T> data = page.getData();
+                String cursor = fetchAfter != null ? page.nextCursor() : null;
+                if (pagesFetched++ == 0 && maxConcurrency > 1 && !byCursor && cursor == null
+                        && page.totalPages() >= nextNumber) {
+                    lastNumber = page.totalPages();
+                }
+                if (lastNumber < 0) {
+                    if (data == null || data.isEmpty()) {
+                        return false;
+                    }
+                    // Put the next page on the wire before handing out this one
+                    if (cursor != null) {
+                        byCursor = true;
+                        track(fetchAfter.apply(cursor));
+                    } else if (!byCursor && page.hasNextPage()) {
+                        track(fetch.apply(nextNumber++));
+                    }
+                } else {
+                    while (window.size() < maxConcurrency && nextNumber <= lastNumber) {
+                        track(fetch.apply(nextNumber++));
+                    }
+                }
+                items = data != null ? data.iterator() : Collections.emptyIterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        /**
+         * Pages received so far.
+         */
+        public int getPagesFetched() {
+            return pagesFetched;
+        }
+
+        /**
+         * Stop the walk, cancelling the pages in flight.
+         */
+        @Override
+        public void close() {
+            window.forEach(page -> page.cancel(false));
+            window.clear();
+            arrived.clear();
+            items = Collections.emptyIterator();
+        }
+
+        private void track(CompletableFuture<? extends Page<T>> page) {
+            window.add(page);
+            if (!ordered) {
+                page.whenComplete((result, error) -> arrived.add(page));
+            }
+        }
+
+        private CompletableFuture<? extends Page<T>> take() {
+            if (ordered) {
+                return window.poll();
+            }
+            try {
+                CompletableFuture<? extends Page<T>> page = arrived.take();
+                window.remove(page);
+                return page;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException("Interrupted while waiting for a page", e);
+            }
+        }
+
+        private static <P> P await(CompletableFuture<P> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new ApiException("Page request failed: " + cause.getMessage(), cause);
+            }
+        }
+    }
+}
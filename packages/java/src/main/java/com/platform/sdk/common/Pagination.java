@@ -12,6 +12,8 @@ public class Pagination {
     private int totalPages;
     private Boolean hasNext;
     private Boolean hasPrevious;
+    private String nextCursor;
+    private String previousCursor;
 
     public Pagination() {
     }
@@ -72,4 +74,36 @@ public class Pagination {
     public void setHasPrevious(Boolean hasPrevious) {
         this.hasPrevious = hasPrevious;
     }
+
+    /**
+     * Opaque cursor of the page after this one, or null on the last page or
+     * if the endpoint does not paginate by cursor. Pass it as {@code after}.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Opaque cursor of the page before this one, or null on the first page or
+     * if the endpoint does not paginate by cursor. Pass it as {@code before}.
+     */
+    public String getPreviousCursor() {
+        return previousCursor;
+    }
+
+    public void setPreviousCursor(String previousCursor) {
+        this.previousCursor = previousCursor;
+    }
+
+    /**
+     * Whether a page follows this one: {@code has_next} if the server sent it,
+     * the page count otherwise.
+     */
+    public boolean hasNextPage() {
+        return hasNext != null ? hasNext : page < totalPages;
+    }
 }
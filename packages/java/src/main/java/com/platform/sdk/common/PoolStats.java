@@ -0,0 +1,62 @@
+package com.platform.sdk.common;
+
+/**
+ * Point-in-time gauges of a runtime's connection pool and dispatcher.
+ */
+public final class PoolStats {
+    private final int connectionCount;
+    private final int idleConnectionCount;
+    private final int runningCalls;
+    private final int queuedCalls;
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+
+    public PoolStats(int connectionCount, int idleConnectionCount, int runningCalls, int queuedCalls,
+                     int maxRequests, int maxRequestsPerHost) {
+        this.connectionCount = connectionCount;
+        this.idleConnectionCount = idleConnectionCount;
+        this.runningCalls = runningCalls;
+        this.queuedCalls = queuedCalls;
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    /**
+     * Open connections, idle or in use.
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    public int getIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    /**
+     * Calls currently executing, blocking and async.
+     */
+    public int getRunningCalls() {
+        return runningCalls;
+    }
+
+    /**
+     * Async calls waiting for the dispatcher's request limits.
+     */
+    public int getQueuedCalls() {
+        return queuedCalls;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{connections=" + connectionCount + ", idle=" + idleConnectionCount
+                + ", running=" + runningCalls + ", queued=" + queuedCalls + "}";
+    }
+}
@@ -0,0 +1,18 @@
+package com.platform.sdk.common;
+
+/**
+ * Exception thrown without contacting the server because a client-side rate
+ * limit has no permit available within the configured wait.
+ */
+public class RateLimitExceededException extends ApiException {
+    private final String endpoint;
+
+    public RateLimitExceededException(String endpoint) {
+        super("Client rate limit exceeded for " + endpoint, 0, "RATE_LIMITED");
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,161 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket.
+ *
+ * <p>The bucket holds up to {@code burst} permits and refills at
+ * {@code permits / period}. It is implemented as a generic cell rate algorithm:
+ * the whole state is the time at which the bucket will next be full, advanced
+ * with a compare-and-set, so acquiring a permit never takes a lock.
+ *
+ * <p>{@link #acquire()} and {@link #tryAcquire(Duration)} reserve a permit
+ * first and then sleep until it is due, so waiting callers are served in
+ * reservation order and the limiter itself is never blocked.
+ */
+public final class RateLimiter {
+    private final int permits;
+    private final Duration period;
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    // Theoretical arrival time of the next permit if the bucket were drained
+    private final AtomicLong nextPermitNanos;
+
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder delayedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private RateLimiter(int permits, Duration period, int burst) {
+        if (permits < 1 || burst < 1) {
+            throw new IllegalArgumentException("permits and burst must be positive");
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        this.permits = permits;
+        this.period = period;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, period.toNanos() / permits);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nextPermitNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * A limiter of {@code permits} per {@code period} that allows bursts of
+     * up to {@code burst} back-to-back requests.
+     */
+    public static RateLimiter of(int permits, Duration period, int burst) {
+        return new RateLimiter(permits, period, burst);
+    }
+
+    public static RateLimiter perSecond(int permits) {
+        return new RateLimiter(permits, Duration.ofSeconds(1), permits);
+    }
+
+    /**
+     * A limiter for a per-minute quota such as {@code APIKey.getRateLimit()}.
+     * Bursts are limited to one second's share so the quota is spread evenly.
+     */
+    public static RateLimiter perMinute(int permits) {
+        return new RateLimiter(permits, Duration.ofMinutes(1), Math.max(1, permits / 60));
+    }
+
+    /**
+     * Take a permit if one is available now.
+     */
+    public boolean tryAcquire() {
+        return reserveNanos(0) == 0;
+    }
+
+    /**
+     * Take a permit, waiting up to {@code timeout} for one.
+     *
+     * @return false if no permit is due within the timeout
+     */
+    public boolean tryAcquire(Duration timeout) throws InterruptedException {
+        long wait = reserveNanos(timeout.toNanos());
+        if (wait < 0) {
+            return false;
+        }
+        TimeUnit.NANOSECONDS.sleep(wait);
+        return true;
+    }
+
+    /**
+     * Take a permit, waiting as long as necessary.
+     */
+    public void acquire() throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(reserveNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Reserve a permit due within {@code maxWaitNanos}.
+     *
+     * @return nanoseconds until the permit is due, or -1 if none is due in time
+     */
+    long reserveNanos(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextPermitNanos.get();
+            long wait = Math.max(0, next - now - toleranceNanos);
+            if (wait > maxWaitNanos) {
+                rejectedCount.increment();
+                return -1;
+            }
+            long advanced = (next - now > 0 ? next : now) + intervalNanos;
+            if (nextPermitNanos.compareAndSet(next, advanced)) {
+                acquiredCount.increment();
+                if (wait > 0) {
+                    delayedCount.increment();
+                }
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Give back a permit from {@link #reserveNanos(long)} that will not be used.
+     */
+    void cancelReservation() {
+        nextPermitNanos.addAndGet(-intervalNanos);
+        acquiredCount.decrement();
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    /**
+     * Number of permits that had to wait for the bucket to refill.
+     */
+    public long getDelayedCount() {
+        return delayedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter{" + permits + "/" + period + ", burst=" + burst + "}";
+    }
+}
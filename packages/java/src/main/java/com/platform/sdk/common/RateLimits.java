@@ -0,0 +1,167 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side rate limits applied before each request is sent: an optional
+ * limit for all requests, plus limits for endpoint groups identified by path
+ * prefix (for example {@code /emails} or {@code /invitations}).
+ *
+ * <p>A request that finds no permit waits for one, up to {@code maxWait}; with
+ * a zero {@code maxWait} it fails immediately with
+ * {@link RateLimitExceededException}. Async calls wait on a timer rather than
+ * a thread.
+ */
+public final class RateLimits {
+    private final RateLimiter limiter;
+    private final Map<String, RateLimiter> groups;
+    private final Duration maxWait;
+    private final long maxWaitNanos;
+
+    private RateLimits(Builder builder) {
+        this.limiter = builder.limiter;
+        this.groups = new LinkedHashMap<>(builder.groups);
+        this.maxWait = builder.maxWait;
+        this.maxWaitNanos = builder.maxWait.toNanos();
+    }
+
+    /**
+     * Get the limit shared by all requests, or null if there is none.
+     */
+    public RateLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Get the endpoint group limits, keyed by path prefix.
+     */
+    public Map<String, RateLimiter> getGroups() {
+        return Map.copyOf(groups);
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Reserve permits for a request to the given endpoint template. If one
+     * limit rejects the request, the permits already taken from the others
+     * are given back, so a throttled group does not drain the overall limit.
+     *
+     * @return nanoseconds until the request may be sent
+     * @throws RateLimitExceededException if a permit is not due within maxWait
+     */
+    long reserveNanos(String template) throws RateLimitExceededException {
+        long wait = 0;
+        if (limiter != null) {
+            wait = limiter.reserveNanos(maxWaitNanos);
+            if (wait < 0) {
+                throw new RateLimitExceededException(template);
+            }
+        }
+        for (Map.Entry<String, RateLimiter> group : groups.entrySet()) {
+            if (!matches(template, group.getKey())) {
+                continue;
+            }
+            long next = group.getValue().reserveNanos(maxWaitNanos);
+            if (next < 0) {
+                cancelReservations(template, group.getValue());
+                throw new RateLimitExceededException(template);
+            }
+            wait = Math.max(wait, next);
+        }
+        return wait;
+    }
+
+    /**
+     * Block until a request to the given endpoint template may be sent.
+     */
+    void acquire(String template) throws ApiException {
+        long wait = reserveNanos(template);
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException("Interrupted while waiting for a rate limit permit", e);
+            }
+        }
+    }
+
+    /**
+     * Give back the permits reserved for a request to the template that was not sent.
+     */
+    void cancel(String template) {
+        cancelReservations(template, null);
+    }
+
+    /**
+     * Give back the permits reserved for the template before {@code rejected} turned it down.
+     */
+    private void cancelReservations(String template, RateLimiter rejected) {
+        if (limiter != null) {
+            limiter.cancelReservation();
+        }
+        for (Map.Entry<String, RateLimiter> group : groups.entrySet()) {
+            if (group.getValue() == rejected) {
+                return;
+            }
+            if (matches(template, group.getKey())) {
+                group.getValue().cancelReservation();
+            }
+        }
+    }
+
+    private static boolean matches(String template, String prefix) {
+        return template.startsWith(prefix)
+                && (template.length() == prefix.length() || template.charAt(prefix.length()) == '/');
+    }
+
+    /**
+     * Builder for RateLimits.
+     */
+    public static class Builder {
+        private RateLimiter limiter;
+        private final Map<String, RateLimiter> groups = new LinkedHashMap<>();
+        private Duration maxWait = Duration.ofSeconds(30);
+
+        /**
+         * Limit all requests, e.g. {@code RateLimiter.perMinute(apiKey.getRateLimit())}.
+         */
+        public Builder limit(RateLimiter limiter) {
+            this.limiter = limiter;
+            return this;
+        }
+
+        /**
+         * Limit requests whose path starts with {@code pathPrefix}, such as
+         * {@code /emails}. Group limits apply in addition to the overall limit.
+         */
+        public Builder group(String pathPrefix, RateLimiter limiter) {
+            String prefix = pathPrefix.endsWith("/") ? pathPrefix.substring(0, pathPrefix.length() - 1) : pathPrefix;
+            groups.put(prefix.startsWith("/") ? prefix : "/" + prefix, limiter);
+            return this;
+        }
+
+        /**
+         * Longest a request may wait for a permit. Zero makes acquisition non-blocking.
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public RateLimits build() {
+            if (maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must not be negative");
+            }
+            if (limiter == null && groups.isEmpty()) {
+                throw new IllegalArgumentException("at least one limit is required");
+            }
+            return new RateLimits(this);
+        }
+    }
+}
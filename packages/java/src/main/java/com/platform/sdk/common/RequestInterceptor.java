@@ -0,0 +1,48 @@
+package com.platform.sdk.common;
+
+/**
+ * Hooks around every attempt a client puts on the wire.
+ *
+ * <p>{@link #before} runs after the attempt was admitted by the rate limits,
+ * concurrency limit and circuit breaker, just before it is sent; it may add
+ * request headers. {@link #after} runs once the response headers arrived or
+ * the attempt failed, with the status, network time and sizes filled in.
+ * Retries and hedges are attempts of their own. Interceptors run in the order
+ * they were added for {@code before} and in reverse order for {@code after}.
+ *
+ * <p>Hooks run on request and dispatcher threads for every attempt, so they
+ * must be thread-safe, cheap and must not throw.
+ */
+public interface RequestInterceptor {
+
+    /**
+     * Called once per call, on the thread that makes it, before any attempt.
+     * Attempts may run on other threads, so this is where to read
+     * thread-bound state such as the caller's current span. The returned
+     * value, which may be null, is handed to {@link #before(Exchange, Object)}
+     * for every attempt of the call, including retries and hedges.
+     */
+    default Object capture() {
+        return null;
+    }
+
+    /**
+     * Called before the attempt is sent. The returned value, which may be
+     * null, is handed back to {@link #after}, so per-attempt state needs no
+     * map or thread-local.
+     */
+    Object before(Exchange exchange);
+
+    /**
+     * Called before the attempt is sent, with what {@link #capture()} returned
+     * for its call. Defaults to {@link #before(Exchange)}.
+     */
+    default Object before(Exchange exchange, Object captured) {
+        return before(exchange);
+    }
+
+    /**
+     * Called once the attempt completed or failed.
+     */
+    void after(Exchange exchange, Object state);
+}
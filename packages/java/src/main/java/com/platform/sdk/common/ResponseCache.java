@@ -0,0 +1,104 @@
+package com.platform.sdk.common;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache of parsed GET results shared by the clients of a runtime.
+ *
+ * <p>{@link HttpClient} decides what to cache and for how long from the
+ * runtime's {@link CachePolicy}; implementations only store entries, evict
+ * them when full and drop whole groups when a write invalidates them. See
+ * {@link InMemoryResponseCache} for the built-in implementation.
+ * Implementations must be thread-safe.
+ */
+public interface ResponseCache {
+
+    /**
+     * Get the live entry for the key, or null if it is absent or expired.
+     */
+    Entry get(String key);
+
+    /**
+     * Store the entry, unless its group was invalidated after the entry's
+     * {@linkplain Entry#getGeneration() generation} was read. A read that
+     * raced a write then cannot bring back the result the write replaced.
+     */
+    void put(String key, Entry entry);
+
+    /**
+     * Remove every entry of a resource group, such as {@code /roles}, and
+     * advance the group's generation.
+     */
+    void invalidateGroup(String group);
+
+    /**
+     * Number of times the group has been invalidated. Read it before sending
+     * the request whose result is cached.
+     */
+    long generation(String group);
+
+    void clear();
+
+    CacheStats getStats();
+
+    /**
+     * A cached result with its size, group and freshness deadlines.
+     */
+    final class Entry {
+        private final Object value;
+        private final long weight;
+        private final String group;
+        private final long generation;
+        private final long expiresAtNanos;
+        private final long refreshAtNanos;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        /**
+         * @param generation     the group's {@link ResponseCache#generation(String)} when the
+         *                       request was sent
+         * @param refreshAtNanos when a read should start refreshing the entry in the
+         *                       background, or {@code expiresAtNanos} to never refresh early
+         */
+        public Entry(Object value, long weight, String group, long generation, long expiresAtNanos,
+                     long refreshAtNanos) {
+            this.value = value;
+            this.weight = weight;
+            this.group = group;
+            this.generation = generation;
+            this.expiresAtNanos = expiresAtNanos;
+            this.refreshAtNanos = refreshAtNanos;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        /**
+         * Size of the response body the value was parsed from, in bytes.
+         */
+        public long getWeight() {
+            return weight;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public long getGeneration() {
+            return generation;
+        }
+
+        public boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+
+        /**
+         * Claim the background refresh of this entry. Returns true for exactly
+         * one caller once the refresh point has passed.
+         */
+        public boolean claimRefresh(long nowNanos) {
+            return refreshAtNanos != expiresAtNanos && nowNanos - refreshAtNanos >= 0
+                    && refreshing.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Per-client retry decisions: applies a {@link RetryPolicy} and tracks the retry budget.
+ */
+final class Retrier {
+    private final RetryPolicy policy;
+    private final TokenBudget budget;
+
+    Retrier(RetryPolicy policy) {
+        this.policy = policy;
+        this.budget = new TokenBudget(policy.getBudgetRatio(), policy.getMaxBudget());
+    }
+
+    RetryPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Credit the budget for a new logical request.
+     */
+    void recordRequest() {
+        if (policy.isEnabled()) {
+            budget.deposit();
+        }
+    }
+
+    /**
+     * Delay in milliseconds before retrying after this response, or -1 to stop.
+     */
+    long delayAfter(Request request, int attempt, Response response) {
+        if (response.isSuccessful() || !canRetry(request, attempt)
+                || !policy.isRetryableStatus(response.code())) {
+            return -1;
+        }
+        long delay = RetryPolicy.parseRetryAfterMillis(response.header("Retry-After"));
+        if (delay > policy.getMaxRetryAfter().toMillis()) {
+            return -1;
+        }
+        if (!budget.tryAcquire()) {
+            return -1;
+        }
+        return delay >= 0 ? delay : policy.backoffMillis(attempt);
+    }
+
+    /**
+     * Delay in milliseconds before retrying after a transport failure, or -1 to stop.
+     */
+    long delayAfter(Request request, int attempt, IOException error) {
+        if (!policy.isRetryOnConnectionFailure() || error instanceof JsonProcessingException
+                || !canRetry(request, attempt) || !budget.tryAcquire()) {
+            return -1;
+        }
+        return policy.backoffMillis(attempt);
+    }
+
+    private boolean canRetry(Request request, int attempt) {
+        return attempt < policy.getMaxAttempts()
+                && policy.isRetryable(request.method(), request.header(RetryPolicy.IDEMPOTENCY_KEY_HEADER));
+    }
+}
@@ -0,0 +1,229 @@
+package com.platform.sdk.common;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy for transient API failures.
+ *
+ * <p>Failed attempts are retried with full-jitter exponential backoff: the delay
+ * before retry {@code n} is uniform in {@code [0, min(maxDelay, baseDelay * 2^(n-1))]},
+ * which spreads retries from many callers instead of letting them stampede.
+ * A {@code Retry-After} header on the response replaces the computed delay.
+ *
+ * <p>Only idempotent methods (GET, HEAD, PUT, DELETE, OPTIONS) are retried, plus
+ * POST and PATCH requests that carry an {@code Idempotency-Key} header. With
+ * {@link Builder#idempotencyKeys(boolean)} enabled (the default) every POST and
+ * PATCH gets a generated key, so calls like {@code InvitationClient.create} can be
+ * retried without creating duplicates on servers that honor the header.
+ *
+ * <p>Each client also holds a retry budget: every request deposits
+ * {@code budgetRatio} tokens (up to {@code maxBudget}) and every retry spends one,
+ * so a sustained outage cannot multiply load by {@code maxAttempts}.
+ */
+public final class RetryPolicy {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+    private static final RetryPolicy NONE = new Builder().maxAttempts(1).idempotencyKeys(false).build();
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxRetryAfter;
+    private final Set<Integer> retryableStatuses;
+    private final boolean retryOnConnectionFailure;
+    private final boolean idempotencyKeys;
+    private final double budgetRatio;
+    private final int maxBudget;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.maxRetryAfter = builder.maxRetryAfter;
+        this.retryableStatuses = Set.copyOf(builder.retryableStatuses);
+        this.retryOnConnectionFailure = builder.retryOnConnectionFailure;
+        this.idempotencyKeys = builder.idempotencyKeys;
+        this.budgetRatio = builder.budgetRatio;
+        this.maxBudget = builder.maxBudget;
+    }
+
+    /**
+     * A policy that never retries. This is the default.
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Three attempts on 408, 429, 502, 503, 504 and connection failures.
+     */
+    public static RetryPolicy defaults() {
+        return new Builder().build();
+    }
+
+    public boolean isEnabled() {
+        return maxAttempts > 1;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public Set<Integer> getRetryableStatuses() {
+        return retryableStatuses;
+    }
+
+    public boolean isRetryOnConnectionFailure() {
+        return retryOnConnectionFailure;
+    }
+
+    public boolean isIdempotencyKeys() {
+        return idempotencyKeys;
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public int getMaxBudget() {
+        return maxBudget;
+    }
+
+    /**
+     * Whether a request with this method and idempotency key may be sent twice.
+     */
+    public boolean isRetryable(String method, String idempotencyKey) {
+        return IDEMPOTENT_METHODS.contains(method) || idempotencyKey != null;
+    }
+
+    public boolean isRetryableStatus(int statusCode) {
+        return retryableStatuses.contains(statusCode);
+    }
+
+    /**
+     * Full-jitter backoff before the given retry (1 for the first retry).
+     */
+    public long backoffMillis(int retry) {
+        long cap = baseDelay.toMillis() << Math.min(retry - 1, 30);
+        cap = Math.min(cap, maxDelay.toMillis());
+        return cap > 0 ? ThreadLocalRandom.current().nextLong(cap + 1) : 0;
+    }
+
+    /**
+     * Parse a Retry-After header given in seconds or as an HTTP date.
+     * Returns -1 if the header is absent or malformed.
+     */
+    public static long parseRetryAfterMillis(String header) {
+        if (header == null || header.isBlank()) {
+            return -1;
+        }
+        String value = header.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Builder for RetryPolicy.
+     */
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(5);
+        private Duration maxRetryAfter = Duration.ofSeconds(30);
+        private Set<Integer> retryableStatuses = Set.of(408, 429, 502, 503, 504);
+        private boolean retryOnConnectionFailure = true;
+        private boolean idempotencyKeys = true;
+        private double budgetRatio = 0.2;
+        private int maxBudget = 10;
+
+        /**
+         * Total attempts including the first one.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Give up instead of waiting when the server asks for a longer pause than this.
+         */
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
+        public Builder retryableStatuses(Set<Integer> retryableStatuses) {
+            this.retryableStatuses = retryableStatuses;
+            return this;
+        }
+
+        public Builder retryOnConnectionFailure(boolean retryOnConnectionFailure) {
+            this.retryOnConnectionFailure = retryOnConnectionFailure;
+            return this;
+        }
+
+        /**
+         * Attach a generated Idempotency-Key header to POST and PATCH requests
+         * so they become retryable.
+         */
+        public Builder idempotencyKeys(boolean idempotencyKeys) {
+            this.idempotencyKeys = idempotencyKeys;
+            return this;
+        }
+
+        /**
+         * Retry tokens earned per request and the most a client can save up.
+         */
+        public Builder budget(double budgetRatio, int maxBudget) {
+            this.budgetRatio = budgetRatio;
+            this.maxBudget = maxBudget;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            if (budgetRatio < 0 || maxBudget < 0) {
+                throw new IllegalArgumentException("retry budget must not be negative");
+            }
+            return new RetryPolicy(this);
+        }
+    }
+}
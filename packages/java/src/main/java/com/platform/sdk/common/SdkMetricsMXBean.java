@@ -0,0 +1,41 @@
+package com.platform.sdk.common;
+
+import java.util.Map;
+
+/**
+ * JMX view of an {@link InMemoryMetrics}, registered by {@link JmxMetrics}.
+ *
+ * <p>Per-endpoint attributes are maps keyed by {@code "GET /roles/{id}"};
+ * latency maps add the status class, as in {@code "GET /roles/{id} 2xx"}.
+ * Pool gauges are -1 when the metrics are not attached to a runtime.
+ */
+public interface SdkMetricsMXBean {
+
+    int getConnectionCount();
+
+    int getIdleConnectionCount();
+
+    int getRunningCalls();
+
+    int getQueuedCalls();
+
+    Map<String, Long> getAttemptCounts();
+
+    Map<String, Long> getLatencyP50Micros();
+
+    Map<String, Long> getLatencyP99Micros();
+
+    Map<String, Long> getLatencyP999Micros();
+
+    Map<String, Long> getLatencyMaxMicros();
+
+    Map<String, Long> getSerializationP99Micros();
+
+    Map<String, Long> getDeserializationP99Micros();
+
+    Map<String, Long> getRetryCounts();
+
+    Map<String, Long> getBytesSent();
+
+    Map<String, Long> getBytesReceived();
+}
@@ -0,0 +1,526 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared transport resources for SDK clients.
+ *
+ * <p>A runtime owns one connection pool, one dispatcher and one configured
+ * {@link ObjectMapper}. Every client built against the same runtime reuses
+ * pooled connections and Jackson's serializer caches, so TLS handshakes and
+ * type introspection are paid once per process rather than once per client.
+ *
+ * <pre>{@code
+ * SdkRuntime runtime = new SdkRuntime.Builder()
+ *     .maxIdleConnections(32)
+ *     .build();
+ *
+ * UserClient users = new UserClient.Builder()
+ *     .baseUrl("https://api.example.com")
+ *     .runtime(runtime)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Clients built without an explicit runtime use {@link #shared()}.
+ */
+public final class SdkRuntime implements AutoCloseable {
+    private final OkHttpClient okHttpClient;
+    private final ObjectMapper objectMapper;
+    private final JsonCodecRegistry codecs;
+    private final RetryPolicy retryPolicy;
+    private final HedgePolicy hedgePolicy;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RateLimits rateLimits;
+    private final ConcurrencyLimits concurrencyLimits;
+    private final Bulkheads bulkheads;
+    private final BatchConfig batchConfig;
+    private final SingleFlight singleFlight;
+    private final ValidatorCache validatorCache;
+    private final ResponseCache responseCache;
+    private final CachePolicy cachePolicy;
+    private final MetricsRecorder metrics;
+    private final List<RequestInterceptor> interceptors;
+    private final boolean usesVirtualThreads;
+    private final Map<Duration, OkHttpClient> clientsByTimeout = new ConcurrentHashMap<>();
+
+    private SdkRuntime(Builder builder) {
+        ExecutorService executor = builder.virtualThreads ? VirtualThreads.newExecutor() : null;
+        Dispatcher dispatcher = executor != null ? new Dispatcher(executor) : new Dispatcher();
+        dispatcher.setMaxRequests(builder.maxRequests);
+        dispatcher.setMaxRequestsPerHost(builder.maxRequestsPerHost);
+
+        OkHttpClient.Builder okHttp = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(builder.maxIdleConnections,
+                        builder.keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher);
+        if (builder.metrics != null) {
+            okHttp.eventListener(new MetricsEventListener(builder.metrics));
+        }
+        builder.okHttpInterceptors.forEach(okHttp::addInterceptor);
+        this.okHttpClient = okHttp.build();
+        if (builder.objectMapper != null) {
+            this.objectMapper = builder.objectMapper;
+        } else if (builder.lambdaAccessors) {
+            this.objectMapper = createObjectMapper().registerModule(new BlackbirdModule());
+        } else {
+            this.objectMapper = createObjectMapper();
+        }
+        this.codecs = new JsonCodecRegistry(objectMapper);
+        this.retryPolicy = builder.retryPolicy;
+        this.hedgePolicy = builder.hedgePolicy;
+        this.circuitBreakers = builder.circuitBreaker != null
+                ? new CircuitBreakerRegistry(builder.circuitBreaker) : null;
+        this.rateLimits = builder.rateLimits;
+        this.concurrencyLimits = builder.concurrencyLimit != null
+                ? new ConcurrencyLimits(builder.concurrencyLimit) : null;
+        this.bulkheads = builder.bulkheads;
+        if (bulkheads != null) {
+            bulkheads.bind(executor != null, builder.keepAlive);
+        }
+        this.batchConfig = builder.batching;
+        this.singleFlight = builder.coalesceGets ? new SingleFlight() : null;
+        this.validatorCache = builder.validatorCacheSize > 0 ? new ValidatorCache(builder.validatorCacheSize) : null;
+        this.responseCache = builder.responseCache;
+        this.cachePolicy = builder.cachePolicy;
+        this.metrics = builder.metrics;
+        this.interceptors = List.copyOf(builder.interceptors);
+        this.usesVirtualThreads = executor != null;
+        if (metrics != null) {
+            metrics.bindPool(this::getPoolStats);
+        }
+    }
+
+    /**
+     * Get the process-wide default runtime.
+     */
+    public static SdkRuntime shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Create an ObjectMapper configured the way the platform API expects.
+     */
+    public static ObjectMapper createObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public OkHttpClient getOkHttpClient() {
+        return okHttpClient;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Get the reader/writer cache shared by clients on this runtime.
+     */
+    public JsonCodecRegistry getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * Get the retry policy applied by clients on this runtime.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Get the hedging policy applied to GET requests by clients on this runtime.
+     */
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /**
+     * Get the per-endpoint circuit breakers, or null if breakers are disabled.
+     */
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    /**
+     * Get the client-side rate limits, or null if requests are not limited.
+     */
+    public RateLimits getRateLimits() {
+        return rateLimits;
+    }
+
+    /**
+     * Get the adaptive concurrency limiters, or null if concurrency is not limited.
+     */
+    public ConcurrencyLimits getConcurrencyLimits() {
+        return concurrencyLimits;
+    }
+
+    /**
+     * Get the bulkheads, or null if all requests share the runtime's capacity.
+     */
+    public Bulkheads getBulkheads() {
+        return bulkheads;
+    }
+
+    /**
+     * Get the request batching config, or null if every call is sent on its own.
+     */
+    public BatchConfig getBatchConfig() {
+        return batchConfig;
+    }
+
+    /**
+     * Get the registry of in-flight GETs, or null if GETs are not coalesced.
+     */
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Get the conditional request cache, or null if it is disabled.
+     */
+    public ValidatorCache getValidatorCache() {
+        return validatorCache;
+    }
+
+    /**
+     * Get the response cache, or null if results are not cached.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Get the policy deciding which results the response cache keeps.
+     */
+    public CachePolicy getCachePolicy() {
+        return cachePolicy;
+    }
+
+    /**
+     * Get the recorder that receives request measurements, or null if none.
+     */
+    public MetricsRecorder getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Get the interceptors run around every attempt, in order.
+     */
+    public List<RequestInterceptor> getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * Read the connection pool and dispatcher gauges.
+     */
+    public PoolStats getPoolStats() {
+        ConnectionPool pool = okHttpClient.connectionPool();
+        Dispatcher dispatcher = okHttpClient.dispatcher();
+        return new PoolStats(pool.connectionCount(), pool.idleConnectionCount(), dispatcher.runningCallsCount(),
+                dispatcher.queuedCallsCount(), dispatcher.getMaxRequests(), dispatcher.getMaxRequestsPerHost());
+    }
+
+    /**
+     * Get the executor that runs async calls. Blocking SDK calls can be submitted
+     * here too, which puts them on virtual threads when {@link #usesVirtualThreads()}.
+     */
+    public ExecutorService getExecutor() {
+        return okHttpClient.dispatcher().executorService();
+    }
+
+    /**
+     * Whether this runtime's dispatcher runs on virtual threads. False when virtual
+     * threads were not requested or the JVM does not support them (before JDK 21).
+     */
+    public boolean usesVirtualThreads() {
+        return usesVirtualThreads;
+    }
+
+    /**
+     * Get an OkHttpClient with the given timeouts that shares this runtime's
+     * connection pool and dispatcher.
+     */
+    public OkHttpClient okHttpClient(Duration timeout) {
+        return clientsByTimeout.computeIfAbsent(timeout, t -> okHttpClient.newBuilder()
+                .connectTimeout(t.toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(t.toMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(t.toMillis(), TimeUnit.MILLISECONDS)
+                .build());
+    }
+
+    /**
+     * Release pooled connections and stop the dispatcher threads.
+     * Clients built against this runtime must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (this == SharedHolder.INSTANCE) {
+            throw new IllegalStateException("The shared runtime cannot be closed");
+        }
+        okHttpClient.dispatcher().executorService().shutdown();
+        okHttpClient.connectionPool().evictAll();
+        if (bulkheads != null) {
+            bulkheads.close();
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final SdkRuntime INSTANCE = new Builder().build();
+    }
+
+    /**
+     * Builder for SdkRuntime.
+     */
+    public static class Builder {
+        private int maxIdleConnections = 32;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private int maxRequests = 64;
+        private int maxRequestsPerHost = 5;
+        private ObjectMapper objectMapper;
+        private boolean lambdaAccessors;
+        private boolean virtualThreads;
+        private RetryPolicy retryPolicy = RetryPolicy.none();
+        private HedgePolicy hedgePolicy = HedgePolicy.none();
+        private CircuitBreakerConfig circuitBreaker;
+        private RateLimits rateLimits;
+        private ConcurrencyLimitConfig concurrencyLimit;
+        private Bulkheads bulkheads;
+        private BatchConfig batching;
+        private boolean coalesceGets;
+        private int validatorCacheSize;
+        private ResponseCache responseCache;
+        private CachePolicy cachePolicy;
+        private MetricsRecorder metrics;
+        private final List<RequestInterceptor> interceptors = new ArrayList<>();
+        private final List<Interceptor> okHttpInterceptors = new ArrayList<>();
+
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Most async calls in flight at once across all hosts. Defaults to
+         * OkHttp's 64.
+         */
+        public Builder maxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Most async calls in flight at once to one host; further calls queue
+         * in the dispatcher. Defaults to OkHttp's 5, which is low for clients
+         * that fan out many async calls to the same API host.
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Bind models through accessors generated at run time with
+         * {@code LambdaMetafactory} (Jackson's Blackbird module) instead of
+         * reflective calls, which speeds up steady-state decoding. The
+         * accessors are generated on first use of each model, so this does
+         * not help startup and does not work in native images. Applies to the
+         * default mapper only; register the module yourself on a mapper passed
+         * to {@link #objectMapper(ObjectMapper)}.
+         */
+        public Builder lambdaAccessors(boolean lambdaAccessors) {
+            this.lambdaAccessors = lambdaAccessors;
+            return this;
+        }
+
+        /**
+         * Run the dispatcher on virtual threads when the JVM supports them (JDK 21+).
+         * On older JVMs the runtime silently keeps its platform thread pool.
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Retry transient failures on every client built against this runtime.
+         * Each client keeps its own retry budget.
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.none();
+            return this;
+        }
+
+        /**
+         * Hedge slow GET requests on every client built against this runtime.
+         * Each client keeps its own latency statistics and hedge budget.
+         */
+        public Builder hedgePolicy(HedgePolicy hedgePolicy) {
+            this.hedgePolicy = hedgePolicy != null ? hedgePolicy : HedgePolicy.none();
+            return this;
+        }
+
+        /**
+         * Guard every endpoint template with its own circuit breaker.
+         * Breakers are shared by all clients on the runtime.
+         */
+        public Builder circuitBreaker(CircuitBreakerConfig circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Pace requests from every client on this runtime. Permits are shared
+         * by all of them, so use one runtime per API key.
+         */
+        public Builder rateLimits(RateLimits rateLimits) {
+            this.rateLimits = rateLimits;
+            return this;
+        }
+
+        /**
+         * Adapt the number of in-flight requests per endpoint group to what the
+         * backend sustains. Limiters are shared by all clients on the runtime.
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitConfig concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Give endpoint groups fixed slots, threads and connections of their
+         * own, so one slow subsystem cannot starve the others. A Bulkheads
+         * instance belongs to a single runtime.
+         */
+        public Builder bulkheads(Bulkheads bulkheads) {
+            this.bulkheads = bulkheads;
+            return this;
+        }
+
+        /**
+         * Pack concurrent calls to the configured endpoints into batch
+         * requests, one round trip per batch. Each client batches its own
+         * calls against its own base URL.
+         */
+        public Builder batching(BatchConfig batching) {
+            this.batching = batching;
+            return this;
+        }
+
+        /**
+         * Share one network call among identical concurrent GETs (same URL,
+         * query, credentials and result type). Callers then receive the same
+         * result instance and must treat it as read-only.
+         */
+        public Builder coalesceGets(boolean coalesceGets) {
+            this.coalesceGets = coalesceGets;
+            return this;
+        }
+
+        /**
+         * Keep up to {@code maxEntries} GET results with their ETag or
+         * Last-Modified validators and revalidate them with conditional
+         * requests. Zero, the default, disables the cache.
+         */
+        public Builder validatorCache(int maxEntries) {
+            this.validatorCacheSize = maxEntries;
+            return this;
+        }
+
+        /**
+         * Serve GET results from {@code cache} for the TTLs in {@code policy}.
+         * Successful writes drop the cached reads of the resource they touch;
+         * query-style POSTs such as {@code /permissions/check} do not.
+         *
+         * <p>A hit returns the same object to every caller, as coalesced GETs
+         * do, so cached results must be treated as read-only. Modify a copy.
+         */
+        public Builder responseCache(ResponseCache cache, CachePolicy policy) {
+            this.responseCache = cache;
+            this.cachePolicy = policy;
+            return this;
+        }
+
+        /**
+         * Report latency, status, retries, body sizes and JSON timings of every
+         * client on this runtime, plus pool gauges, to {@code metrics}.
+         */
+        public Builder metrics(MetricsRecorder metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Run {@code interceptor} around every attempt of every client on this
+         * runtime. Interceptors run in the order they are added.
+         */
+        public Builder interceptor(RequestInterceptor interceptor) {
+            if (interceptor == null) {
+                throw new IllegalArgumentException("interceptor must not be null");
+            }
+            this.interceptors.add(interceptor);
+            return this;
+        }
+
+        /**
+         * Add an OkHttp application interceptor to the runtime's HTTP client,
+         * e.g. for wire logging, or to answer requests in memory in tests and
+         * benchmarks. Prefer {@link #interceptor(RequestInterceptor)} for hooks
+         * that only observe calls.
+         */
+        public Builder okHttpInterceptor(Interceptor interceptor) {
+            if (interceptor == null) {
+                throw new IllegalArgumentException("interceptor must not be null");
+            }
+            this.okHttpInterceptors.add(interceptor);
+            return this;
+        }
+
+        public SdkRuntime build() {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("maxIdleConnections must not be negative");
+            }
+            if ((responseCache == null) != (cachePolicy == null)) {
+                throw new IllegalArgumentException("responseCache requires both a cache and a policy");
+            }
+            if (validatorCacheSize < 0) {
+                throw new IllegalArgumentException("validatorCache size must not be negative");
+            }
+            if (maxRequests < 1 || maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("maxRequests and maxRequestsPerHost must be positive");
+            }
+            if (lambdaAccessors && objectMapper != null) {
+                throw new IllegalArgumentException("lambdaAccessors applies to the default mapper only");
+            }
+            return new SdkRuntime(this);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.platform.sdk.common;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-flight GET requests of one runtime, so identical concurrent GETs share a
+ * single network call.
+ *
+ * <p>Requests are identical when they have the same URL (including the query
+ * string), the same {@code Authorization} header and the same result type.
+ * Every caller receives the same result instance, so callers must not mutate
+ * what they get back. Only requests that are in flight are shared; nothing is
+ * cached once the call completes.
+ */
+public final class SingleFlight {
+    private final Map<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    SingleFlight() {
+    }
+
+    /**
+     * Register {@code flight} for the key, or return the flight already running for it.
+     */
+    CompletableFuture<Object> join(String key, CompletableFuture<Object> flight) {
+        CompletableFuture<Object> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCount.increment();
+        }
+        return existing;
+    }
+
+    void land(String key, CompletableFuture<Object> flight) {
+        flights.remove(key, flight);
+    }
+
+    /**
+     * Number of GETs currently in flight.
+     */
+    public int getInFlight() {
+        return flights.size();
+    }
+
+    /**
+     * Number of calls that were served by another caller's request.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+}
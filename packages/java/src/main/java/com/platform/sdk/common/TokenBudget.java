@@ -0,0 +1,42 @@
+package com.platform.sdk.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Earn-and-spend budget for extra requests such as retries and hedges.
+ *
+ * <p>Every logical request deposits {@code ratio} tokens, up to {@code max}, and
+ * every extra request spends one whole token. Tokens are kept in thousandths so
+ * the balance is a single atomic long. The budget starts full.
+ */
+final class TokenBudget {
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    TokenBudget(double ratio, int max) {
+        this.deposit = Math.round(ratio * TOKEN);
+        this.maxBalance = (long) max * TOKEN;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    void deposit() {
+        if (deposit > 0) {
+            balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+        }
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.platform.sdk.common;
+
+/**
+ * Supplies the bearer token for each request.
+ *
+ * <p>The provider is called on the thread that issues the request, once per
+ * request, so it can pick the credential of the current caller (a tenant, a
+ * user session) and one client instance can serve all of them. Implementations
+ * must be thread-safe and should not block; return {@code null} to send the
+ * request without an {@code Authorization} header.
+ */
+@FunctionalInterface
+public interface TokenProvider {
+
+    String getAccessToken();
+
+    /**
+     * A provider that always returns the given token.
+     */
+    static TokenProvider of(String accessToken) {
+        return () -> accessToken;
+    }
+}
@@ -0,0 +1,166 @@
+package com.platform.sdk.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context identifiers of one span, as carried by the
+ * {@code traceparent} and {@code tracestate} headers.
+ *
+ * <pre>{@code
+ * // On an inbound request
+ * TraceContext parent = TraceContext.parse(request.getHeader("traceparent"), request.getHeader("tracestate"));
+ * }</pre>
+ */
+public final class TraceContext {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final boolean sampled;
+    private final String traceState;
+
+    private TraceContext(String traceId, String spanId, String parentSpanId, boolean sampled, String traceState) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.sampled = sampled;
+        this.traceState = traceState;
+    }
+
+    /**
+     * Parse a {@code traceparent} header and the optional {@code tracestate}
+     * that goes with it. Returns null if the traceparent is missing or invalid,
+     * in which case the receiver starts a new trace.
+     */
+    public static TraceContext parse(String traceparent, String tracestate) {
+        if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH) {
+            return null;
+        }
+        String version = traceparent.substring(0, 2);
+        if (!isHex(version) || "ff".equals(version)
+                || (traceparent.length() > TRACEPARENT_LENGTH
+                && ("00".equals(version) || traceparent.charAt(TRACEPARENT_LENGTH) != '-'))
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return null;
+        }
+        String traceId = traceparent.substring(3, 35);
+        String spanId = traceparent.substring(36, 52);
+        String flags = traceparent.substring(53, 55);
+        if (!isHex(traceId) || isZero(traceId) || !isHex(spanId) || isZero(spanId) || !isHex(flags)) {
+            return null;
+        }
+        boolean sampled = (Character.digit(flags.charAt(1), 16) & 1) != 0;
+        String state = tracestate != null && !tracestate.isBlank() ? tracestate.trim() : null;
+        return new TraceContext(traceId, spanId, null, sampled, state);
+    }
+
+    /**
+     * Start a new, sampled trace.
+     */
+    public static TraceContext newRoot() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new TraceContext(hex(nonZero(random), random.nextLong()), hex(nonZero(random)), null, true, null);
+    }
+
+    /**
+     * A child span in the same trace, with the same sampling decision and trace state.
+     */
+    public TraceContext newChild() {
+        return new TraceContext(traceId, hex(nonZero(ThreadLocalRandom.current())), spanId, sampled, traceState);
+    }
+
+    /**
+     * The {@code traceparent} header value for this span.
+     */
+    public String toTraceparent() {
+        return new StringBuilder(TRACEPARENT_LENGTH)
+                .append("00-").append(traceId).append('-').append(spanId).append(sampled ? "-01" : "-00")
+                .toString();
+    }
+
+    /**
+     * 32 lower-case hex characters.
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * 16 lower-case hex characters.
+     */
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Span id of the parent, or null for a root or a parsed remote context.
+     */
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * The vendor-specific {@code tracestate} value, or null.
+     */
+    public String getTraceState() {
+        return traceState;
+    }
+
+    @Override
+    public String toString() {
+        return toTraceparent();
+    }
+
+    private static long nonZero(ThreadLocalRandom random) {
+        long value;
+        do {
+            value = random.nextLong();
+        } while (value == 0);
+        return value;
+    }
+
+    private static String hex(long value) {
+        char[] chars = new char[16];
+        writeHex(value, chars, 0);
+        return new String(chars);
+    }
+
+    private static String hex(long high, long low) {
+        char[] chars = new char[32];
+        writeHex(high, chars, 0);
+        writeHex(low, chars, 16);
+        return new String(chars);
+    }
+
+    private static void writeHex(long value, char[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+
+    private static boolean isHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package com.platform.sdk.common;
+
+/**
+ * Minimal tracing hooks used by {@link TracingInterceptor}, so SDK calls can
+ * join an application's traces without a tracing library dependency.
+ *
+ * <p>Bridge it to whatever the application uses: return the caller's current
+ * span from {@link #currentContext()} and forward finished spans from
+ * {@link #record(ClientSpan)} to its exporter.
+ */
+public interface Tracer {
+
+    /**
+     * Trace context of the span the calling thread is working in, or null to
+     * start a new trace. Called once per call, on the thread that makes it.
+     */
+    TraceContext currentContext();
+
+    /**
+     * A sampled client span finished. Called on request and dispatcher
+     * threads; must be cheap and must not throw.
+     */
+    void record(ClientSpan span);
+}
@@ -0,0 +1,62 @@
+package com.platform.sdk.common;
+
+/**
+ * Propagates W3C Trace Context on every attempt and reports each attempt as a
+ * client span.
+ *
+ * <p>Each attempt becomes a child of the span that was current on the caller's
+ * thread when the call was made (or the root of a new trace), even when the
+ * attempt is a retry or hedge sent from another thread: its
+ * {@code traceparent} and the parent's {@code tracestate}
+ * are sent with the request, and the finished span is handed to the
+ * {@link Tracer} if it is sampled. The cost per attempt is a span id, two
+ * short strings, a copy of the request and the span record.
+ *
+ * <pre>{@code
+ * SdkRuntime runtime = new SdkRuntime.Builder()
+ *     .interceptor(new TracingInterceptor(tracer))
+ *     .build();
+ * }</pre>
+ */
+public final class TracingInterceptor implements RequestInterceptor {
+    public static final String TRACEPARENT = "traceparent";
+    public static final String TRACESTATE = "tracestate";
+
+    private final Tracer tracer;
+
+    public TracingInterceptor(Tracer tracer) {
+        if (tracer == null) {
+            throw new IllegalArgumentException("tracer is required");
+        }
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object capture() {
+        return tracer.currentContext();
+    }
+
+    @Override
+    public Object before(Exchange exchange) {
+        return before(exchange, tracer.currentContext());
+    }
+
+    @Override
+    public Object before(Exchange exchange, Object captured) {
+        TraceContext parent = (TraceContext) captured;
+        TraceContext span = parent != null ? parent.newChild() : TraceContext.newRoot();
+        exchange.setRequestHeader(TRACEPARENT, span.toTraceparent());
+        if (span.getTraceState() != null) {
+            exchange.setRequestHeader(TRACESTATE, span.getTraceState());
+        }
+        return span;
+    }
+
+    @Override
+    public void after(Exchange exchange, Object state) {
+        TraceContext span = (TraceContext) state;
+        if (span.isSampled()) {
+            tracer.record(new ClientSpan(span, exchange));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.platform.sdk.common;
+
+import okhttp3.Response;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parsed GET results kept with their {@code ETag} and {@code Last-Modified}
+ * validators, so repeated reads can be sent as conditional requests and a
+ * {@code 304 Not Modified} answer reuses the cached object instead of
+ * downloading and parsing the body again.
+ *
+ * <p>Entries are keyed like coalesced GETs (URL, credentials and result type)
+ * and evicted least recently used beyond {@code maxEntries}. Cached objects are
+ * handed to every caller that revalidates them, so treat them as read-only.
+ */
+public final class ValidatorCache {
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder notModifiedCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    ValidatorCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ValidatorCache.this.maxEntries;
+            }
+        };
+    }
+
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Remember a freshly parsed result, or forget the key if the response has no validators.
+     */
+    void store(String key, Response response, Object value, long weight) {
+        missCount.increment();
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        synchronized (this) {
+            if (etag == null && lastModified == null) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new Entry(etag, lastModified, value, weight));
+            }
+        }
+    }
+
+    void recordNotModified() {
+        notModifiedCount.increment();
+    }
+
+    /**
+     * Remove every entry.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Number of reads answered with 304 and served from the cache.
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.sum();
+    }
+
+    /**
+     * Number of reads that downloaded a full body.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * A cached result and the validators it was served with.
+     */
+    static final class Entry {
+        final String etag;
+        final String lastModified;
+        final Object value;
+        final long weight;
+
+        Entry(String etag, String lastModified, Object value, long weight) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -2,10 +2,15 @@ package com.platform.sdk.email;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for email operations.
@@ -14,16 +19,30 @@ public class EmailClient {
     private final HttpClient httpClient;
 
     private EmailClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(EmailSendResult.class, EmailTemplate.class,
+                TemplateListResponse.class, EmailConfig.class, EmailTestResult.class);
+        this.httpClient.getCodecs().warmWriters(SendEmailRequest.class, SendTemplateRequest.class,
+                CreateTemplateRequest.class, UpdateTemplateRequest.class);
     }
 
     public void setAccessToken(String accessToken) {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // Email Sending Operations
 
     public EmailSendResult send(SendEmailRequest request) throws ApiException {
@@ -62,6 +81,17 @@ public class EmailClient {
         return listTemplates(null);
     }
 
+    public PagedIterable<EmailTemplate> listAllTemplates(ListTemplatesParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/email/templates", TemplateListResponse.class, query));
+    }
+
+    public Stream<EmailTemplate> streamTemplates(ListTemplatesParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/email/templates", EmailTemplate.class, queryParams);
+    }
+
     public EmailTemplate getTemplate(String templateId) throws ApiException {
         try {
             return httpClient.get("/email/templates/" + templateId, EmailTemplate.class);
@@ -146,13 +176,45 @@ public class EmailClient {
         return testConfig(null);
     }
 
+    // Async Operations
+
+    public CompletableFuture<EmailSendResult> sendAsync(SendEmailRequest request) {
+        return HttpClient.mapException(httpClient.postAsync("/email/send", request, EmailSendResult.class),
+                e -> e.getStatusCode() == 503 ? new EmailConfigException("Email service unavailable") : e);
+    }
+
+    public CompletableFuture<EmailSendResult> sendTemplateAsync(SendTemplateRequest request) {
+        return HttpClient.mapException(httpClient.postAsync("/email/send-template", request, EmailSendResult.class),
+                e -> {
+                    if (e.getStatusCode() == 404) {
+                        return new TemplateNotFoundException(request.getTemplateSlug());
+                    }
+                    if (e.getStatusCode() == 503) {
+                        return new EmailConfigException("Email service unavailable");
+                    }
+                    return e;
+                });
+    }
+
+    public CompletableFuture<TemplateListResponse> listTemplatesAsync(ListTemplatesParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/email/templates", TemplateListResponse.class, queryParams);
+    }
+
+    public CompletableFuture<EmailTemplate> getTemplateAsync(String templateId) {
+        return HttpClient.mapException(httpClient.getAsync("/email/templates/" + templateId, EmailTemplate.class),
+                e -> e.getStatusCode() == 404 ? new TemplateNotFoundException(templateId) : e);
+    }
+
     /**
      * Builder for EmailClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -164,11 +226,28 @@ public class EmailClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public EmailClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
@@ -2,10 +2,15 @@ package com.platform.sdk.invitations;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for invitation operations.
@@ -14,10 +19,17 @@ public class InvitationClient {
     private final HttpClient httpClient;
 
     private InvitationClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(Invitation.class, InvitationListResponse.class,
+                BulkInvitationResult.class, ValidatedInvitation.class, AcceptInvitationResponse.class,
+                CleanupResult.class);
+        this.httpClient.getCodecs().warmWriters(CreateInvitationRequest.class, BulkInvitationRequest.class);
     }
 
     /**
@@ -27,6 +39,13 @@ public class InvitationClient {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // Invitation CRUD Operations
 
     /**
@@ -44,6 +63,25 @@ public class InvitationClient {
         return list(null);
     }
 
+    /**
+     * Iterate over all invitations matching the params, starting at their page and
+     * fetching each next page while the current one is consumed.
+     */
+    public PagedIterable<InvitationSummary> listAll(ListInvitationsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/invitations", InvitationListResponse.class, query));
+    }
+
+    /**
+     * Stream all invitations matching the params as newline-delimited JSON, decoded
+     * as they arrive. Close the stream to release its connection.
+     */
+    public Stream<InvitationSummary> stream(ListInvitationsParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/invitations", InvitationSummary.class, queryParams);
+    }
+
     /**
      * Get an invitation by ID.
      */
@@ -185,13 +223,40 @@ public class InvitationClient {
         return cleanup(null, null);
     }
 
+    // Async Operations
+
+    /**
+     * Asynchronous variant of {@link #list(ListInvitationsParams)}.
+     */
+    public CompletableFuture<InvitationListResponse> listAsync(ListInvitationsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/invitations", InvitationListResponse.class, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     */
+    public CompletableFuture<Invitation> getAsync(String invitationId) {
+        return HttpClient.mapException(httpClient.getAsync("/invitations/" + invitationId, Invitation.class),
+                e -> e.getStatusCode() == 404 ? new InvitationNotFoundException(invitationId) : e);
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(CreateInvitationRequest)}.
+     */
+    public CompletableFuture<Invitation> createAsync(CreateInvitationRequest request) {
+        return httpClient.postAsync("/invitations", request, Invitation.class);
+    }
+
     /**
      * Builder for InvitationClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -203,11 +268,28 @@ public class InvitationClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public InvitationClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
@@ -9,6 +9,8 @@ import java.util.Map;
 public class ListInvitationsParams {
     private Integer page;
     private Integer pageSize;
+    private String after;
+    private String before;
     private InvitationStatus status;
     private InvitationType invitationType;
     private String targetId;
@@ -35,6 +37,28 @@ public class ListInvitationsParams {
         this.pageSize = pageSize;
     }
 
+    /**
+     * Cursor after which to return items, taken from {@code Pagination.getNextCursor()}.
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    /**
+     * Cursor before which to return items, taken from {@code Pagination.getPreviousCursor()}.
+     */
+    public String getBefore() {
+        return before;
+    }
+
+    public void setBefore(String before) {
+        this.before = before;
+    }
+
     public InvitationStatus getStatus() {
         return status;
     }
@@ -87,6 +111,8 @@ public class ListInvitationsParams {
         Map<String, String> params = new HashMap<>();
         if (page != null) params.put("page", page.toString());
         if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (after != null) params.put("after", after);
+        if (before != null) params.put("before", before);
         if (status != null) params.put("status", status.getValue());
         if (invitationType != null) params.put("invitation_type", invitationType.getValue());
         if (targetId != null) params.put("target_id", targetId);
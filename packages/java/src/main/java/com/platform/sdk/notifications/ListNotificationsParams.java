@@ -9,6 +9,8 @@ import java.util.Map;
 public class ListNotificationsParams {
     private Integer page;
     private Integer pageSize;
+    private String after;
+    private String before;
     private String status;
     private String category;
     private String type;
@@ -26,6 +28,22 @@ public class ListNotificationsParams {
         return this;
     }
 
+    /**
+     * Return the items after this cursor, taken from {@code Pagination.getNextCursor()}.
+     */
+    public ListNotificationsParams after(String after) {
+        this.after = after;
+        return this;
+    }
+
+    /**
+     * Return the items before this cursor, taken from {@code Pagination.getPreviousCursor()}.
+     */
+    public ListNotificationsParams before(String before) {
+        this.before = before;
+        return this;
+    }
+
     public ListNotificationsParams status(String status) {
         this.status = status;
         return this;
@@ -49,6 +67,14 @@ public class ListNotificationsParams {
         return pageSize;
     }
 
+    public String getAfter() {
+        return after;
+    }
+
+    public String getBefore() {
+        return before;
+    }
+
     public String getStatus() {
         return status;
     }
@@ -68,6 +94,8 @@ public class ListNotificationsParams {
         Map<String, String> params = new HashMap<>();
         if (page != null) params.put("page", page.toString());
         if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (after != null) params.put("after", after);
+        if (before != null) params.put("before", before);
         if (status != null) params.put("status", status);
         if (category != null) params.put("category", category);
         if (type != null) params.put("type", type);
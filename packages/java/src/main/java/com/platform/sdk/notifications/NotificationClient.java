@@ -3,10 +3,15 @@ package com.platform.sdk.notifications;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for notification operations.
@@ -15,10 +20,17 @@ public class NotificationClient {
     private final HttpClient httpClient;
 
     private NotificationClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(Notification.class, NotificationListResponse.class,
+                UnreadCountResponse.class, NotificationPreferences.class, RegisteredDevice.class);
+        this.httpClient.getCodecs().warmReaders(new TypeReference<List<RegisteredDevice>>() {});
+        this.httpClient.getCodecs().warmWriters(UpdatePreferencesRequest.class);
     }
 
     /**
@@ -28,6 +40,13 @@ public class NotificationClient {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     /**
      * List notifications with optional filtering and pagination.
      */
@@ -43,6 +62,25 @@ public class NotificationClient {
         return list(null);
     }
 
+    /**
+     * Iterate over all notifications matching the params, starting at their page and
+     * fetching each next page while the current one is consumed.
+     */
+    public PagedIterable<Notification> listAll(ListNotificationsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/api/notifications", NotificationListResponse.class, query));
+    }
+
+    /**
+     * Stream all notifications matching the params as newline-delimited JSON, decoded
+     * as they arrive. Close the stream to release its connection.
+     */
+    public Stream<Notification> stream(ListNotificationsParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/api/notifications", Notification.class, queryParams);
+    }
+
     /**
      * Get a notification by ID.
      */
@@ -118,13 +156,39 @@ public class NotificationClient {
         httpClient.delete("/api/notifications/devices/" + deviceId);
     }
 
+    // Async Operations
+
+    /**
+     * Asynchronous variant of {@link #list(ListNotificationsParams)}.
+     */
+    public CompletableFuture<NotificationListResponse> listAsync(ListNotificationsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/api/notifications", NotificationListResponse.class, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     */
+    public CompletableFuture<Notification> getAsync(String notificationId) {
+        return httpClient.getAsync("/api/notifications/" + notificationId, Notification.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUnreadCount()}.
+     */
+    public CompletableFuture<UnreadCountResponse> getUnreadCountAsync() {
+        return httpClient.getAsync("/api/notifications/unread-count", UnreadCountResponse.class);
+    }
+
     /**
      * Builder for NotificationClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -136,11 +200,28 @@ public class NotificationClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public NotificationClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
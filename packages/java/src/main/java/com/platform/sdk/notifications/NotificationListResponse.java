@@ -1,5 +1,6 @@
 package com.platform.sdk.notifications;
 
+import com.platform.sdk.common.Page;
 import com.platform.sdk.common.Pagination;
 
 import java.util.List;
@@ -7,13 +8,14 @@ import java.util.List;
 /**
  * Response containing a list of notifications with pagination.
  */
-public class NotificationListResponse {
+public class NotificationListResponse implements Page<Notification> {
     private List<Notification> data;
     private Pagination pagination;
 
     public NotificationListResponse() {
     }
 
+    @Override
     public List<Notification> getData() {
         return data;
     }
@@ -29,4 +31,19 @@ public class NotificationListResponse {
     public void setPagination(Pagination pagination) {
         this.pagination = pagination;
     }
+
+    @Override
+    public boolean hasNextPage() {
+        return pagination != null && pagination.hasNextPage();
+    }
+
+    @Override
+    public int totalPages() {
+        return pagination != null ? pagination.getTotalPages() : 0;
+    }
+
+    @Override
+    public String nextCursor() {
+        return pagination != null ? pagination.getNextCursor() : null;
+    }
 }
@@ -2,10 +2,15 @@ package com.platform.sdk.permissions;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for role and permission operations.
@@ -14,10 +19,16 @@ public class RoleClient {
     private final HttpClient httpClient;
 
     private RoleClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(Role.class, RoleListResponse.class, UserRolesResponse.class,
+                PermissionCheckResult.class);
+        this.httpClient.getCodecs().warmWriters(CreateRoleRequest.class, UpdateRoleRequest.class);
     }
 
     /**
@@ -27,6 +38,13 @@ public class RoleClient {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // Role CRUD Operations
 
     /**
@@ -44,6 +62,25 @@ public class RoleClient {
         return list(null);
     }
 
+    /**
+     * Iterate over all roles matching the params, starting at their page and
+     * fetching each next page while the current one is consumed.
+     */
+    public PagedIterable<RoleSummary> listAll(ListRolesParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/roles", RoleListResponse.class, query));
+    }
+
+    /**
+     * Stream all roles matching the params as newline-delimited JSON, decoded
+     * as they arrive. Close the stream to release its connection.
+     */
+    public Stream<RoleSummary> stream(ListRolesParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/roles", RoleSummary.class, queryParams);
+    }
+
     /**
      * Get a role by ID.
      */
@@ -227,13 +264,69 @@ public class RoleClient {
                 .allMatch(required -> userPermissions.stream().anyMatch(p -> matchesPermission(p, required)));
     }
 
+    // Async Operations
+
+    /**
+     * Asynchronous variant of {@link #list(ListRolesParams)}.
+     */
+    public CompletableFuture<RoleListResponse> listAsync(ListRolesParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/roles", RoleListResponse.class, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     */
+    public CompletableFuture<Role> getAsync(String roleId) {
+        return HttpClient.mapException(httpClient.getAsync("/roles/" + roleId, Role.class),
+                e -> e.getStatusCode() == 404 ? new RoleNotFoundException(roleId) : e);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getBySlug(String)}.
+     */
+    public CompletableFuture<Role> getBySlugAsync(String slug) {
+        return HttpClient.mapException(httpClient.getAsync("/roles/slug/" + slug, Role.class),
+                e -> e.getStatusCode() == 404 ? new RoleNotFoundException(slug) : e);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUserRoles(String)}.
+     */
+    public CompletableFuture<UserRolesResponse> getUserRolesAsync(String userId) {
+        return httpClient.getAsync("/users/" + userId + "/roles", UserRolesResponse.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #checkPermission(String, String, String)}.
+     */
+    public CompletableFuture<PermissionCheckResult> checkPermissionAsync(String userId, String permission,
+                                                                         String resourceId) {
+        Map<String, String> body = new java.util.HashMap<>();
+        body.put("user_id", userId);
+        body.put("permission", permission);
+        if (resourceId != null) {
+            body.put("resource_id", resourceId);
+        }
+        return httpClient.postAsync("/permissions/check", body, PermissionCheckResult.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #checkPermission(String, String)}.
+     */
+    public CompletableFuture<PermissionCheckResult> checkPermissionAsync(String userId, String permission) {
+        return checkPermissionAsync(userId, permission, null);
+    }
+
     /**
      * Builder for RoleClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -245,11 +338,28 @@ public class RoleClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public RoleClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
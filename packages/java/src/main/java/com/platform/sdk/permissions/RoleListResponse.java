@@ -1,5 +1,6 @@
 package com.platform.sdk.permissions;
 
+import com.platform.sdk.common.Page;
 import com.platform.sdk.common.Pagination;
 
 import java.util.List;
@@ -7,13 +8,14 @@ import java.util.List;
 /**
  * Paginated list of roles.
  */
-public class RoleListResponse {
+public class RoleListResponse implements Page<RoleSummary> {
     private List<RoleSummary> data;
     private Pagination pagination;
 
     public RoleListResponse() {
     }
 
+    @Override
     public List<RoleSummary> getData() {
         return data;
     }
@@ -29,4 +31,19 @@ public class RoleListResponse {
     public void setPagination(Pagination pagination) {
         this.pagination = pagination;
     }
+
+    @Override
+    public boolean hasNextPage() {
+        return pagination != null && pagination.hasNextPage();
+    }
+
+    @Override
+    public int totalPages() {
+        return pagination != null ? pagination.getTotalPages() : 0;
+    }
+
+    @Override
+    public String nextCursor() {
+        return pagination != null ? pagination.getNextCursor() : null;
+    }
 }
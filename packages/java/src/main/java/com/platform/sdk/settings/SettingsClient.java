@@ -2,11 +2,14 @@ package com.platform.sdk.settings;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for settings management operations.
@@ -15,16 +18,28 @@ public class SettingsClient {
     private final HttpClient httpClient;
 
     private SettingsClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(AllSettingsResponse.class, CategorySettingsResponse.class,
+                SettingValue.class, DefinitionsResponse.class);
     }
 
     public void setAccessToken(String accessToken) {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // Settings Operations
 
     public AllSettingsResponse getAll(boolean includeDefinitions) throws ApiException {
@@ -133,13 +148,37 @@ public class SettingsClient {
         return Boolean.TRUE.equals(value);
     }
 
+    // Async Operations
+
+    public CompletableFuture<AllSettingsResponse> getAllAsync(boolean includeDefinitions) {
+        Map<String, String> params = new HashMap<>();
+        params.put("include_definitions", String.valueOf(includeDefinitions));
+        return httpClient.getAsync("/settings", AllSettingsResponse.class, params);
+    }
+
+    public CompletableFuture<SettingValue> getAsync(String key) {
+        return HttpClient.mapException(httpClient.getAsync("/settings/" + key, SettingValue.class),
+                e -> e.getStatusCode() == 404 ? new SettingNotFoundException(key) : e);
+    }
+
+    public CompletableFuture<List<SettingDefinition>> getDefinitionsAsync(SettingCategory category, Boolean isPublic) {
+        Map<String, String> params = new HashMap<>();
+        if (category != null) params.put("category", category.getValue());
+        if (isPublic != null) params.put("is_public", isPublic.toString());
+
+        return httpClient.getAsync("/settings/definitions", DefinitionsResponse.class, params)
+                .thenApply(DefinitionsResponse::getDefinitions);
+    }
+
     /**
      * Builder for SettingsClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -151,11 +190,28 @@ public class SettingsClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public SettingsClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
@@ -9,6 +9,8 @@ import java.util.Map;
 public class ListTeamsParams {
     private Integer page;
     private Integer pageSize;
+    private String after;
+    private String before;
     private String parentId;
     private Boolean isActive;
     private String search;
@@ -33,6 +35,28 @@ public class ListTeamsParams {
         this.pageSize = pageSize;
     }
 
+    /**
+     * Cursor after which to return items, taken from {@code Pagination.getNextCursor()}.
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    /**
+     * Cursor before which to return items, taken from {@code Pagination.getPreviousCursor()}.
+     */
+    public String getBefore() {
+        return before;
+    }
+
+    public void setBefore(String before) {
+        this.before = before;
+    }
+
     public String getParentId() {
         return parentId;
     }
@@ -69,6 +93,8 @@ public class ListTeamsParams {
         Map<String, String> params = new HashMap<>();
         if (page != null) params.put("page", page.toString());
         if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (after != null) params.put("after", after);
+        if (before != null) params.put("before", before);
         if (parentId != null) params.put("parent_id", parentId);
         if (isActive != null) params.put("is_active", isActive.toString());
         if (search != null) params.put("search", search);
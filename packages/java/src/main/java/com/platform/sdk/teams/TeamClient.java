@@ -2,11 +2,16 @@ package com.platform.sdk.teams;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for team management operations.
@@ -15,10 +20,16 @@ public class TeamClient {
     private final HttpClient httpClient;
 
     private TeamClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(Team.class, TeamListResponse.class, TeamTreeResponse.class,
+                TeamMember.class, TeamMembersResponse.class);
+        this.httpClient.getCodecs().warmWriters(CreateTeamRequest.class, UpdateTeamRequest.class);
     }
 
     /**
@@ -28,6 +39,13 @@ public class TeamClient {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // Team CRUD Operations
 
     /**
@@ -45,6 +63,25 @@ public class TeamClient {
         return list(null);
     }
 
+    /**
+     * Iterate over all teams matching the params, starting at their page and
+     * fetching each next page while the current one is consumed.
+     */
+    public PagedIterable<TeamSummary> listAll(ListTeamsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/teams", TeamListResponse.class, query));
+    }
+
+    /**
+     * Stream all teams matching the params as newline-delimited JSON, decoded
+     * as they arrive. Close the stream to release its connection.
+     */
+    public Stream<TeamSummary> stream(ListTeamsParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/teams", TeamSummary.class, queryParams);
+    }
+
     /**
      * Get team hierarchy tree.
      */
@@ -184,6 +221,21 @@ public class TeamClient {
         return listMembers(teamId, null, null, null);
     }
 
+    /**
+     * Iterate over all members of a team, fetching each next page while the
+     * current one is consumed.
+     */
+    public PagedIterable<TeamMember> listAllMembers(String teamId, Integer pageSize, TeamMemberRole role) {
+        Map<String, String> params = new HashMap<>();
+        if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (role != null) params.put("role", role.getValue());
+        params.put("include_user", "true");
+
+        return PagedIterable.byPage(params, query -> HttpClient.mapException(
+                httpClient.getAsync("/teams/" + teamId + "/members", TeamMembersResponse.class, query),
+                e -> e.getStatusCode() == 404 ? new TeamNotFoundException(teamId) : e));
+    }
+
     /**
      * Add a member to a team.
      */
@@ -245,13 +297,56 @@ public class TeamClient {
         }
     }
 
+    // Async Operations
+
+    /**
+     * Asynchronous variant of {@link #list(ListTeamsParams)}.
+     */
+    public CompletableFuture<TeamListResponse> listAsync(ListTeamsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/teams", TeamListResponse.class, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTree(String, Integer, Boolean)}.
+     */
+    public CompletableFuture<List<TeamTree>> getTreeAsync(String rootId, Integer maxDepth, Boolean includeMembers) {
+        Map<String, String> params = new HashMap<>();
+        if (rootId != null) params.put("root_id", rootId);
+        if (maxDepth != null) params.put("max_depth", maxDepth.toString());
+        if (includeMembers != null) params.put("include_members", includeMembers.toString());
+
+        return httpClient.getAsync("/teams/tree", TeamTreeResponse.class, params)
+                .thenApply(TeamTreeResponse::getData);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     */
+    public CompletableFuture<Team> getAsync(String teamId) {
+        return HttpClient.mapException(httpClient.getAsync("/teams/" + teamId, Team.class),
+                e -> e.getStatusCode() == 404 ? new TeamNotFoundException(teamId) : e);
+    }
+
+    /**
+     * Asynchronous variant of {@link #listMembers(String)}.
+     */
+    public CompletableFuture<TeamMembersResponse> listMembersAsync(String teamId) {
+        Map<String, String> params = Map.of("include_user", "true");
+        return HttpClient.mapException(
+                httpClient.getAsync("/teams/" + teamId + "/members", TeamMembersResponse.class, params),
+                e -> e.getStatusCode() == 404 ? new TeamNotFoundException(teamId) : e);
+    }
+
     /**
      * Builder for TeamClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -263,11 +358,28 @@ public class TeamClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public TeamClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
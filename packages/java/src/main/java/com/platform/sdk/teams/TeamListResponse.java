@@ -1,5 +1,6 @@
 package com.platform.sdk.teams;
 
+import com.platform.sdk.common.Page;
 import com.platform.sdk.common.Pagination;
 
 import java.util.List;
@@ -7,13 +8,14 @@ import java.util.List;
 /**
  * Paginated list of teams.
  */
-public class TeamListResponse {
+public class TeamListResponse implements Page<TeamSummary> {
     private List<TeamSummary> data;
     private Pagination pagination;
 
     public TeamListResponse() {
     }
 
+    @Override
     public List<TeamSummary> getData() {
         return data;
     }
@@ -29,4 +31,19 @@ public class TeamListResponse {
     public void setPagination(Pagination pagination) {
         this.pagination = pagination;
     }
+
+    @Override
+    public boolean hasNextPage() {
+        return pagination != null && pagination.hasNextPage();
+    }
+
+    @Override
+    public int totalPages() {
+        return pagination != null ? pagination.getTotalPages() : 0;
+    }
+
+    @Override
+    public String nextCursor() {
+        return pagination != null ? pagination.getNextCursor() : null;
+    }
 }
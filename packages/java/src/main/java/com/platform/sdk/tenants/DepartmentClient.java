@@ -3,11 +3,16 @@ package com.platform.sdk.tenants;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for department management operations.
@@ -16,10 +21,17 @@ public class DepartmentClient {
     private final HttpClient httpClient;
 
     private DepartmentClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(Department.class, DepartmentWithDetails.class,
+                DepartmentListResponse.class, DepartmentMembersResponse.class);
+        this.httpClient.getCodecs().warmReaders(new TypeReference<List<DepartmentTree>>() {});
+        this.httpClient.getCodecs().warmWriters(CreateDepartmentRequest.class, UpdateDepartmentRequest.class);
     }
 
     /**
@@ -29,6 +41,13 @@ public class DepartmentClient {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     /**
      * List departments with optional filtering and pagination.
      */
@@ -44,6 +63,25 @@ public class DepartmentClient {
         return list(null);
     }
 
+    /**
+     * Iterate over all departments matching the params, starting at their page and
+     * fetching each next page while the current one is consumed.
+     */
+    public PagedIterable<DepartmentSummary> listAll(ListDepartmentsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/departments", DepartmentListResponse.class, query));
+    }
+
+    /**
+     * Stream all departments matching the params as newline-delimited JSON, decoded
+     * as they arrive. Close the stream to release its connection.
+     */
+    public Stream<DepartmentSummary> stream(ListDepartmentsParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/departments", DepartmentSummary.class, queryParams);
+    }
+
     /**
      * Get department tree.
      */
@@ -177,13 +215,41 @@ public class DepartmentClient {
         }
     }
 
+    // Async Operations
+
+    /**
+     * Asynchronous variant of {@link #list(ListDepartmentsParams)}.
+     */
+    public CompletableFuture<DepartmentListResponse> listAsync(ListDepartmentsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/departments", DepartmentListResponse.class, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTree(GetDepartmentTreeParams)}.
+     */
+    public CompletableFuture<List<DepartmentTree>> getTreeAsync(GetDepartmentTreeParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/departments/tree", new TypeReference<List<DepartmentTree>>() {}, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     */
+    public CompletableFuture<Department> getAsync(String departmentId) {
+        return HttpClient.mapException(httpClient.getAsync("/departments/" + departmentId, Department.class),
+                e -> e.getStatusCode() == 404 ? new DepartmentNotFoundException(departmentId) : e);
+    }
+
     /**
      * Builder for DepartmentClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -195,11 +261,28 @@ public class DepartmentClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public DepartmentClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
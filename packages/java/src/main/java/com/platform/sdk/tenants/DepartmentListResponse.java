@@ -1,5 +1,6 @@
 package com.platform.sdk.tenants;
 
+import com.platform.sdk.common.Page;
 import com.platform.sdk.common.Pagination;
 
 import java.util.List;
@@ -7,13 +8,14 @@ import java.util.List;
 /**
  * Paginated list of departments.
  */
-public class DepartmentListResponse {
+public class DepartmentListResponse implements Page<DepartmentSummary> {
     private List<DepartmentSummary> data;
     private Pagination pagination;
 
     public DepartmentListResponse() {
     }
 
+    @Override
     public List<DepartmentSummary> getData() {
         return data;
     }
@@ -29,4 +31,19 @@ public class DepartmentListResponse {
     public void setPagination(Pagination pagination) {
         this.pagination = pagination;
     }
+
+    @Override
+    public boolean hasNextPage() {
+        return pagination != null && pagination.hasNextPage();
+    }
+
+    @Override
+    public int totalPages() {
+        return pagination != null ? pagination.getTotalPages() : 0;
+    }
+
+    @Override
+    public String nextCursor() {
+        return pagination != null ? pagination.getNextCursor() : null;
+    }
 }
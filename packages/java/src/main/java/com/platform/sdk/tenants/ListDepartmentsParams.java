@@ -9,6 +9,8 @@ import java.util.Map;
 public class ListDepartmentsParams {
     private Integer page;
     private Integer pageSize;
+    private String after;
+    private String before;
     private String parentId;
     private Boolean isActive;
     private String search;
@@ -28,6 +30,22 @@ public class ListDepartmentsParams {
         return this;
     }
 
+    /**
+     * Return the items after this cursor, taken from {@code Pagination.getNextCursor()}.
+     */
+    public ListDepartmentsParams after(String after) {
+        this.after = after;
+        return this;
+    }
+
+    /**
+     * Return the items before this cursor, taken from {@code Pagination.getPreviousCursor()}.
+     */
+    public ListDepartmentsParams before(String before) {
+        this.before = before;
+        return this;
+    }
+
     public ListDepartmentsParams parentId(String parentId) {
         this.parentId = parentId;
         return this;
@@ -57,6 +75,8 @@ public class ListDepartmentsParams {
         Map<String, String> params = new HashMap<>();
         if (page != null) params.put("page", page.toString());
         if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (after != null) params.put("after", after);
+        if (before != null) params.put("before", before);
         if (parentId != null) params.put("parent_id", parentId);
         if (isActive != null) params.put("is_active", isActive.toString());
         if (search != null) params.put("search", search);
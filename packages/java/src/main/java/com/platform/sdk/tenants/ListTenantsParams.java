@@ -9,6 +9,8 @@ import java.util.Map;
 public class ListTenantsParams {
     private Integer page;
     private Integer pageSize;
+    private String after;
+    private String before;
     private TenantStatus status;
     private SubscriptionPlan plan;
     private String search;
@@ -27,6 +29,22 @@ public class ListTenantsParams {
         return this;
     }
 
+    /**
+     * Return the items after this cursor, taken from {@code Pagination.getNextCursor()}.
+     */
+    public ListTenantsParams after(String after) {
+        this.after = after;
+        return this;
+    }
+
+    /**
+     * Return the items before this cursor, taken from {@code Pagination.getPreviousCursor()}.
+     */
+    public ListTenantsParams before(String before) {
+        this.before = before;
+        return this;
+    }
+
     public ListTenantsParams status(TenantStatus status) {
         this.status = status;
         return this;
@@ -51,6 +69,8 @@ public class ListTenantsParams {
         Map<String, String> params = new HashMap<>();
         if (page != null) params.put("page", page.toString());
         if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (after != null) params.put("after", after);
+        if (before != null) params.put("before", before);
         if (status != null) params.put("status", status.getValue());
         if (plan != null) params.put("plan", plan.getValue());
         if (search != null) params.put("search", search);
@@ -2,9 +2,14 @@ package com.platform.sdk.tenants;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for tenant management operations.
@@ -13,10 +18,17 @@ public class TenantClient {
     private final HttpClient httpClient;
 
     private TenantClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(Tenant.class, TenantListResponse.class, SSOConfig.class,
+                SSOTestResult.class, SSOSyncResult.class);
+        this.httpClient.getCodecs().warmWriters(CreateTenantRequest.class, UpdateTenantRequest.class,
+                SSOConfig.class);
     }
 
     /**
@@ -26,6 +38,13 @@ public class TenantClient {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // Tenant Operations
 
     /**
@@ -43,6 +62,25 @@ public class TenantClient {
         return list(null);
     }
 
+    /**
+     * Iterate over all tenants matching the params, starting at their page and
+     * fetching each next page while the current one is consumed.
+     */
+    public PagedIterable<TenantSummary> listAll(ListTenantsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/tenants", TenantListResponse.class, query));
+    }
+
+    /**
+     * Stream all tenants matching the params as newline-delimited JSON, decoded
+     * as they arrive. Close the stream to release its connection.
+     */
+    public Stream<TenantSummary> stream(ListTenantsParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/tenants", TenantSummary.class, queryParams);
+    }
+
     /**
      * Get a tenant by ID.
      */
@@ -182,13 +220,41 @@ public class TenantClient {
         }
     }
 
+    // Async Operations
+
+    /**
+     * Asynchronous variant of {@link #list(ListTenantsParams)}.
+     */
+    public CompletableFuture<TenantListResponse> listAsync(ListTenantsParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/tenants", TenantListResponse.class, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     */
+    public CompletableFuture<Tenant> getAsync(String tenantId) {
+        return HttpClient.mapException(httpClient.getAsync("/tenants/" + tenantId, Tenant.class),
+                e -> e.getStatusCode() == 404 ? new TenantNotFoundException(tenantId) : e);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSSOConfig(String)}.
+     */
+    public CompletableFuture<SSOConfig> getSSOConfigAsync(String tenantId) {
+        return HttpClient.mapException(httpClient.getAsync("/tenants/" + tenantId + "/sso", SSOConfig.class),
+                e -> e.getStatusCode() == 404 ? new SSOConfigNotFoundException(tenantId) : e);
+    }
+
     /**
      * Builder for TenantClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -200,11 +266,28 @@ public class TenantClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public TenantClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
@@ -9,6 +9,8 @@ import java.util.Map;
 public class ListUsersParams {
     private Integer page;
     private Integer pageSize;
+    private String after;
+    private String before;
     private String search;
     private String status;
     private String role;
@@ -28,6 +30,22 @@ public class ListUsersParams {
         return this;
     }
 
+    /**
+     * Return the items after this cursor, taken from {@code Pagination.getNextCursor()}.
+     */
+    public ListUsersParams after(String after) {
+        this.after = after;
+        return this;
+    }
+
+    /**
+     * Return the items before this cursor, taken from {@code Pagination.getPreviousCursor()}.
+     */
+    public ListUsersParams before(String before) {
+        this.before = before;
+        return this;
+    }
+
     public ListUsersParams search(String search) {
         this.search = search;
         return this;
@@ -61,6 +79,14 @@ public class ListUsersParams {
         return pageSize;
     }
 
+    public String getAfter() {
+        return after;
+    }
+
+    public String getBefore() {
+        return before;
+    }
+
     public String getSearch() {
         return search;
     }
@@ -88,6 +114,8 @@ public class ListUsersParams {
         Map<String, String> params = new HashMap<>();
         if (page != null) params.put("page", page.toString());
         if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (after != null) params.put("after", after);
+        if (before != null) params.put("before", before);
         if (search != null) params.put("search", search);
         if (status != null) params.put("status", status);
         if (role != null) params.put("role", role);
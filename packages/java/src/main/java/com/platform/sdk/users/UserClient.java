@@ -2,9 +2,14 @@ package com.platform.sdk.users;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for user management operations.
@@ -13,10 +18,17 @@ public class UserClient {
     private final HttpClient httpClient;
 
     private UserClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(User.class, UserListResponse.class, UserProfile.class,
+                UserPreferences.class);
+        this.httpClient.getCodecs().warmWriters(CreateUserRequest.class, UpdateUserRequest.class,
+                UpdateProfileRequest.class, UserPreferences.class);
     }
 
     /**
@@ -26,6 +38,13 @@ public class UserClient {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     /**
      * List users with optional filtering and pagination.
      */
@@ -41,6 +60,25 @@ public class UserClient {
         return list(null);
     }
 
+    /**
+     * Iterate over all users matching the params, starting at their page and
+     * fetching each next page while the current one is consumed.
+     */
+    public PagedIterable<User> listAll(ListUsersParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/api/users", UserListResponse.class, query));
+    }
+
+    /**
+     * Stream all users matching the params as newline-delimited JSON, decoded
+     * as they arrive. Close the stream to release its connection.
+     */
+    public Stream<User> stream(ListUsersParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/api/users", User.class, queryParams);
+    }
+
     /**
      * Get a user by ID.
      */
@@ -116,13 +154,60 @@ public class UserClient {
         httpClient.postVoid("/api/users/me/password", body);
     }
 
+    // Async Operations
+
+    /**
+     * Asynchronous variant of {@link #list(ListUsersParams)}.
+     */
+    public CompletableFuture<UserListResponse> listAsync(ListUsersParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/api/users", UserListResponse.class, queryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     */
+    public CompletableFuture<User> getAsync(String userId) {
+        return httpClient.getAsync("/api/users/" + userId, User.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(CreateUserRequest)}.
+     */
+    public CompletableFuture<User> createAsync(CreateUserRequest request) {
+        return httpClient.postAsync("/api/users", request, User.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(String, UpdateUserRequest)}.
+     */
+    public CompletableFuture<User> updateAsync(String userId, UpdateUserRequest request) {
+        return httpClient.patchAsync("/api/users/" + userId, request, User.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     */
+    public CompletableFuture<Void> deleteAsync(String userId) {
+        return httpClient.deleteAsync("/api/users/" + userId);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getMyProfile()}.
+     */
+    public CompletableFuture<UserProfile> getMyProfileAsync() {
+        return httpClient.getAsync("/api/users/me", UserProfile.class);
+    }
+
     /**
      * Builder for UserClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -134,11 +219,28 @@ public class UserClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public UserClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
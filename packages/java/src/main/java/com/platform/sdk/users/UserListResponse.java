@@ -1,5 +1,6 @@
 package com.platform.sdk.users;
 
+import com.platform.sdk.common.Page;
 import com.platform.sdk.common.Pagination;
 
 import java.util.List;
@@ -7,13 +8,14 @@ import java.util.List;
 /**
  * Response containing a list of users with pagination.
  */
-public class UserListResponse {
+public class UserListResponse implements Page<User> {
     private List<User> data;
     private Pagination pagination;
 
     public UserListResponse() {
     }
 
+    @Override
     public List<User> getData() {
         return data;
     }
@@ -29,4 +31,19 @@ public class UserListResponse {
     public void setPagination(Pagination pagination) {
         this.pagination = pagination;
     }
+
+    @Override
+    public boolean hasNextPage() {
+        return pagination != null && pagination.hasNextPage();
+    }
+
+    @Override
+    public int totalPages() {
+        return pagination != null ? pagination.getTotalPages() : 0;
+    }
+
+    @Override
+    public String nextCursor() {
+        return pagination != null ? pagination.getNextCursor() : null;
+    }
 }
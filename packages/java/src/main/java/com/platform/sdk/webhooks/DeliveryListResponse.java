@@ -1,12 +1,13 @@
 package com.platform.sdk.webhooks;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.platform.sdk.common.Page;
 import java.util.List;
 
 /**
  * Response containing a list of webhook deliveries.
  */
-public class DeliveryListResponse {
+public class DeliveryListResponse implements Page<WebhookDelivery> {
     private List<WebhookDelivery> data;
     private int total;
     private int page;
@@ -15,6 +16,7 @@ public class DeliveryListResponse {
     private int pageSize;
 
     // Getters and Setters
+    @Override
     public List<WebhookDelivery> getData() { return data; }
     public void setData(List<WebhookDelivery> data) { this.data = data; }
 
@@ -26,4 +28,10 @@ public class DeliveryListResponse {
 
     public int getPageSize() { return pageSize; }
     public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+
+    @Override
+    public boolean hasNextPage() { return pageSize > 0 && (long) page * pageSize < total; }
+
+    @Override
+    public int totalPages() { return pageSize > 0 ? (total + pageSize - 1) / pageSize : 0; }
 }
@@ -2,10 +2,15 @@ package com.platform.sdk.webhooks;
 
 import com.platform.sdk.common.ApiException;
 import com.platform.sdk.common.HttpClient;
+import com.platform.sdk.common.PagedIterable;
+import com.platform.sdk.common.SdkRuntime;
+import com.platform.sdk.common.TokenProvider;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Client for webhook management operations.
@@ -14,16 +19,29 @@ public class WebhookClient {
     private final HttpClient httpClient;
 
     private WebhookClient(Builder builder) {
-        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout);
+        this.httpClient = new HttpClient(builder.baseUrl, builder.timeout, builder.runtime);
         if (builder.accessToken != null) {
             this.httpClient.setAccessToken(builder.accessToken);
         }
+        if (builder.tokenProvider != null) {
+            this.httpClient.setTokenProvider(builder.tokenProvider);
+        }
+        this.httpClient.getCodecs().warmReaders(Webhook.class, WebhookListResponse.class,
+                WebhookTestResult.class, WebhookDelivery.class, DeliveryListResponse.class);
+        this.httpClient.getCodecs().warmWriters(CreateWebhookRequest.class, UpdateWebhookRequest.class);
     }
 
     public void setAccessToken(String accessToken) {
         this.httpClient.setAccessToken(accessToken);
     }
 
+    /**
+     * Ask the given provider for the access token of every request.
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.httpClient.setTokenProvider(tokenProvider);
+    }
+
     // Webhook CRUD Operations
 
     public WebhookListResponse list(ListWebhooksParams params) throws ApiException {
@@ -35,6 +53,17 @@ public class WebhookClient {
         return list(null);
     }
 
+    public PagedIterable<Webhook> listAll(ListWebhooksParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return PagedIterable.byPage(queryParams,
+                query -> httpClient.getAsync("/webhooks", WebhookListResponse.class, query));
+    }
+
+    public Stream<Webhook> stream(ListWebhooksParams params) throws ApiException {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getStream("/webhooks", Webhook.class, queryParams);
+    }
+
     public Webhook get(String webhookId) throws ApiException {
         try {
             return httpClient.get("/webhooks/" + webhookId, Webhook.class);
@@ -126,6 +155,27 @@ public class WebhookClient {
         return listDeliveries(webhookId, null, null, null, null);
     }
 
+    public PagedIterable<WebhookDelivery> listAllDeliveries(String webhookId, Integer pageSize,
+                                                            DeliveryStatus status, WebhookEvent event) {
+        return PagedIterable.byPage(1, page -> listDeliveriesAsync(webhookId, page, pageSize, status, event));
+    }
+
+    public Stream<WebhookDelivery> streamDeliveries(String webhookId, DeliveryStatus status, WebhookEvent event)
+            throws ApiException {
+        try {
+            Map<String, String> params = new HashMap<>();
+            if (status != null) params.put("status", status.getValue());
+            if (event != null) params.put("event", event.getValue());
+
+            return httpClient.getStream("/webhooks/" + webhookId + "/deliveries", WebhookDelivery.class, params);
+        } catch (ApiException e) {
+            if (e.getStatusCode() == 404) {
+                throw new WebhookNotFoundException(webhookId);
+            }
+            throw e;
+        }
+    }
+
     public WebhookDelivery getDelivery(String webhookId, String deliveryId) throws ApiException {
         try {
             return httpClient.get("/webhooks/" + webhookId + "/deliveries/" + deliveryId, WebhookDelivery.class);
@@ -149,13 +199,40 @@ public class WebhookClient {
         }
     }
 
+    // Async Operations
+
+    public CompletableFuture<WebhookListResponse> listAsync(ListWebhooksParams params) {
+        Map<String, String> queryParams = params != null ? params.toQueryParams() : Map.of();
+        return httpClient.getAsync("/webhooks", WebhookListResponse.class, queryParams);
+    }
+
+    public CompletableFuture<Webhook> getAsync(String webhookId) {
+        return HttpClient.mapException(httpClient.getAsync("/webhooks/" + webhookId, Webhook.class),
+                e -> e.getStatusCode() == 404 ? new WebhookNotFoundException(webhookId) : e);
+    }
+
+    public CompletableFuture<DeliveryListResponse> listDeliveriesAsync(String webhookId, Integer page, Integer pageSize,
+                                                                       DeliveryStatus status, WebhookEvent event) {
+        Map<String, String> params = new HashMap<>();
+        if (page != null) params.put("page", page.toString());
+        if (pageSize != null) params.put("page_size", pageSize.toString());
+        if (status != null) params.put("status", status.getValue());
+        if (event != null) params.put("event", event.getValue());
+
+        return HttpClient.mapException(
+                httpClient.getAsync("/webhooks/" + webhookId + "/deliveries", DeliveryListResponse.class, params),
+                e -> e.getStatusCode() == 404 ? new WebhookNotFoundException(webhookId) : e);
+    }
+
     /**
      * Builder for WebhookClient.
      */
     public static class Builder {
         private String baseUrl;
         private String accessToken;
+        private TokenProvider tokenProvider;
         private Duration timeout = Duration.ofSeconds(30);
+        private SdkRuntime runtime;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -167,11 +244,28 @@ public class WebhookClient {
             return this;
         }
 
+        /**
+         * Take the access token of each request from this provider instead of
+         * a fixed token, e.g. to refresh it or pick it per tenant.
+         */
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Share connections and JSON caches with other clients on this runtime.
+         */
+        public Builder runtime(SdkRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
         public WebhookClient build() {
             if (baseUrl == null || baseUrl.isEmpty()) {
                 throw new IllegalArgumentException("baseUrl is required");
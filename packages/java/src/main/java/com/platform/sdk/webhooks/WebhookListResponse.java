@@ -1,12 +1,13 @@
 package com.platform.sdk.webhooks;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.platform.sdk.common.Page;
 import java.util.List;
 
 /**
  * Response containing a list of webhooks.
  */
-public class WebhookListResponse {
+public class WebhookListResponse implements Page<Webhook> {
     private List<Webhook> data;
     private int total;
     private int page;
@@ -15,6 +16,7 @@ public class WebhookListResponse {
     private int pageSize;
 
     // Getters and Setters
+    @Override
     public List<Webhook> getData() { return data; }
     public void setData(List<Webhook> data) { this.data = data; }
 
@@ -26,4 +28,10 @@ public class WebhookListResponse {
 
     public int getPageSize() { return pageSize; }
     public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+
+    @Override
+    public boolean hasNextPage() { return pageSize > 0 && (long) page * pageSize < total; }
+
+    @Override
+    public int totalPages() { return pageSize > 0 ? (total + pageSize - 1) / pageSize : 0; }
 }
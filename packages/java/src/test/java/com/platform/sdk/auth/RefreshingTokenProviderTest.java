@@ -0,0 +1,149 @@
+package com.platform.sdk.auth;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RefreshingTokenProvider Tests")
+class RefreshingTokenProviderTest {
+
+    private MockWebServer mockWebServer;
+    private AuthClient authClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        authClient = new AuthClient.Builder()
+                .issuerUrl(mockWebServer.url("/").toString())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    private static TokenResponse tokens(String accessToken, String refreshToken, Integer expiresIn) {
+        TokenResponse response = new TokenResponse();
+        response.setAccessToken(accessToken);
+        response.setRefreshToken(refreshToken);
+        response.setExpiresIn(expiresIn);
+        return response;
+    }
+
+    private static MockResponse refreshed(String accessToken, String refreshToken) {
+        return new MockResponse()
+                .setBody("{\"access_token\":\"" + accessToken + "\",\"refresh_token\":\"" + refreshToken
+                        + "\",\"expires_in\":3600}")
+                .addHeader("Content-Type", "application/json");
+    }
+
+    @Test
+    @DisplayName("Should serve the current token without refreshing")
+    void servesCurrentToken() {
+        try (RefreshingTokenProvider provider =
+                     new RefreshingTokenProvider(authClient, tokens("a1", "r1", 3600))) {
+            assertEquals("a1", provider.getAccessToken());
+            assertEquals("a1", provider.getAccessToken());
+            assertEquals(0, provider.getRefreshCount());
+            assertEquals(0, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should refresh in the background before expiry")
+    void refreshesBeforeExpiry() throws Exception {
+        mockWebServer.enqueue(refreshed("a2", "r2"));
+
+        try (RefreshingTokenProvider provider =
+                     new RefreshingTokenProvider(authClient, tokens("a1", "r1", 1), Duration.ofSeconds(60))) {
+            assertEquals("a1", provider.getAccessToken());
+
+            // A one-second token is refreshed at half-life
+            RecordedRequest request = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+            assertNotNull(request);
+            assertEquals("/oauth/token", request.getPath());
+            String body = request.getBody().readUtf8();
+            assertTrue(body.contains("\"refresh_token\":\"r1\""), body);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!"a2".equals(provider.getAccessToken()) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals("a2", provider.getAccessToken());
+            assertEquals("r2", provider.getRefreshToken());
+            assertEquals(1, provider.getRefreshCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should send one refresh for many threads holding an expired token")
+    void singleFlightsExpiredRefresh() throws Exception {
+        mockWebServer.enqueue(refreshed("a2", "r2").setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (RefreshingTokenProvider provider =
+                     new RefreshingTokenProvider(authClient, tokens("a1", "r1", 0))) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(provider::getAccessToken));
+            }
+            for (Future<String> result : results) {
+                assertEquals("a2", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, provider.getRefreshCount());
+            assertEquals(1, mockWebServer.getRequestCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should surface a failed refresh of an expired token")
+    void failedRefreshOfExpiredToken() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(401)
+                .setBody("{\"error\":\"invalid_grant\"}"));
+
+        try (RefreshingTokenProvider provider =
+                     new RefreshingTokenProvider(authClient, tokens("a1", "r1", 0))) {
+            AuthException error = assertThrows(AuthException.class, provider::getAccessToken);
+            assertTrue(error.getMessage().startsWith("Token refresh failed"));
+            assertEquals(1, provider.getFailureCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not schedule refreshes without a refresh token")
+    void noRefreshTokenNeverRefreshes() {
+        try (RefreshingTokenProvider provider =
+                     new RefreshingTokenProvider(authClient, tokens("a1", null, 0))) {
+            assertEquals("a1", provider.getAccessToken());
+            assertEquals(0, provider.getRefreshCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a missing initial token")
+    void rejectsMissingInitialToken() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new RefreshingTokenProvider(authClient, tokens(null, "r1", 60)));
+        assertThrows(IllegalArgumentException.class, () ->
+                new RefreshingTokenProvider(authClient, tokens("a1", "r1", 60), Duration.ofSeconds(-1)));
+    }
+}
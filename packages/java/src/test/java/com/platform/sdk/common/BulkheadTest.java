@@ -0,0 +1,116 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+    private static BulkheadConfig queued(int maxConcurrentCalls, int maxQueueSize, Duration maxQueueWait) {
+        return new BulkheadConfig.Builder()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxQueueSize(maxQueueSize)
+                .maxQueueWait(maxQueueWait)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should reject requests over the limit without a queue")
+    void rejectsWhenFull() {
+        Bulkhead bulkhead = new Bulkhead("email", BulkheadConfig.of(2), List.of("/email"));
+
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        CompletableFuture<Void> rejected = bulkhead.acquireAsync();
+
+        ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+        BulkheadFullException full = assertInstanceOf(BulkheadFullException.class, error.getCause());
+        assertEquals("email", full.getBulkhead());
+        assertEquals(1, bulkhead.getRejectedCount());
+        assertEquals(2, bulkhead.getInFlight());
+    }
+
+    @Test
+    @DisplayName("should hand a released slot to a queued request")
+    void handsSlotToWaiter() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("email", queued(1, 1, Duration.ofSeconds(5)), List.of("/email"));
+
+        assertTrue(bulkhead.tryAcquire());
+        CompletableFuture<Void> waiting = bulkhead.acquireAsync();
+        assertFalse(waiting.isDone());
+        assertEquals(1, bulkhead.getQueued());
+
+        bulkhead.release();
+
+        waiting.get(1, TimeUnit.SECONDS);
+        assertEquals(1, bulkhead.getInFlight());
+        assertEquals(0, bulkhead.getQueued());
+    }
+
+    @Test
+    @DisplayName("should reject requests over the queue size")
+    void boundsQueue() {
+        Bulkhead bulkhead = new Bulkhead("email", queued(1, 1, Duration.ofSeconds(5)), List.of("/email"));
+
+        assertTrue(bulkhead.tryAcquire());
+        CompletableFuture<Void> waiting = bulkhead.acquireAsync();
+        CompletableFuture<Void> rejected = bulkhead.acquireAsync();
+
+        assertFalse(waiting.isDone());
+        ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(BulkheadFullException.class, error.getCause());
+        assertEquals(1, bulkhead.getQueued());
+    }
+
+    @Test
+    @DisplayName("queued requests should fail at the deadline")
+    void queuedRequestTimesOut() {
+        Bulkhead bulkhead = new Bulkhead("email", queued(1, 1, Duration.ofMillis(50)), List.of("/email"));
+
+        assertTrue(bulkhead.tryAcquire());
+        BulkheadFullException error = assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        assertEquals("email", error.getBulkhead());
+        bulkhead.release();
+        assertEquals(0, bulkhead.getInFlight(), "a timed-out waiter must not receive the slot");
+        assertEquals(0, bulkhead.getQueued());
+    }
+
+    @Test
+    @DisplayName("prefixes should match whole path segments")
+    void matchesSegments() {
+        Bulkheads bulkheads = new Bulkheads.Builder()
+                .bulkhead("auth", BulkheadConfig.of(4), "/oauth", "api-keys/validate/")
+                .bulkhead("email", BulkheadConfig.of(2), "/email")
+                .build();
+
+        assertEquals("auth", bulkheads.forTemplate("/oauth/introspect").getName());
+        assertEquals("auth", bulkheads.forTemplate("/api-keys/validate").getName());
+        assertEquals("email", bulkheads.forTemplate("/email/send").getName());
+        assertNull(bulkheads.forTemplate("/emails"));
+        assertNull(bulkheads.forTemplate("/api-keys/{id}"));
+        assertEquals(List.of("/oauth", "/api-keys/validate"), bulkheads.get("auth").getPrefixes());
+    }
+
+    @Test
+    @DisplayName("builders should reject invalid settings")
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> BulkheadConfig.of(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BulkheadConfig.Builder().maxQueueSize(5).build());
+        assertThrows(IllegalArgumentException.class, () -> new Bulkheads.Builder().build());
+        assertThrows(IllegalArgumentException.class,
+                () -> new Bulkheads.Builder().bulkhead("email", BulkheadConfig.of(1)));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkheads.Builder()
+                .bulkhead("email", BulkheadConfig.of(1), "/email")
+                .bulkhead("email", BulkheadConfig.of(1), "/notifications"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    @Test
+    @DisplayName("should open when the failure rate reaches the threshold")
+    void opensOnFailureRate() {
+        CircuitBreaker breaker = new CircuitBreaker("/roles/{id}", config(Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(FAST, i % 2 == 0);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCount());
+        assertEquals(1, breaker.getOpenedCount());
+    }
+
+    @Test
+    @DisplayName("should stay closed below the minimum number of calls")
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker("/roles", config(Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 3; i++) {
+            breaker.onResult(FAST, false);
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1.0, breaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("should open when too many calls are slow")
+    void opensOnSlowCalls() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig.Builder()
+                .windowSize(4).minimumCalls(4)
+                .slowCallDuration(Duration.ofMillis(100)).slowCallRateThreshold(0.5)
+                .build();
+        CircuitBreaker breaker = new CircuitBreaker("/users", config);
+
+        breaker.onResult(FAST, true);
+        breaker.onResult(FAST, true);
+        breaker.onResult(Duration.ofSeconds(1).toNanos(), true);
+        breaker.onResult(Duration.ofSeconds(1).toNanos(), true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getSlowCallCount());
+    }
+
+    @Test
+    @DisplayName("should close after successful half-open probes")
+    void closesAfterHalfOpenProbes() {
+        CircuitBreaker breaker = tripped(Duration.ZERO);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "only halfOpenProbes calls may pass");
+
+        breaker.onResult(FAST, true);
+        breaker.onResult(FAST, true);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("should reopen when a half-open probe fails")
+    void reopensOnFailedProbe() {
+        CircuitBreaker breaker = tripped(Duration.ZERO);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(FAST, false);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenedCount());
+    }
+
+    @Test
+    @DisplayName("a cancelled half-open probe should neither close the breaker nor use up its permit")
+    void cancelledProbeIsIgnored() {
+        CircuitBreaker breaker = tripped(Duration.ZERO);
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onIgnored();
+        breaker.onIgnored();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(0, breaker.getSuccessCount());
+        assertTrue(breaker.tryAcquire(), "the cancelled probes' permits should be available again");
+        breaker.onResult(FAST, true);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("config should reject minimumCalls above the window size")
+    void configValidatesWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakerConfig.Builder()
+                .windowSize(5).minimumCalls(10).build());
+    }
+
+    @Test
+    @DisplayName("endpoint templates should replace identifiers")
+    void endpointTemplates() {
+        assertEquals("/roles/{id}", Endpoint.templateOf("/roles/3f2a9c1e-77aa-4b1e-9d2f-0c5e8a1b2c3d"));
+        assertEquals("/roles/slug/{id}", Endpoint.templateOf("/roles/slug/admin"));
+        assertEquals("/users/me", Endpoint.templateOf("/users/me"));
+        assertEquals("/teams/{id}/members", Endpoint.templateOf("/teams/42/members?page=2"));
+        assertEquals("/api/users/{id}", Endpoint.templateOf("/api/users/usr_abc"));
+        assertEquals("/tenants/{id}/sso", Endpoint.templateOf("/tenants/org_123/sso"));
+        assertEquals("/teams/{id}/members/{id}", Endpoint.templateOf("/teams/eng/members/ada"));
+        assertEquals("/api/users/me/password", Endpoint.templateOf("/api/users/me/password"));
+        assertEquals("/api/notifications/devices/{id}", Endpoint.templateOf("/api/notifications/devices/ios"));
+        assertEquals("/teams/tree", Endpoint.templateOf("/teams/tree"));
+        assertEquals("/settings/{id}", Endpoint.templateOf("/settings/theme"));
+        assertEquals("GET /roles/{id}", Endpoint.of("GET", "/roles/r1").toString());
+    }
+
+    private static CircuitBreaker tripped(Duration openDuration) {
+        CircuitBreaker breaker = new CircuitBreaker("/roles/{id}", config(openDuration));
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(FAST, false);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private static CircuitBreakerConfig config(Duration openDuration) {
+        return new CircuitBreakerConfig.Builder()
+                .windowSize(10).minimumCalls(4).failureRateThreshold(0.5)
+                .openDuration(openDuration).halfOpenProbes(2)
+                .build();
+    }
+}
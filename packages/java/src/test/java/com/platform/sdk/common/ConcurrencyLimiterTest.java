@@ -0,0 +1,118 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimiter Tests")
+class ConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("should reject requests over the limit without a queue")
+    void rejectsOverLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("/users", config(2, Duration.ZERO).build());
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        CompletableFuture<Void> rejected = limiter.acquireAsync();
+
+        ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ConcurrencyLimitExceededException.class, error.getCause());
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("should hand a released slot to a queued request")
+    void handsSlotToWaiter() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("/users", config(1, Duration.ofSeconds(5)).build());
+
+        assertTrue(limiter.tryAcquire());
+        CompletableFuture<Void> queued = limiter.acquireAsync();
+        assertFalse(queued.isDone());
+
+        limiter.release();
+
+        queued.get(1, TimeUnit.SECONDS);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("queued requests should fail at the deadline")
+    void queuedRequestTimesOut() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("/users", config(1, Duration.ofMillis(50)).build());
+
+        assertTrue(limiter.tryAcquire());
+        CompletableFuture<Void> queued = limiter.acquireAsync();
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> queued.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ConcurrencyLimitExceededException.class, error.getCause());
+        limiter.release();
+        assertEquals(0, limiter.getInFlight(), "a timed-out waiter must not receive the slot");
+    }
+
+    @Test
+    @DisplayName("AIMD should grow while busy and back off on drops")
+    void aimdAdjustsLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("/roles",
+                config(10, Duration.ZERO).algorithm(ConcurrencyLimitConfig.Algorithm.AIMD).build());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        limiter.onComplete(RTT, false);
+        assertEquals(11, limiter.getLimit());
+
+        assertTrue(limiter.tryAcquire());
+        limiter.onComplete(RTT, true);
+        assertEquals(9, limiter.getLimit());
+        assertEquals(1, limiter.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("gradient should shrink the limit when latency rises")
+    void gradientShrinksOnLatency() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("/roles",
+                config(50, Duration.ZERO).maxLimit(100).build());
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onComplete(RTT, false);
+        }
+        int baseline = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onComplete(RTT * 10, false);
+        }
+
+        assertTrue(limiter.getLimit() < baseline,
+                "limit should fall below " + baseline + " but was " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("endpoint groups should be the resource of the path")
+    void groupsByResource() {
+        ConcurrencyLimits limits = new ConcurrencyLimits(config(4, Duration.ZERO).build());
+
+        assertSame(limits.forTemplate("/users/{id}/roles"), limits.forTemplate("/users"));
+        assertSame(limits.forTemplate("/api/users/{id}"), limits.forTemplate("/api/users"));
+        assertNotSame(limits.forTemplate("/api/users/{id}"), limits.forTemplate("/api/notifications/{id}"));
+        assertEquals(Set.of("/users", "/api/users", "/api/notifications"), limits.getAll().keySet());
+    }
+
+    private static ConcurrencyLimitConfig.Builder config(int initialLimit, Duration maxQueueWait) {
+        return new ConcurrencyLimitConfig.Builder()
+                .initialLimit(initialLimit)
+                .maxLimit(Math.max(initialLimit, 20))
+                .maxQueueWait(maxQueueWait);
+    }
+}
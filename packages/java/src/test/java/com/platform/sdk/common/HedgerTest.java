@@ -0,0 +1,74 @@
+package com.platform.sdk.common;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Hedger Tests")
+class HedgerTest {
+
+    private static final Request REQUEST = new Request.Builder()
+            .url(HttpUrl.get("http://localhost/roles/r1"))
+            .tag(Endpoint.class, Endpoint.of("GET", "/roles/r1"))
+            .build();
+
+    @Test
+    @DisplayName("should wait maxDelay until enough latencies are observed")
+    void usesMaxDelayWithoutSamples() {
+        Hedger hedger = new Hedger(policy());
+
+        for (int i = 0; i < 9; i++) {
+            hedger.recordLatency(REQUEST, TimeUnit.MILLISECONDS.toNanos(20));
+        }
+
+        assertEquals(500, hedger.delayMillis(REQUEST));
+    }
+
+    @Test
+    @DisplayName("should hedge at the configured latency percentile")
+    void usesLatencyPercentile() {
+        Hedger hedger = new Hedger(policy());
+
+        // 90 samples lands on a refresh (10 + 5 * 16), so p90 covers all of them
+        for (int i = 1; i <= 90; i++) {
+            hedger.recordLatency(REQUEST, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertEquals(81, hedger.delayMillis(REQUEST));
+    }
+
+    @Test
+    @DisplayName("should clamp the delay to minDelay")
+    void clampsToMinDelay() {
+        Hedger hedger = new Hedger(policy());
+
+        for (int i = 0; i < 10; i++) {
+            hedger.recordLatency(REQUEST, TimeUnit.MICROSECONDS.toNanos(50));
+        }
+
+        assertEquals(5, hedger.delayMillis(REQUEST));
+    }
+
+    @Test
+    @DisplayName("should not be enabled by default")
+    void disabledByDefault() {
+        assertFalse(HedgePolicy.none().isEnabled());
+        assertTrue(HedgePolicy.defaults().isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> new HedgePolicy.Builder().delayPercentile(1).build());
+    }
+
+    private static HedgePolicy policy() {
+        return new HedgePolicy.Builder()
+                .delayPercentile(0.9)
+                .minDelay(Duration.ofMillis(5))
+                .maxDelay(Duration.ofMillis(500))
+                .minSamples(10)
+                .build();
+    }
+}
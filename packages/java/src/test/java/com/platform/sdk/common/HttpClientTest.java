@@ -0,0 +1,1148 @@
+package com.platform.sdk.common;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HttpClient Tests")
+class HttpClientTest {
+
+    private MockWebServer mockWebServer;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        httpClient = new HttpClient(mockWebServer.url("/").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("async calls should run concurrently")
+    void asyncCallsRunConcurrently() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setBody("{\"value\": \"a\"}").setBodyDelay(500, TimeUnit.MILLISECONDS));
+        mockWebServer.enqueue(new MockResponse().setBody("{\"value\": \"b\"}").setBodyDelay(500, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        CompletableFuture<Map> first = httpClient.getAsync("/first", Map.class);
+        CompletableFuture<Map> second = httpClient.getAsync("/second", Map.class);
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertTrue(elapsedMillis < 900, "calls should overlap, took " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("mapException should translate ApiException failures")
+    void mapExceptionTranslatesFailures() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        CompletableFuture<Map> future = HttpClient.mapException(httpClient.getAsync("/missing", Map.class),
+                e -> new IllegalStateException("mapped " + e.getStatusCode()));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals("mapped 404", error.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("post should send serialized JSON with a content length")
+    void postSendsJsonWithContentLength() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setBody("{\"display_name\": \"Ada\"}"));
+
+        Map<?, ?> result = httpClient.post("/echo", Map.of("display_name", "Ada"), Map.class);
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        String sent = request.getBody().readUtf8();
+        assertEquals("{\"display_name\":\"Ada\"}", sent);
+        assertEquals(String.valueOf(sent.length()), request.getHeader("Content-Length"));
+        assertTrue(request.getHeader("Content-Type").startsWith("application/json"));
+        assertEquals("Ada", result.get("display_name"));
+    }
+
+    @Test
+    @DisplayName("empty response bodies should deserialize to null")
+    void emptyBodyReturnsNull() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        assertNull(httpClient.get("/empty", Map.class));
+    }
+
+    @Test
+    @DisplayName("retries should recover from transient errors and reuse the idempotency key")
+    void retriesTransientErrors() throws Exception {
+        try (SdkRuntime runtime = retryingRuntime()) {
+            HttpClient retrying = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+            mockWebServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"id\": \"inv-1\"}"));
+
+            Map<?, ?> result = retrying.post("/invitations", Map.of("email", "a@example.com"), Map.class);
+
+            assertEquals("inv-1", result.get("id"));
+            assertEquals(3, mockWebServer.getRequestCount());
+            String key = mockWebServer.takeRequest().getHeader(RetryPolicy.IDEMPOTENCY_KEY_HEADER);
+            assertNotNull(key);
+            assertEquals(key, mockWebServer.takeRequest().getHeader(RetryPolicy.IDEMPOTENCY_KEY_HEADER));
+            assertEquals(key, mockWebServer.takeRequest().getHeader(RetryPolicy.IDEMPOTENCY_KEY_HEADER));
+        }
+    }
+
+    @Test
+    @DisplayName("async calls should retry transient errors")
+    void asyncRetriesTransientErrors() throws Exception {
+        try (SdkRuntime runtime = retryingRuntime()) {
+            HttpClient retrying = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"id\": \"user-1\"}"));
+
+            Map<?, ?> result = retrying.getAsync("/users/user-1", Map.class).get(5, TimeUnit.SECONDS);
+
+            assertEquals("user-1", result.get("id"));
+            assertEquals(2, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("non-retryable statuses should fail on the first attempt")
+    void doesNotRetryClientErrors() {
+        try (SdkRuntime runtime = retryingRuntime()) {
+            HttpClient retrying = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+            ApiException error = assertThrows(ApiException.class, () -> retrying.get("/missing", Map.class));
+
+            assertEquals(404, error.getStatusCode());
+            assertEquals(1, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("retries should stop when the retry budget is spent")
+    void retryBudgetLimitsRetries() {
+        RetryPolicy policy = new RetryPolicy.Builder()
+                .maxAttempts(5)
+                .baseDelay(Duration.ZERO)
+                .budget(0, 1)
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().retryPolicy(policy).build()) {
+            HttpClient retrying = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            for (int i = 0; i < 3; i++) {
+                mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+            }
+
+            assertThrows(ApiException.class, () -> retrying.get("/flaky", Map.class));
+            assertEquals(2, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("an open circuit breaker should fail fast without sending")
+    void openCircuitBreakerFailsFast() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig.Builder()
+                .windowSize(2).minimumCalls(2).openDuration(Duration.ofMinutes(1))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().circuitBreaker(config).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+            assertThrows(ApiException.class, () -> client.get("/roles/r1", Map.class));
+            assertThrows(ApiException.class, () -> client.get("/roles/r2", Map.class));
+            CircuitBreakerOpenException error = assertThrows(CircuitBreakerOpenException.class,
+                    () -> client.get("/roles/r3", Map.class));
+            ExecutionException asyncError = assertThrows(ExecutionException.class,
+                    () -> client.getAsync("/roles/r4", Map.class).get(5, TimeUnit.SECONDS));
+
+            assertEquals("/roles/{id}", error.getEndpoint());
+            assertInstanceOf(CircuitBreakerOpenException.class, asyncError.getCause());
+            assertEquals(2, mockWebServer.getRequestCount());
+            CircuitBreaker breaker = runtime.getCircuitBreakers().get("/roles/{id}");
+            assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+            assertEquals(2, breaker.getRejectedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("calls rejected by an open breaker should not use up rate limit permits")
+    void breakerRejectionKeepsRatePermits() throws Exception {
+        CircuitBreakerConfig config = new CircuitBreakerConfig.Builder()
+                .windowSize(2).minimumCalls(2).openDuration(Duration.ofMinutes(1))
+                .build();
+        RateLimiter roles = RateLimiter.of(3, Duration.ofMinutes(1), 3);
+        RateLimits limits = new RateLimits.Builder()
+                .group("/roles", roles)
+                .maxWait(Duration.ZERO)
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().circuitBreaker(config).rateLimits(limits).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+            assertThrows(ApiException.class, () -> client.get("/roles/r1", Map.class));
+            assertThrows(ApiException.class, () -> client.get("/roles/r2", Map.class));
+            for (int i = 0; i < 3; i++) {
+                assertThrows(CircuitBreakerOpenException.class, () -> client.get("/roles/r3", Map.class));
+                ExecutionException asyncError = assertThrows(ExecutionException.class,
+                        () -> client.getAsync("/roles/r4", Map.class).get(5, TimeUnit.SECONDS));
+                assertInstanceOf(CircuitBreakerOpenException.class, asyncError.getCause());
+            }
+
+            assertEquals(2, roles.getAcquiredCount());
+            assertEquals(0, roles.getRejectedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("a cancelled half-open probe should leave the breaker unclosed")
+    void cancelledProbeKeepsBreakerOpen() throws Exception {
+        CircuitBreakerConfig config = new CircuitBreakerConfig.Builder()
+                .windowSize(2).minimumCalls(2).openDuration(Duration.ofMillis(50)).halfOpenProbes(1)
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().circuitBreaker(config).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+            mockWebServer.enqueue(new MockResponse().setBody("{}").setHeadersDelay(2, TimeUnit.SECONDS));
+
+            assertThrows(ApiException.class, () -> client.get("/roles/r1", Map.class));
+            assertThrows(ApiException.class, () -> client.get("/roles/r2", Map.class));
+            CircuitBreaker breaker = runtime.getCircuitBreakers().get("/roles/{id}");
+            Thread.sleep(100);
+
+            CompletableFuture<Map> probe = client.getAsync("/roles/r3", Map.class);
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+            mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+            probe.cancel(true);
+            Thread.sleep(100);
+
+            assertNotEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+            assertEquals(0, breaker.getSuccessCount());
+        }
+    }
+
+    @Test
+    @DisplayName("a slow GET should be hedged and the faster copy should win")
+    void slowGetIsHedged() {
+        HedgePolicy policy = new HedgePolicy.Builder()
+                .minDelay(Duration.ofMillis(50)).maxDelay(Duration.ofMillis(50))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().hedgePolicy(policy).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"value\": \"slow\"}")
+                    .setHeadersDelay(2, TimeUnit.SECONDS));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"value\": \"fast\"}"));
+
+            long start = System.nanoTime();
+            Map<?, ?> result = client.get("/users/u1", Map.class);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals("fast", result.get("value"));
+            assertEquals(2, mockWebServer.getRequestCount());
+            assertTrue(elapsedMillis < 1500, "hedge should answer first, took " + elapsedMillis + "ms");
+        }
+    }
+
+    @Test
+    @DisplayName("a primary that loses to its hedge should still count towards the hedge delay")
+    void losingPrimaryLatencyIsRecorded() throws Exception {
+        HedgePolicy policy = new HedgePolicy.Builder()
+                .delayPercentile(0.5).minSamples(2)
+                .minDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(300))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().hedgePolicy(policy).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            for (int i = 0; i < 2; i++) {
+                mockWebServer.enqueue(new MockResponse().setBody("{\"value\": \"slow\"}")
+                        .setHeadersDelay(2, TimeUnit.SECONDS));
+                mockWebServer.enqueue(new MockResponse().setBody("{\"value\": \"fast\"}"));
+            }
+
+            // No samples yet, so the hedge waits maxDelay; the cancelled primary is the second sample
+            assertEquals("fast", client.get("/users/u1", Map.class).get("value"));
+            Thread.sleep(100);
+
+            long start = System.nanoTime();
+            Map<?, ?> result = client.get("/users/u2", Map.class);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals("fast", result.get("value"));
+            assertTrue(elapsedMillis < 250, "hedge should use the observed median, took " + elapsedMillis + "ms");
+        }
+    }
+
+    @Test
+    @DisplayName("hedging should stop when the hedge budget is spent")
+    void hedgeBudgetLimitsHedges() throws Exception {
+        HedgePolicy policy = new HedgePolicy.Builder()
+                .minDelay(Duration.ofMillis(20)).maxDelay(Duration.ofMillis(20))
+                .budget(0, 0)
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().hedgePolicy(policy).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"value\": \"slow\"}")
+                    .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+            Map<?, ?> result = client.getAsync("/users/u1", Map.class).get(5, TimeUnit.SECONDS);
+
+            assertEquals("slow", result.get("value"));
+            assertEquals(1, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("a non-blocking rate limit should fail fast once the group is exhausted")
+    void rateLimitedGroupFailsFast() throws Exception {
+        RateLimits limits = new RateLimits.Builder()
+                .group("/emails", RateLimiter.of(1, Duration.ofMinutes(1), 1))
+                .maxWait(Duration.ZERO)
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().rateLimits(limits).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+
+            client.post("/emails/send", Map.of("to", "a@example.com"), Map.class);
+            RateLimitExceededException error = assertThrows(RateLimitExceededException.class,
+                    () -> client.post("/emails/send", Map.of("to", "b@example.com"), Map.class));
+            ExecutionException asyncError = assertThrows(ExecutionException.class,
+                    () -> client.getAsync("/emails/templates", Map.class).get(5, TimeUnit.SECONDS));
+            client.get("/users/me", Map.class);
+
+            assertEquals("/emails/send", error.getEndpoint());
+            assertInstanceOf(RateLimitExceededException.class, asyncError.getCause());
+            assertEquals(2, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("a blocking rate limit should pace async requests")
+    void rateLimitPacesAsyncRequests() throws Exception {
+        RateLimits limits = new RateLimits.Builder()
+                .limit(RateLimiter.of(10, Duration.ofSeconds(1), 1))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().rateLimits(limits).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            for (int i = 0; i < 3; i++) {
+                mockWebServer.enqueue(new MockResponse().setBody("{}"));
+            }
+
+            long start = System.nanoTime();
+            CompletableFuture.allOf(
+                    client.getAsync("/users/a", Map.class),
+                    client.getAsync("/users/b", Map.class),
+                    client.getAsync("/users/c", Map.class)).get(5, TimeUnit.SECONDS);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(elapsedMillis >= 150, "requests should be spaced 100ms apart, took " + elapsedMillis + "ms");
+            assertEquals(3, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("requests over the concurrency limit should be rejected")
+    void concurrencyLimitRejectsExcess() throws Exception {
+        ConcurrencyLimitConfig config = new ConcurrencyLimitConfig.Builder()
+                .initialLimit(1).maxLimit(1)
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().concurrencyLimit(config).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{}").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+
+            CompletableFuture<Map> first = client.getAsync("/users/a", Map.class);
+            CompletableFuture<Map> second = client.getAsync("/users/b", Map.class);
+            Map<?, ?> other = client.get("/roles/r1", Map.class);
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ConcurrencyLimitExceededException.class, error.getCause());
+            assertNotNull(first.get(5, TimeUnit.SECONDS));
+            assertNotNull(other);
+            assertEquals(0, runtime.getConcurrencyLimits().get("/users").getInFlight());
+        }
+    }
+
+    @Test
+    @DisplayName("a saturated bulkhead should not hold up requests of other groups")
+    void bulkheadIsolatesGroups() throws Exception {
+        Bulkheads bulkheads = new Bulkheads.Builder()
+                .bulkhead("auth", BulkheadConfig.of(4), "/oauth")
+                .bulkhead("email", BulkheadConfig.of(1), "/email")
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().bulkheads(bulkheads).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return request.getPath().startsWith("/email")
+                            ? new MockResponse().setBody("{}").setHeadersDelay(300, TimeUnit.MILLISECONDS)
+                            : new MockResponse().setBody("{\"active\":true}");
+                }
+            });
+
+            CompletableFuture<Map> slow = client.postAsync("/email/send", Map.of(), Map.class);
+            CompletableFuture<Map> rejected = client.postAsync("/email/send", Map.of(), Map.class);
+            Map<?, ?> introspected = client.post("/oauth/introspect", Map.of(), Map.class);
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(BulkheadFullException.class, error.getCause());
+            assertEquals(Boolean.TRUE, introspected.get("active"));
+            assertNotNull(slow.get(5, TimeUnit.SECONDS));
+            assertEquals(0, bulkheads.get("email").getInFlight());
+            assertEquals(0, bulkheads.get("auth").getInFlight());
+            assertThrows(BulkheadFullException.class, () -> {
+                assertTrue(bulkheads.get("email").tryAcquire());
+                try {
+                    client.post("/email/send", Map.of(), Map.class);
+                } finally {
+                    bulkheads.get("email").release();
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("getStream should decode newline-delimited JSON item by item")
+    void streamsNdjson() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/x-ndjson")
+                .setChunkedBody("{\"id\":\"a\"}\n{\"id\":\"b\"}\n\n{\"id\":\"c\"}\n", 7));
+
+        List<Object> ids;
+        try (Stream<Map> items = httpClient.getStream("/users", Map.class, Map.of("status", "active"))) {
+            ids = items.map(item -> item.get("id")).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("a", "b", "c"), ids);
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("application/x-ndjson", request.getHeader("Accept"));
+        assertEquals("/users?status=active", request.getPath());
+    }
+
+    @Test
+    @DisplayName("getStream should refuse a regular JSON page")
+    void streamRejectsJsonPage() {
+        mockWebServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"data\":[],\"pagination\":{}}"));
+
+        ApiException error = assertThrows(ApiException.class, () -> httpClient.getStream("/users", Map.class, null));
+        assertEquals("UNEXPECTED_CONTENT_TYPE", error.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("a stream should hold its bulkhead slot until it is read to the end")
+    void streamHoldsBulkheadSlot() throws Exception {
+        Bulkheads bulkheads = new Bulkheads.Builder()
+                .bulkhead("export", BulkheadConfig.of(1), "/users")
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().bulkheads(bulkheads).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse()
+                    .setHeader("Content-Type", "application/x-ndjson")
+                    .setBody("{\"id\":\"a\"}\n{\"id\":\"b\"}\n"));
+
+            Stream<Map> items = client.getStream("/users", Map.class, null);
+            assertEquals(1, bulkheads.get("export").getInFlight());
+            assertEquals(2, items.count());
+            assertEquals(0, bulkheads.get("export").getInFlight());
+            items.close();
+            assertEquals(0, bulkheads.get("export").getInFlight());
+        }
+    }
+
+    @Test
+    @DisplayName("identical concurrent GETs should share one request")
+    void identicalGetsAreCoalesced() throws Exception {
+        try (SdkRuntime runtime = new SdkRuntime.Builder().coalesceGets(true).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"id\": \"t1\"}")
+                    .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+            CompletableFuture<Map> first = client.getAsync("/tenants/t1", Map.class);
+            CompletableFuture<Map> second = client.getAsync("/tenants/t1", Map.class);
+            CompletableFuture<Map> blocking = CompletableFuture.supplyAsync(() -> client.get("/tenants/t1", Map.class));
+
+            assertEquals("t1", first.get(5, TimeUnit.SECONDS).get("id"));
+            assertSame(first.get(), second.get(5, TimeUnit.SECONDS));
+            assertSame(first.get(), blocking.get(5, TimeUnit.SECONDS));
+            assertEquals(1, mockWebServer.getRequestCount());
+            assertEquals(2, runtime.getSingleFlight().getCoalescedCount());
+            assertEquals(0, runtime.getSingleFlight().getInFlight());
+        }
+    }
+
+    @Test
+    @DisplayName("GETs with different credentials should not be coalesced")
+    void getsWithDifferentCredentialsAreSeparate() throws Exception {
+        try (SdkRuntime runtime = new SdkRuntime.Builder().coalesceGets(true).build()) {
+            HttpClient alice = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            HttpClient bob = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            alice.setAccessToken("alice-token");
+            bob.setAccessToken("bob-token");
+            mockWebServer.enqueue(new MockResponse().setBody("{}").setHeadersDelay(200, TimeUnit.MILLISECONDS));
+            mockWebServer.enqueue(new MockResponse().setBody("{}").setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+            CompletableFuture.allOf(
+                    alice.getAsync("/settings", Map.class),
+                    bob.getAsync("/settings", Map.class)).get(5, TimeUnit.SECONDS);
+
+            assertEquals(2, mockWebServer.getRequestCount());
+            assertEquals(0, runtime.getSingleFlight().getCoalescedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("a coalesced failure should reach every waiter")
+    void coalescedFailureFansOut() {
+        try (SdkRuntime runtime = new SdkRuntime.Builder().coalesceGets(true).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(404).setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+            CompletableFuture<Map> first = client.getAsync("/roles/slug/admin", Map.class);
+            CompletableFuture<Map> second = client.getAsync("/roles/slug/admin", Map.class);
+
+            for (CompletableFuture<Map> future : List.of(first, second)) {
+                ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+                assertEquals(404, ((ApiException) error.getCause()).getStatusCode());
+            }
+            assertEquals(1, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("an Error in the leading blocking GET should still release its waiters")
+    void coalescedErrorReleasesWaiters() throws Exception {
+        RequestInterceptor failing = new RequestInterceptor() {
+            @Override
+            public Object before(Exchange exchange) {
+                return null;
+            }
+
+            @Override
+            public void after(Exchange exchange, Object state) {
+                throw new StackOverflowError("decoder blew up");
+            }
+        };
+        try (SdkRuntime runtime = new SdkRuntime.Builder().coalesceGets(true).interceptor(failing).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{}").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+            CompletableFuture<Map> leader = CompletableFuture.supplyAsync(() -> client.get("/tenants/t1", Map.class));
+            mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+            CompletableFuture<Map> waiter = client.getAsync("/tenants/t1", Map.class);
+
+            ExecutionException leaderError = assertThrows(ExecutionException.class,
+                    () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, leaderError.getCause());
+            ExecutionException waiterError = assertThrows(ExecutionException.class,
+                    () -> waiter.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, waiterError.getCause());
+            assertEquals(1, runtime.getSingleFlight().getCoalescedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("a 304 answer should return the cached object")
+    void notModifiedReturnsCachedObject() throws Exception {
+        try (SdkRuntime runtime = new SdkRuntime.Builder().validatorCache(100).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"name\": \"Engineering\"}")
+                    .setHeader("ETag", "\"v1\""));
+            mockWebServer.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"name\": \"Product\"}")
+                    .setHeader("ETag", "\"v2\""));
+
+            Map<?, ?> first = client.get("/departments/tree", Map.class);
+            Map<?, ?> second = client.getAsync("/departments/tree", Map.class).get(5, TimeUnit.SECONDS);
+            Map<?, ?> third = client.get("/departments/tree", Map.class);
+
+            assertNull(mockWebServer.takeRequest().getHeader("If-None-Match"));
+            assertEquals("\"v1\"", mockWebServer.takeRequest().getHeader("If-None-Match"));
+            assertEquals("\"v1\"", mockWebServer.takeRequest().getHeader("If-None-Match"));
+            assertSame(first, second);
+            assertEquals("Product", third.get("name"));
+            assertEquals(1, runtime.getValidatorCache().getNotModifiedCount());
+            assertEquals(2, runtime.getValidatorCache().getMissCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Last-Modified should be revalidated with If-Modified-Since")
+    void lastModifiedIsRevalidated() throws Exception {
+        try (SdkRuntime runtime = new SdkRuntime.Builder().validatorCache(100).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            String lastModified = "Wed, 21 Oct 2026 07:28:00 GMT";
+            mockWebServer.enqueue(new MockResponse().setBody("[]").setHeader("Last-Modified", lastModified));
+            mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+
+            List<?> first = client.get("/email/templates", List.class);
+            List<?> second = client.get("/email/templates", List.class);
+            client.get("/users/me", Map.class);
+
+            mockWebServer.takeRequest();
+            assertEquals(lastModified, mockWebServer.takeRequest().getHeader("If-Modified-Since"));
+            assertNull(mockWebServer.takeRequest().getHeader("If-Modified-Since"));
+            assertSame(first, second);
+            assertEquals(1, runtime.getValidatorCache().size());
+        }
+    }
+
+    @Test
+    @DisplayName("cached GETs should be served from memory until a write invalidates them")
+    void responseCacheServesReadsUntilWrite() throws Exception {
+        CachePolicy policy = new CachePolicy.Builder().ttl(Map.class, Duration.ofMinutes(5)).build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .responseCache(new InMemoryResponseCache.Builder().build(), policy)
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"name\": \"Admin\"}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"name\": \"Owner\"}"));
+            // Chunked, so the entry is weighed by buffering instead of by Content-Length
+            mockWebServer.enqueue(new MockResponse().setChunkedBody("{\"name\": \"Owner\"}", 4));
+
+            Map<?, ?> first = client.get("/roles/r1", Map.class);
+            Map<?, ?> second = client.getAsync("/roles/r1", Map.class).get(5, TimeUnit.SECONDS);
+            client.put("/roles/r1", Map.of("name", "Owner"), Map.class);
+            Map<?, ?> third = client.get("/roles/r1", Map.class);
+
+            assertSame(first, second);
+            assertEquals("Owner", third.get("name"));
+            assertEquals(3, mockWebServer.getRequestCount());
+            CacheStats stats = runtime.getResponseCache().getStats();
+            assertEquals(1, stats.getHitCount());
+            assertEquals(1, stats.getInvalidationCount());
+            assertEquals("{\"name\": \"Owner\"}".length(), stats.getWeight());
+        }
+    }
+
+    @Test
+    @DisplayName("query-style POSTs should leave cached reads in place")
+    void queryPostKeepsCache() throws Exception {
+        CachePolicy policy = new CachePolicy.Builder().ttl(Map.class, Duration.ofMinutes(5)).build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .responseCache(new InMemoryResponseCache.Builder().build(), policy)
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"permissions\": []}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"allowed\": true}"));
+
+            Map<?, ?> first = client.get("/permissions/definitions", Map.class);
+            client.post("/permissions/check", Map.of("permission", "roles:read"), Map.class);
+            Map<?, ?> second = client.get("/permissions/definitions", Map.class);
+
+            assertSame(first, second);
+            assertEquals(2, mockWebServer.getRequestCount());
+            assertEquals(0, runtime.getResponseCache().getStats().getInvalidationCount());
+        }
+    }
+
+    @Test
+    @DisplayName("types without a TTL should not be cached")
+    void uncachedTypesGoToNetwork() {
+        CachePolicy policy = new CachePolicy.Builder().ttl(String.class, Duration.ofMinutes(5)).build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .responseCache(new InMemoryResponseCache.Builder().build(), policy)
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+
+            client.get("/users/u1", Map.class);
+            client.get("/users/u1", Map.class);
+
+            assertEquals(2, mockWebServer.getRequestCount());
+            assertEquals(0, runtime.getResponseCache().getStats().getSize());
+        }
+    }
+
+    @Test
+    @DisplayName("reads past the refresh point should refresh the entry in the background")
+    void refreshAheadUpdatesEntry() throws Exception {
+        CachePolicy policy = new CachePolicy.Builder()
+                .ttl(Map.class, Duration.ofMinutes(5))
+                .refreshAhead(0.000_001)
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .responseCache(new InMemoryResponseCache.Builder().build(), policy)
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"version\": 1}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"version\": 2}"));
+
+            assertEquals(1, client.get("/tenants/t1", Map.class).get("version"));
+            Thread.sleep(5);
+            assertEquals(1, client.get("/tenants/t1", Map.class).get("version"), "stale value is served meanwhile");
+            for (int i = 0; i < 100 && mockWebServer.getRequestCount() < 2; i++) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"version\": 3}"));
+
+            assertEquals(2, client.get("/tenants/t1", Map.class).get("version"));
+        }
+    }
+
+    @Test
+    @DisplayName("cache groups should be the resource collection")
+    void cacheGroups() {
+        assertEquals("/roles", Endpoint.groupOf("/roles/{id}"));
+        assertEquals("/teams", Endpoint.groupOf("/teams/{id}/move"));
+        assertEquals("/api/users", Endpoint.groupOf("/api/users/{id}/status"));
+        assertEquals("/settings", Endpoint.groupOf("/settings"));
+    }
+
+    @Test
+    @DisplayName("withAccessToken should bind a token without touching the shared client")
+    void withAccessTokenLeavesBaseUntouched() throws Exception {
+        httpClient.setAccessToken("shared");
+        mockWebServer.enqueue(new MockResponse().setBody("{}"));
+        mockWebServer.enqueue(new MockResponse().setBody("{}"));
+
+        httpClient.withAccessToken("caller").get("/sessions", Map.class);
+        httpClient.get("/sessions", Map.class);
+
+        assertEquals("Bearer caller", mockWebServer.takeRequest().getHeader("Authorization"));
+        assertEquals("Bearer shared", mockWebServer.takeRequest().getHeader("Authorization"));
+        assertEquals("shared", httpClient.getAccessToken());
+    }
+
+    @Test
+    @DisplayName("token provider should be asked on every request")
+    void tokenProviderPerRequest() throws Exception {
+        ThreadLocal<String> tenantToken = new ThreadLocal<>();
+        httpClient.setTokenProvider(tenantToken::get);
+        mockWebServer.enqueue(new MockResponse().setBody("{}"));
+        mockWebServer.enqueue(new MockResponse().setBody("{}"));
+
+        tenantToken.set("tenant-a");
+        httpClient.get("/tenants/current", Map.class);
+        tenantToken.remove();
+        httpClient.get("/tenants/current", Map.class);
+
+        assertEquals("Bearer tenant-a", mockWebServer.takeRequest().getHeader("Authorization"));
+        assertNull(mockWebServer.takeRequest().getHeader("Authorization"));
+    }
+
+    @Test
+    @DisplayName("metrics should record attempts, retries, bytes and JSON timings")
+    void recordsMetrics() throws Exception {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .metrics(metrics)
+                .retryPolicy(new RetryPolicy.Builder().baseDelay(Duration.ofMillis(1)).build())
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"id\": \"r1\"}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"id\": \"r2\"}"));
+
+            client.get("/roles/r1", Map.class);
+            client.postAsync("/roles", Map.of("name", "admin"), Map.class).get(5, TimeUnit.SECONDS);
+
+            MetricsSnapshot snapshot = metrics.snapshot();
+            MetricsSnapshot.EndpointMetrics get = snapshot.getEndpoint("GET", "/roles/{id}");
+            assertEquals(1, get.getLatency("5xx").getCount());
+            assertEquals(1, get.getLatency("2xx").getCount());
+            assertEquals(1, get.getRetryCount());
+            assertEquals(1, get.getDeserialization().getCount());
+            assertEquals(12, get.getBytesReceived());
+
+            MetricsSnapshot.EndpointMetrics post = snapshot.getEndpoint("POST", "/roles");
+            assertEquals(1, post.getLatency("2xx").getCount());
+            assertEquals(1, post.getSerialization().getCount());
+            assertEquals(16, post.getBytesSent());
+            assertNotNull(snapshot.getPool());
+        }
+    }
+
+    @Test
+    @DisplayName("interceptors should wrap every attempt in order")
+    void interceptorsWrapAttempts() throws Exception {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        RequestInterceptor outer = new RequestInterceptor() {
+            @Override
+            public Object before(Exchange exchange) {
+                calls.add("outer.before " + exchange.getEndpoint());
+                exchange.setRequestHeader("X-Outer", "1");
+                return "outer-state";
+            }
+
+            @Override
+            public void after(Exchange exchange, Object state) {
+                calls.add("outer.after " + state + " " + exchange.getStatus() + " " + exchange.getResponseBytes());
+            }
+        };
+        RequestInterceptor inner = new RequestInterceptor() {
+            @Override
+            public Object before(Exchange exchange) {
+                calls.add("inner.before " + exchange.getRequestHeader("X-Outer"));
+                return null;
+            }
+
+            @Override
+            public void after(Exchange exchange, Object state) {
+                calls.add("inner.after " + exchange.getStatus());
+                assertThrows(IllegalStateException.class, () -> exchange.setRequestHeader("X-Late", "1"));
+            }
+        };
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .interceptor(outer)
+                .interceptor(inner)
+                .retryPolicy(new RetryPolicy.Builder().baseDelay(Duration.ofMillis(1)).build())
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"id\": \"r1\"}"));
+
+            client.getAsync("/roles/r1", Map.class).get(5, TimeUnit.SECONDS);
+
+            assertEquals("1", mockWebServer.takeRequest().getHeader("X-Outer"));
+            assertEquals("1", mockWebServer.takeRequest().getHeader("X-Outer"));
+            assertEquals(List.of(
+                    "outer.before GET /roles/{id}", "inner.before 1", "inner.after 503", "outer.after outer-state 503 0",
+                    "outer.before GET /roles/{id}", "inner.before 1", "inner.after 200", "outer.after outer-state 200 12"),
+                    calls);
+        }
+    }
+
+    @Test
+    @DisplayName("tracing should propagate the caller's trace and record client spans")
+    void tracingPropagatesTraceContext() throws Exception {
+        TraceContext parent = TraceContext.parse(
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01", "rojo=00f067aa0ba902b7");
+        List<ClientSpan> spans = new CopyOnWriteArrayList<>();
+        Tracer tracer = new Tracer() {
+            @Override
+            public TraceContext currentContext() {
+                return parent;
+            }
+
+            @Override
+            public void record(ClientSpan span) {
+                spans.add(span);
+            }
+        };
+        try (SdkRuntime runtime = new SdkRuntime.Builder().interceptor(new TracingInterceptor(tracer)).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody("{}"));
+
+            assertThrows(ApiException.class, () -> client.get("/roles/missing1", Map.class));
+
+            RecordedRequest request = mockWebServer.takeRequest();
+            TraceContext sent = TraceContext.parse(request.getHeader("traceparent"), request.getHeader("tracestate"));
+            assertEquals(parent.getTraceId(), sent.getTraceId());
+            assertEquals("rojo=00f067aa0ba902b7", sent.getTraceState());
+
+            assertEquals(1, spans.size());
+            ClientSpan span = spans.get(0);
+            assertEquals("GET /roles/{id}", span.getName());
+            assertEquals(sent.getSpanId(), span.getContext().getSpanId());
+            assertEquals(parent.getSpanId(), span.getContext().getParentSpanId());
+            assertEquals(404, span.getStatus());
+            assertFalse(span.isError());
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent calls to batched endpoints should share one batch request")
+    void batchesConcurrentCalls() throws Exception {
+        BatchConfig batching = new BatchConfig.Builder()
+                .endpoint("GET", "/api/users/")
+                .endpoint("POST", "/permissions/check")
+                .maxBatchSize(3)
+                .maxDelay(Duration.ofSeconds(30))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().batching(batching).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            client.setAccessToken("token");
+            mockWebServer.enqueue(new MockResponse().setBody("{\"responses\":["
+                    + "{\"id\":\"2\",\"status\":200,\"body\":{\"allowed\":true}},"
+                    + "{\"id\":\"0\",\"status\":200,\"body\":{\"id\":\"u1\"}},"
+                    + "{\"id\":\"1\",\"status\":404,\"body\":{\"message\":\"no such user\"}}]}"));
+
+            CompletableFuture<Map> first = client.getAsync("/api/users/u1", Map.class);
+            CompletableFuture<Map> missing = client.getAsync("/api/users/u2", Map.class);
+            CompletableFuture<Map> check = client.postAsync("/permissions/check",
+                    Map.of("user_id", "u1", "permission", "users:read"), Map.class);
+
+            assertEquals("u1", first.get(5, TimeUnit.SECONDS).get("id"));
+            assertEquals(Boolean.TRUE, check.get(5, TimeUnit.SECONDS).get("allowed"));
+            ExecutionException error = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+            ApiException notFound = assertInstanceOf(ApiException.class, error.getCause());
+            assertEquals(404, notFound.getStatusCode());
+            assertEquals("NOT_FOUND", notFound.getErrorCode());
+
+            assertEquals(1, mockWebServer.getRequestCount());
+            RecordedRequest request = mockWebServer.takeRequest();
+            assertEquals("POST", request.getMethod());
+            assertEquals("/batch", request.getPath());
+            assertEquals("Bearer token", request.getHeader("Authorization"));
+            Map<?, ?> sent = client.getObjectMapper().readValue(request.getBody().readUtf8(), Map.class);
+            List<?> requests = (List<?>) sent.get("requests");
+            assertEquals(3, requests.size());
+            assertEquals(Map.of("id", "0", "method", "GET", "path", "/api/users/u1"), requests.get(0));
+            Map<?, ?> posted = (Map<?, ?>) requests.get(2);
+            assertEquals("/permissions/check", posted.get("path"));
+            assertEquals(Map.of("user_id", "u1", "permission", "users:read"), posted.get("body"));
+        }
+    }
+
+    @Test
+    @DisplayName("retryable item statuses should be retried in a later batch")
+    void retriesBatchItems() throws Exception {
+        BatchConfig batching = new BatchConfig.Builder()
+                .endpoint("GET", "/api/users/")
+                .maxDelay(Duration.ofMillis(10))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .retryPolicy(new RetryPolicy.Builder().baseDelay(Duration.ofMillis(1)).build())
+                .batching(batching)
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"responses\":["
+                    + "{\"id\":\"0\",\"status\":503,\"headers\":{\"Retry-After\":\"0\"}}]}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"responses\":["
+                    + "{\"id\":\"0\",\"status\":200,\"body\":{\"id\":\"u1\"}}]}"));
+
+            Map<?, ?> user = client.getAsync("/api/users/u1", Map.class).get(5, TimeUnit.SECONDS);
+
+            assertEquals("u1", user.get("id"));
+            assertEquals(2, mockWebServer.getRequestCount());
+            assertEquals("/batch", mockWebServer.takeRequest().getPath());
+            assertEquals("/batch", mockWebServer.takeRequest().getPath());
+        }
+    }
+
+    @Test
+    @DisplayName("a full batch should be sent without waiting for the delay")
+    void sendsFullBatchAtOnce() throws Exception {
+        BatchConfig batching = new BatchConfig.Builder()
+                .endpoint("GET", "/api/users/")
+                .maxBatchSize(2)
+                .maxDelay(Duration.ofSeconds(30))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().batching(batching).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"responses\":["
+                    + "{\"id\":\"0\",\"status\":200,\"body\":{\"id\":\"u1\"}},"
+                    + "{\"id\":\"1\",\"status\":200,\"body\":{\"id\":\"u2\"}}]}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"data\":[]}"));
+
+            CompletableFuture<Map> first = client.getAsync("/api/users/u1", Map.class);
+            CompletableFuture<Map> second = client.getAsync("/api/users/u2", Map.class);
+
+            assertEquals("u1", first.get(5, TimeUnit.SECONDS).get("id"));
+            assertEquals("u2", second.get(5, TimeUnit.SECONDS).get("id"));
+            assertEquals("/batch", mockWebServer.takeRequest().getPath());
+
+            // The listing is not below the batched prefix and goes out on its own
+            client.get("/api/users", Map.class);
+            assertEquals("/api/users", mockWebServer.takeRequest().getPath());
+        }
+    }
+
+    @Test
+    @DisplayName("calls cancelled while their batch waits should be left out of it")
+    void cancelledCallsLeaveBatch() throws Exception {
+        BatchConfig batching = new BatchConfig.Builder()
+                .endpoint("GET", "/api/users/")
+                .maxBatchSize(3)
+                .maxDelay(Duration.ofSeconds(30))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().batching(batching).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{\"responses\":["
+                    + "{\"id\":\"0\",\"status\":200,\"body\":{\"id\":\"u2\"}},"
+                    + "{\"id\":\"1\",\"status\":200,\"body\":{\"id\":\"u3\"}}]}"));
+
+            CompletableFuture<Map> cancelled = client.getAsync("/api/users/u1", Map.class);
+            cancelled.cancel(true);
+            CompletableFuture<Map> second = client.getAsync("/api/users/u2", Map.class);
+            CompletableFuture<Map> third = client.getAsync("/api/users/u3", Map.class);
+
+            assertEquals("u2", second.get(5, TimeUnit.SECONDS).get("id"));
+            assertEquals("u3", third.get(5, TimeUnit.SECONDS).get("id"));
+            String body = mockWebServer.takeRequest().getBody().readUtf8();
+            assertFalse(body.contains("/api/users/u1"), body);
+        }
+    }
+
+    @Test
+    @DisplayName("calls should fail with the batch request that carried them")
+    void failsCallsOfFailedBatch() {
+        BatchConfig batching = new BatchConfig.Builder()
+                .endpoint("GET", "/settings/")
+                .maxDelay(Duration.ofMillis(10))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().batching(batching).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{\"responses\":[]}"));
+
+            ApiException unavailable = assertThrows(ApiException.class, () -> client.get("/settings/theme", Map.class));
+            assertEquals("BATCH_FAILED", unavailable.getErrorCode());
+            assertEquals(503, ((ApiException) unavailable.getCause()).getStatusCode());
+            ApiException missing = assertThrows(ApiException.class, () -> client.get("/settings/theme", Map.class));
+            assertEquals("BATCH_RESULT_MISSING", missing.getErrorCode());
+        }
+    }
+
+    @Test
+    @DisplayName("async retries should stay in the trace of the thread that made the call")
+    void asyncRetriesKeepCallerTrace() throws Exception {
+        TraceContext parent = TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01", null);
+        ThreadLocal<TraceContext> current = new ThreadLocal<>();
+        List<ClientSpan> spans = new CopyOnWriteArrayList<>();
+        Tracer tracer = new Tracer() {
+            @Override
+            public TraceContext currentContext() {
+                return current.get();
+            }
+
+            @Override
+            public void record(ClientSpan span) {
+                spans.add(span);
+            }
+        };
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .retryPolicy(new RetryPolicy.Builder().baseDelay(Duration.ofMillis(1)).build())
+                .interceptor(new TracingInterceptor(tracer))
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+
+            current.set(parent);
+            CompletableFuture<Map> future;
+            try {
+                future = client.getAsync("/roles/r1", Map.class);
+            } finally {
+                current.remove();
+            }
+            future.get(5, TimeUnit.SECONDS);
+
+            for (int attempt = 0; attempt < 2; attempt++) {
+                TraceContext sent = TraceContext.parse(
+                        mockWebServer.takeRequest().getHeader(TracingInterceptor.TRACEPARENT), null);
+                assertEquals(parent.getTraceId(), sent.getTraceId());
+            }
+            assertEquals(2, spans.size());
+            for (ClientSpan span : spans) {
+                assertEquals(parent.getSpanId(), span.getContext().getParentSpanId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("a throwing interceptor should fail the call and free every slot it held")
+    void throwingInterceptorReleasesSlots() {
+        RequestInterceptor broken = new RequestInterceptor() {
+            @Override
+            public Object before(Exchange exchange) {
+                throw new IllegalStateException("broken interceptor");
+            }
+
+            @Override
+            public void after(Exchange exchange, Object state) {
+            }
+        };
+        CircuitBreakerConfig breakerConfig = new CircuitBreakerConfig.Builder()
+                .windowSize(2).minimumCalls(2).openDuration(Duration.ZERO).halfOpenProbes(1)
+                .build();
+        Bulkheads bulkheads = new Bulkheads.Builder().bulkhead("roles", BulkheadConfig.of(1), "/roles").build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder()
+                .circuitBreaker(breakerConfig)
+                .concurrencyLimit(new ConcurrencyLimitConfig.Builder().initialLimit(1).maxLimit(1).build())
+                .bulkheads(bulkheads)
+                .interceptor(broken)
+                .build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+
+            for (int i = 0; i < 3; i++) {
+                ExecutionException error = assertThrows(ExecutionException.class,
+                        () -> client.getAsync("/roles/r1", Map.class).get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, error.getCause());
+                assertThrows(IllegalStateException.class, () -> client.get("/roles/r1", Map.class));
+            }
+
+            assertEquals(0, mockWebServer.getRequestCount());
+            assertEquals(0, bulkheads.get("roles").getInFlight());
+            assertEquals(0, runtime.getConcurrencyLimits().get("/roles").getInFlight());
+            CircuitBreaker breaker = runtime.getCircuitBreakers().get("/roles/{id}");
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+            assertEquals(0, breaker.getSuccessCount() + breaker.getFailureCount());
+        }
+    }
+
+    @Test
+    @DisplayName("an interceptor that throws after the attempt should fail the call and free its response and slot")
+    void throwingAfterInterceptorReleasesResponse() throws Exception {
+        RequestInterceptor broken = new RequestInterceptor() {
+            @Override
+            public Object before(Exchange exchange) {
+                return null;
+            }
+
+            @Override
+            public void after(Exchange exchange, Object state) {
+                throw new IllegalStateException("broken interceptor");
+            }
+        };
+        Bulkheads bulkheads = new Bulkheads.Builder().bulkhead("roles", BulkheadConfig.of(1), "/roles").build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().bulkheads(bulkheads).interceptor(broken).build()) {
+            HttpClient client = new HttpClient(mockWebServer.url("/").toString(), Duration.ofSeconds(5), runtime);
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+            mockWebServer.enqueue(new MockResponse().setBody("{}"));
+            mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+            mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+
+            assertThrows(IllegalStateException.class, () -> client.get("/users/u1", Map.class));
+            PoolStats pool = runtime.getPoolStats();
+            ExecutionException asyncError = assertThrows(ExecutionException.class,
+                    () -> client.getAsync("/roles/r1", Map.class).get(5, TimeUnit.SECONDS));
+            ExecutionException asyncFailure = assertThrows(ExecutionException.class,
+                    () -> client.getAsync("/roles/r2", Map.class).get(5, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, () -> client.get("/roles/r3", Map.class));
+
+            // The unread response was closed, so its connection went back to the pool
+            assertEquals(1, pool.getConnectionCount());
+            assertEquals(1, pool.getIdleConnectionCount());
+            assertInstanceOf(IllegalStateException.class, asyncError.getCause());
+            assertInstanceOf(IllegalStateException.class, asyncFailure.getCause());
+            assertEquals(0, bulkheads.get("roles").getInFlight());
+        }
+    }
+
+    private static SdkRuntime retryingRuntime() {
+        return new SdkRuntime.Builder()
+                .retryPolicy(new RetryPolicy.Builder().baseDelay(Duration.ofMillis(1)).build())
+                .build();
+    }
+}
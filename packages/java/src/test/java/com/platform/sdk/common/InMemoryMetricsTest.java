@@ -0,0 +1,83 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryMetrics Tests")
+class InMemoryMetricsTest {
+
+    private static final Endpoint GET_ROLE = Endpoint.of("GET", "/roles/r1");
+    private static final Endpoint LIST_USERS = Endpoint.of("GET", "/api/users");
+
+    @Test
+    @DisplayName("should split latency by status class and rank endpoints by time")
+    void recordsByStatusClass() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        metrics.recordAttempt(GET_ROLE, 200, 2_000_000);
+        metrics.recordAttempt(GET_ROLE, 404, 1_000_000);
+        metrics.recordAttempt(GET_ROLE, -1, 5_000_000);
+        metrics.recordAttempt(LIST_USERS, 200, 50_000_000);
+        metrics.recordRetry(GET_ROLE);
+        metrics.recordBytes(GET_ROLE, 10, 0);
+        metrics.recordBytes(GET_ROLE, 0, 250);
+        metrics.recordDeserialization(GET_ROLE, 30_000);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(LIST_USERS, snapshot.getEndpoints().get(0).getEndpoint(), "most network time first");
+        assertNull(snapshot.getPool());
+
+        MetricsSnapshot.EndpointMetrics role = snapshot.getEndpoint("GET", "/roles/{id}");
+        assertEquals(3, role.getAttemptCount());
+        assertEquals(1, role.getLatency("2xx").getCount());
+        assertEquals(1, role.getLatency("4xx").getCount());
+        assertEquals(1, role.getLatency("io_error").getCount());
+        assertEquals(0, role.getLatency("5xx").getCount());
+        assertEquals(1, role.getRetryCount());
+        assertEquals(10, role.getBytesSent());
+        assertEquals(250, role.getBytesReceived());
+        assertEquals(1, role.getDeserialization().getCount());
+        assertEquals(0, role.getSerialization().getCount());
+    }
+
+    @Test
+    @DisplayName("should fold endpoints beyond the limit into one entry")
+    void boundsEndpoints() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        for (int i = 0; i < InMemoryMetrics.MAX_ENDPOINTS + 10; i++) {
+            StringBuilder path = new StringBuilder("/things-");
+            for (int n = i; n > 0 || path.length() == 8; n /= 26) {
+                path.append((char) ('a' + n % 26));
+            }
+            metrics.recordAttempt(Endpoint.of("GET", path.toString()), 200, 1000);
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(InMemoryMetrics.MAX_ENDPOINTS + 1, snapshot.getEndpoints().size());
+        assertEquals(10, snapshot.getEndpoint("GET", CircuitBreakerRegistry.OVERFLOW).getAttemptCount());
+    }
+
+    @Test
+    @DisplayName("should expose pool gauges of the runtime and register with JMX")
+    void poolGaugesAndJmx() throws Exception {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        metrics.recordAttempt(GET_ROLE, 200, 2_000_000);
+        try (SdkRuntime runtime = new SdkRuntime.Builder().metrics(metrics).maxRequests(50).build();
+             JmxMetrics jmx = JmxMetrics.register(metrics, "metrics-test")) {
+            assertEquals(50, metrics.snapshot().getPool().getMaxRequests());
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertTrue(server.isRegistered(jmx.getObjectName()));
+            assertEquals(0, server.getAttribute(jmx.getObjectName(), "RunningCalls"));
+            assertNotNull(server.getAttribute(jmx.getObjectName(), "LatencyP99Micros"));
+            assertEquals(1L, jmx.getAttemptCounts().get("GET /roles/{id} 2xx"));
+            assertThrows(IllegalStateException.class, () -> JmxMetrics.register(metrics, "metrics-test"));
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().queryNames(null, null).stream()
+                .anyMatch(name -> name.toString().contains("metrics-test")));
+    }
+}
@@ -0,0 +1,119 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryResponseCache Tests")
+class InMemoryResponseCacheTest {
+
+    @Test
+    @DisplayName("LRU should evict the least recently used entries by weight")
+    void lruEvictsByWeight() {
+        InMemoryResponseCache cache = new InMemoryResponseCache.Builder()
+                .maxWeight(300).eviction(InMemoryResponseCache.Eviction.LRU).build();
+
+        cache.put("a", entry("a", 100, "/roles"));
+        cache.put("b", entry("b", 100, "/roles"));
+        cache.put("c", entry("c", 100, "/roles"));
+        assertNotNull(cache.get("a"));
+        cache.put("d", entry("d", 100, "/roles"));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"), "b was least recently used");
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(3, stats.getSize());
+        assertEquals(300, stats.getWeight());
+    }
+
+    @Test
+    @DisplayName("W-TinyLFU should keep frequently used entries during a scan")
+    void tinyLfuResistsScans() {
+        InMemoryResponseCache cache = new InMemoryResponseCache.Builder()
+                .maxWeight(1000).eviction(InMemoryResponseCache.Eviction.W_TINY_LFU).build();
+        for (int i = 0; i < 9; i++) {
+            String key = "hot" + i;
+            cache.get(key);
+            cache.put(key, entry(key, 100, "/tenants"));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 9; i++) {
+                assertNotNull(cache.get("hot" + i));
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String key = "scan" + i;
+            cache.get(key);
+            cache.put(key, entry(key, 100, "/users"));
+        }
+
+        for (int i = 0; i < 9; i++) {
+            assertNotNull(cache.get("hot" + i), "hot" + i + " should survive the scan");
+        }
+        assertTrue(cache.getStats().getWeight() <= 1000);
+    }
+
+    @Test
+    @DisplayName("expired entries should be misses")
+    void expiredEntriesMiss() {
+        InMemoryResponseCache cache = new InMemoryResponseCache.Builder().build();
+        long now = System.nanoTime();
+        cache.put("old", new ResponseCache.Entry("old", 10, "/roles", 0, now - 1, now - 1));
+
+        assertNull(cache.get("old"));
+        assertEquals(0, cache.getStats().getSize());
+        assertEquals(1, cache.getStats().getMissCount());
+    }
+
+    @Test
+    @DisplayName("invalidating a group should remove only its entries")
+    void invalidatesGroup() {
+        InMemoryResponseCache cache = new InMemoryResponseCache.Builder().build();
+        cache.put("role", entry("role", 10, "/roles"));
+        cache.put("tenant", entry("tenant", 10, "/tenants"));
+
+        cache.invalidateGroup("/roles");
+
+        assertNull(cache.get("role"));
+        assertNotNull(cache.get("tenant"));
+        assertEquals(1, cache.getStats().getInvalidationCount());
+    }
+
+    @Test
+    @DisplayName("a read sent before its group was invalidated should not be stored")
+    void stalePutIsDropped() {
+        InMemoryResponseCache cache = new InMemoryResponseCache.Builder().build();
+        long expires = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        long before = cache.generation("/roles");
+
+        cache.invalidateGroup("/roles");
+        cache.put("stale", new ResponseCache.Entry("stale", 10, "/roles", before, expires, expires));
+        cache.put("fresh", new ResponseCache.Entry("fresh", 10, "/roles", cache.generation("/roles"),
+                expires, expires));
+
+        assertEquals(before + 1, cache.generation("/roles"));
+        assertNull(cache.get("stale"));
+        assertNotNull(cache.get("fresh"));
+    }
+
+    @Test
+    @DisplayName("only one reader should claim a due refresh")
+    void refreshIsClaimedOnce() {
+        long now = System.nanoTime();
+        ResponseCache.Entry entry = new ResponseCache.Entry("v", 1, "/roles", 0,
+                now + TimeUnit.MINUTES.toNanos(1), now - 1);
+
+        assertTrue(entry.claimRefresh(now));
+        assertFalse(entry.claimRefresh(now));
+    }
+
+    private static ResponseCache.Entry entry(Object value, long weight, String group) {
+        long expires = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        return new ResponseCache.Entry(value, weight, group, 0, expires, expires);
+    }
+}
@@ -0,0 +1,41 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.platform.sdk.users.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonCodecRegistry Tests")
+class JsonCodecRegistryTest {
+
+    private final JsonCodecRegistry codecs = new JsonCodecRegistry(SdkRuntime.createObjectMapper());
+
+    @Test
+    @DisplayName("readers and writers should be cached per type")
+    void cachesPerType() {
+        assertSame(codecs.reader(User.class), codecs.reader(User.class));
+        assertSame(codecs.writer(User.class), codecs.writer(User.class));
+    }
+
+    @Test
+    @DisplayName("equal generic types from separate TypeReferences should share a reader")
+    void typeReferencesShareReader() {
+        assertSame(codecs.reader(new TypeReference<List<User>>() {}),
+                codecs.reader(new TypeReference<List<User>>() {}));
+        assertNotSame(codecs.reader(new TypeReference<List<User>>() {}),
+                codecs.reader(new TypeReference<List<String>>() {}));
+    }
+
+    @Test
+    @DisplayName("cached readers should honor the SDK naming strategy")
+    void readersUseSnakeCase() throws Exception {
+        User user = codecs.reader(User.class).readValue("{\"id\": \"user-1\", \"tenant_id\": \"tenant-1\"}");
+
+        assertEquals("user-1", user.getId());
+        assertEquals("tenant-1", user.getTenantId());
+    }
+}
@@ -0,0 +1,63 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("bucket indexes should be contiguous and cover their values")
+    void indexesAreContiguous() {
+        int previous = 0;
+        for (long micros = 0; micros < 1_000_000; micros++) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertTrue(index == previous || index == previous + 1, "gap at " + micros);
+            assertTrue(LatencyHistogram.highestEquivalent(index) >= micros);
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf((1L << 36) - 1));
+    }
+
+    @Test
+    @DisplayName("percentiles should be within 3% of the exact value")
+    void percentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500_000, snapshot.getPercentileMicros(0.5), 500_000 * 0.03);
+        assertEquals(990_000, snapshot.getPercentileMicros(0.99), 990_000 * 0.03);
+        assertEquals(1_000_000, snapshot.getPercentileMicros(1.0));
+        assertEquals(1_000_000, snapshot.getMaxMicros());
+        assertEquals(500_500, snapshot.getMeanMicros(), 1);
+    }
+
+    @Test
+    @DisplayName("empty snapshot should report zeros")
+    void emptySnapshot() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getPercentileMicros(0.99));
+        assertEquals(0, snapshot.getMeanMicros());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentileMicros(99));
+    }
+
+    @Test
+    @DisplayName("huge values should be clamped")
+    void clampsHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals((1L << 36) - 1, snapshot.getMaxMicros());
+        assertEquals(0, snapshot.getPercentileMicros(0.5));
+    }
+}
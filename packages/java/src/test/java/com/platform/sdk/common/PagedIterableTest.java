@@ -0,0 +1,217 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PagedIterable Tests")
+class PagedIterableTest {
+
+    private static Page<String> page(boolean hasNext, String... items) {
+        return page(hasNext, 0, items);
+    }
+
+    private static Page<String> page(boolean hasNext, int totalPages, String... items) {
+        return cursorPage(hasNext, totalPages, null, items);
+    }
+
+    private static Page<String> cursorPage(boolean hasNext, int totalPages, String nextCursor, String... items) {
+        return new Page<>() {
+            @Override
+            public List<String> getData() {
+                return List.of(items);
+            }
+
+            @Override
+            public boolean hasNextPage() {
+                return hasNext;
+            }
+
+            @Override
+            public int totalPages() {
+                return totalPages;
+            }
+
+            @Override
+            public String nextCursor() {
+                return nextCursor;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("should walk all pages in order")
+    void walksAllPages() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+        PagedIterable<String> items = PagedIterable.byPage(1, number -> {
+            requested.add(number);
+            return CompletableFuture.completedFuture(page(number < 3, "p" + number + "a", "p" + number + "b"));
+        });
+
+        List<String> all = new ArrayList<>();
+        items.forEach(all::add);
+
+        assertEquals(List.of("p1a", "p1b", "p2a", "p2b", "p3a", "p3b"), all);
+        assertEquals(List.of(1, 2, 3), requested);
+    }
+
+    @Test
+    @DisplayName("the next page should be requested before the current one is consumed")
+    void prefetchesNextPage() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+        PagedIterable<String> items = PagedIterable.byPage(1, number -> {
+            requested.add(number);
+            return CompletableFuture.completedFuture(page(true, "item" + number));
+        });
+
+        PagedIterable.PageIterator<String> iterator = items.iterator();
+        assertEquals(List.of(1), requested, "the first page is requested up front");
+        assertEquals("item1", iterator.next());
+        assertEquals(List.of(1, 2), requested);
+        assertEquals(1, iterator.getPagesFetched());
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("an empty page should end the walk")
+    void stopsAtEmptyPage() {
+        PagedIterable<String> items = PagedIterable.byPage(1, number ->
+                CompletableFuture.completedFuture(number == 1 ? page(true, "only") : page(true)));
+
+        assertEquals(List.of("only"), items.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("query parameters should be copied with each page number")
+    void copiesQueryParams() {
+        List<Map<String, String>> queries = new CopyOnWriteArrayList<>();
+        Map<String, String> params = Map.of("page", "4", "status", "active");
+        PagedIterable<String> items = PagedIterable.byPage(params, query -> {
+            queries.add(query);
+            return CompletableFuture.completedFuture(page(!query.get("page").equals("5"), query.get("page")));
+        });
+
+        assertEquals(List.of("4", "5"), items.stream().collect(Collectors.toList()));
+        assertEquals(Map.of("page", "5", "status", "active"), queries.get(1));
+        assertEquals("4", params.get("page"));
+    }
+
+    @Test
+    @DisplayName("a failed page should surface as its ApiException")
+    void surfacesFailures() {
+        ApiException failure = new ApiException("boom", 500);
+        PagedIterable<String> items = PagedIterable.byPage(1, number -> number == 1
+                ? CompletableFuture.completedFuture(page(true, "first"))
+                : CompletableFuture.failedFuture(failure));
+
+        PagedIterable.PageIterator<String> iterator = items.iterator();
+        assertEquals("first", iterator.next());
+        assertSame(failure, assertThrows(ApiException.class, iterator::hasNext));
+    }
+
+    @Test
+    @DisplayName("parallel scans should keep at most maxConcurrency pages ahead and preserve order")
+    void parallelKeepsOrder() {
+        Map<Integer, CompletableFuture<Page<String>>> pages = new ConcurrentHashMap<>();
+        PagedIterable<String> items = PagedIterable.byPage(1, number ->
+                pages.computeIfAbsent(number, n -> n == 1
+                        ? CompletableFuture.completedFuture(page(true, 5, "page1"))
+                        : new CompletableFuture<>())).parallel(2);
+
+        PagedIterable.PageIterator<String> iterator = items.iterator();
+        assertEquals("page1", iterator.next());
+        assertEquals(Set.of(1, 2, 3), pages.keySet());
+
+        pages.get(3).complete(page(true, 5, "page3"));
+        pages.get(2).complete(page(true, 5, "page2"));
+        assertEquals("page2", iterator.next());
+        assertEquals(Set.of(1, 2, 3, 4), pages.keySet(), "moving past a page frees its place in the window");
+
+        pages.get(4).complete(page(true, 5, "page4"));
+        assertEquals("page3", iterator.next());
+        pages.get(5).complete(page(false, 5, "page5"));
+        assertEquals("page4", iterator.next());
+        assertEquals("page5", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(5, iterator.getPagesFetched());
+    }
+
+    @Test
+    @DisplayName("unordered parallel scans should hand out pages as they arrive")
+    void unorderedFollowsArrival() {
+        Map<Integer, CompletableFuture<Page<String>>> pages = new ConcurrentHashMap<>();
+        PagedIterable<String> items = PagedIterable.byPage(1, number ->
+                pages.computeIfAbsent(number, n -> n == 1
+                        ? CompletableFuture.completedFuture(page(true, 3, "page1"))
+                        : new CompletableFuture<>())).parallel(4).unordered();
+
+        PagedIterable.PageIterator<String> iterator = items.iterator();
+        assertEquals("page1", iterator.next());
+        pages.get(3).complete(page(false, 3, "page3"));
+        assertEquals("page3", iterator.next());
+        pages.get(2).complete(page(true, 3, "page2"));
+        assertEquals("page2", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(Set.of(1, 2, 3), pages.keySet());
+    }
+
+    @Test
+    @DisplayName("parallel scans without a page count should walk one page ahead")
+    void parallelWithoutPageCount() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+        PagedIterable<String> items = PagedIterable.byPage(1, number -> {
+            requested.add(number);
+            return CompletableFuture.completedFuture(page(number < 3, "item" + number));
+        }).parallel(8);
+
+        assertEquals(List.of("item1", "item2", "item3"), items.stream().collect(Collectors.toList()));
+        assertEquals(List.of(1, 2, 3), requested);
+    }
+
+    @Test
+    @DisplayName("cursors should replace page numbers once the server sends them")
+    void followsCursors() {
+        List<Map<String, String>> queries = new CopyOnWriteArrayList<>();
+        Map<String, Page<String>> byCursor = Map.of(
+                "c2", cursorPage(true, 10, "c3", "b"),
+                "c3", cursorPage(true, 10, null, "c"));
+        PagedIterable<String> items = PagedIterable.byPage(Map.of("page_size", "1", "before", "x"), query -> {
+            queries.add(query);
+            String after = query.get("after");
+            return CompletableFuture.completedFuture(after == null ? cursorPage(true, 10, "c2", "a") : byCursor.get(after));
+        }).parallel(4);
+
+        assertEquals(List.of("a", "b", "c"), items.stream().collect(Collectors.toList()),
+                "a page without a cursor ends a cursor walk");
+        assertEquals(3, queries.size(), "cursor walks are not fetched in parallel");
+        assertEquals(Map.of("page_size", "1", "before", "x"), queries.get(0));
+        assertEquals(Map.of("page_size", "1", "after", "c2"), queries.get(1));
+        assertEquals(Map.of("page_size", "1", "after", "c3"), queries.get(2));
+    }
+
+    @Test
+    @DisplayName("listings built from page parameters should follow cursors without page numbers")
+    void dropsPageNumberForCursors() {
+        List<Map<String, String>> queries = new CopyOnWriteArrayList<>();
+        PagedIterable<String> items = PagedIterable.byPage(Map.of("page", "1"), query -> {
+            queries.add(query);
+            boolean first = !query.containsKey("after");
+            return CompletableFuture.completedFuture(first ? cursorPage(true, 2, "next", "a") : page(false, "b"));
+        });
+
+        assertEquals(List.of("a", "b"), items.stream().collect(Collectors.toList()));
+        assertEquals(Map.of("page", "1"), queries.get(0));
+        assertEquals(Map.of("after", "next"), queries.get(1));
+    }
+}
@@ -0,0 +1,112 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("should allow a burst and then reject non-blocking acquires")
+    void allowsBurstThenRejects() {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofMinutes(1), 3);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(3, limiter.getAcquiredCount());
+        assertEquals(1, limiter.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("blocking acquire should wait for the bucket to refill")
+    void acquireWaitsForRefill() throws Exception {
+        RateLimiter limiter = RateLimiter.of(10, Duration.ofSeconds(1), 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 250, "three refills of 100ms expected, took " + elapsedMillis + "ms");
+        assertEquals(3, limiter.getDelayedCount());
+    }
+
+    @Test
+    @DisplayName("timed acquire should give up when no permit is due in time")
+    void timedAcquireGivesUp() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofMinutes(1), 1);
+
+        assertTrue(limiter.tryAcquire(Duration.ofMillis(10)));
+        assertFalse(limiter.tryAcquire(Duration.ofMillis(10)));
+    }
+
+    @Test
+    @DisplayName("concurrent callers should not exceed the burst")
+    void concurrentAcquiresRespectBurst() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofMinutes(1), 50);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 200; i++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    if (limiter.tryAcquire()) {
+                        granted.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(50, granted.get());
+    }
+
+    @Test
+    @DisplayName("per-minute limiters should burst one second's share")
+    void perMinuteBurst() {
+        assertEquals(10, RateLimiter.perMinute(600).getBurst());
+        assertEquals(1, RateLimiter.perMinute(30).getBurst());
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.perMinute(0));
+    }
+
+    @Test
+    @DisplayName("a request rejected by its group should not use up the overall limit")
+    void groupRejectionKeepsOverallPermit() {
+        RateLimiter overall = RateLimiter.of(3, Duration.ofMinutes(1), 3);
+        RateLimits limits = new RateLimits.Builder()
+                .limit(overall)
+                .group("/emails", RateLimiter.of(1, Duration.ofMinutes(1), 1))
+                .maxWait(Duration.ZERO)
+                .build();
+
+        assertEquals(0, limits.reserveNanos("/emails/send"));
+        for (int i = 0; i < 5; i++) {
+            assertThrows(RateLimitExceededException.class, () -> limits.reserveNanos("/emails/send"));
+        }
+
+        assertEquals(1, overall.getAcquiredCount());
+        assertEquals(0, limits.reserveNanos("/users/{id}"));
+        assertEquals(0, limits.reserveNanos("/users/{id}"));
+        assertThrows(RateLimitExceededException.class, () -> limits.reserveNanos("/users/{id}"));
+    }
+}
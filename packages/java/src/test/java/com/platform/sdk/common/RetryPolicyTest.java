@@ -0,0 +1,61 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RetryPolicy Tests")
+class RetryPolicyTest {
+
+    @Test
+    @DisplayName("none should disable retries")
+    void noneDisablesRetries() {
+        assertFalse(RetryPolicy.none().isEnabled());
+        assertTrue(RetryPolicy.defaults().isEnabled());
+    }
+
+    @Test
+    @DisplayName("only idempotent methods or keyed requests should be retryable")
+    void retryableMethods() {
+        RetryPolicy policy = RetryPolicy.defaults();
+
+        assertTrue(policy.isRetryable("GET", null));
+        assertTrue(policy.isRetryable("DELETE", null));
+        assertFalse(policy.isRetryable("POST", null));
+        assertTrue(policy.isRetryable("POST", "key-1"));
+    }
+
+    @Test
+    @DisplayName("backoff should stay within the capped exponential window")
+    void backoffIsBounded() {
+        RetryPolicy policy = new RetryPolicy.Builder()
+                .baseDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(250))
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.backoffMillis(1) <= 100);
+            assertTrue(policy.backoffMillis(5) <= 250);
+            assertTrue(policy.backoffMillis(40) >= 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Retry-After should parse seconds and HTTP dates")
+    void parsesRetryAfter() {
+        assertEquals(2000, RetryPolicy.parseRetryAfterMillis("2"));
+        assertEquals(-1, RetryPolicy.parseRetryAfterMillis(null));
+        assertEquals(-1, RetryPolicy.parseRetryAfterMillis("soon"));
+
+        String inTenSeconds = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+        long millis = RetryPolicy.parseRetryAfterMillis(inTenSeconds);
+        assertTrue(millis > 8000 && millis <= 10000, "was " + millis);
+    }
+}
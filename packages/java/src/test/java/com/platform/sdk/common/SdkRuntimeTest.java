@@ -0,0 +1,90 @@
+package com.platform.sdk.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.sdk.users.User;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SdkRuntime Tests")
+class SdkRuntimeTest {
+
+    @Test
+    @DisplayName("clients on the same runtime should share pool, dispatcher and mapper")
+    void clientsShareResources() {
+        try (SdkRuntime runtime = new SdkRuntime.Builder().build()) {
+            OkHttpClient fast = runtime.okHttpClient(Duration.ofSeconds(5));
+            OkHttpClient slow = runtime.okHttpClient(Duration.ofSeconds(60));
+
+            assertSame(fast.connectionPool(), slow.connectionPool());
+            assertSame(fast.dispatcher(), slow.dispatcher());
+            assertEquals(5_000, fast.readTimeoutMillis());
+            assertEquals(60_000, slow.readTimeoutMillis());
+            assertSame(fast, runtime.okHttpClient(Duration.ofSeconds(5)));
+
+            HttpClient first = new HttpClient("https://api.example.com", Duration.ofSeconds(5), runtime);
+            HttpClient second = new HttpClient("https://api.example.com", Duration.ofSeconds(60), runtime);
+            assertSame(first.getObjectMapper(), second.getObjectMapper());
+        }
+    }
+
+    @Test
+    @DisplayName("clients without a runtime should use the shared runtime")
+    void defaultsToSharedRuntime() {
+        HttpClient client = new HttpClient("https://api.example.com");
+
+        assertSame(SdkRuntime.shared().getObjectMapper(), client.getObjectMapper());
+    }
+
+    @Test
+    @DisplayName("shared runtime should not be closeable")
+    void sharedRuntimeCannotBeClosed() {
+        assertThrows(IllegalStateException.class, () -> SdkRuntime.shared().close());
+    }
+
+    @Test
+    @DisplayName("virtualThreads should fall back to platform threads on older JVMs")
+    void virtualThreadsFallBack() throws Exception {
+        try (SdkRuntime runtime = new SdkRuntime.Builder().virtualThreads(true).build()) {
+            assertEquals(VirtualThreads.isSupported(), runtime.usesVirtualThreads());
+            assertEquals("ok", runtime.getExecutor().submit(() -> "ok").get());
+        }
+    }
+
+    @Test
+    @DisplayName("default mapper should round-trip SDK models in snake_case")
+    void defaultMapperRoundTripsModels() throws Exception {
+        ObjectMapper mapper = SdkRuntime.createObjectMapper();
+        String json = "{\"id\":\"user-1\",\"tenant_id\":\"tenant-1\",\"roles\":[\"admin\"],"
+                + "\"created_at\":\"2024-01-02T03:04:05Z\"}";
+
+        User user = mapper.readValue(json, User.class);
+        assertEquals("tenant-1", user.getTenantId());
+        assertEquals(Instant.parse("2024-01-02T03:04:05Z"), user.getCreatedAt());
+
+        User copy = mapper.readValue(mapper.writeValueAsString(user), User.class);
+        assertEquals(user.getTenantId(), copy.getTenantId());
+        assertEquals(user.getRoles(), copy.getRoles());
+        assertEquals(user.getCreatedAt(), copy.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("lambda accessors should be opt-in")
+    void lambdaAccessorsAreOptIn() throws Exception {
+        assertFalse(SdkRuntime.createObjectMapper().getRegisteredModuleIds().stream()
+                .anyMatch(id -> id.toString().contains("Blackbird")));
+        try (SdkRuntime runtime = new SdkRuntime.Builder().lambdaAccessors(true).build()) {
+            ObjectMapper mapper = runtime.getObjectMapper();
+            assertTrue(mapper.getRegisteredModuleIds().stream().anyMatch(id -> id.toString().contains("Blackbird")));
+            User user = mapper.readValue("{\"tenant_id\":\"tenant-1\"}", User.class);
+            assertEquals("tenant-1", user.getTenantId());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new SdkRuntime.Builder()
+                .lambdaAccessors(true).objectMapper(new ObjectMapper()).build());
+    }
+}
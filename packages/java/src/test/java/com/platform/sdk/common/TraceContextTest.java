@@ -0,0 +1,62 @@
+package com.platform.sdk.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TraceContext Tests")
+class TraceContextTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Test
+    @DisplayName("should parse and format a traceparent")
+    void parsesTraceparent() {
+        TraceContext context = TraceContext.parse(TRACEPARENT, "rojo=00f067aa0ba902b7");
+
+        assertNotNull(context);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.getTraceId());
+        assertEquals("00f067aa0ba902b7", context.getSpanId());
+        assertTrue(context.isSampled());
+        assertEquals("rojo=00f067aa0ba902b7", context.getTraceState());
+        assertEquals(TRACEPARENT, context.toTraceparent());
+    }
+
+    @Test
+    @DisplayName("child should keep the trace and point to its parent")
+    void childSpan() {
+        TraceContext parent = TraceContext.parse(TRACEPARENT.replace("-01", "-00"), null);
+        TraceContext child = parent.newChild();
+
+        assertEquals(parent.getTraceId(), child.getTraceId());
+        assertEquals(parent.getSpanId(), child.getParentSpanId());
+        assertNotEquals(parent.getSpanId(), child.getSpanId());
+        assertFalse(child.isSampled());
+        assertTrue(child.toTraceparent().matches("00-[0-9a-f]{32}-[0-9a-f]{16}-00"));
+    }
+
+    @Test
+    @DisplayName("root should get fresh sampled ids")
+    void newRoot() {
+        TraceContext root = TraceContext.newRoot();
+
+        assertTrue(root.isSampled());
+        assertNull(root.getParentSpanId());
+        assertNotNull(TraceContext.parse(root.toTraceparent(), null));
+        assertNotEquals(root.getTraceId(), TraceContext.newRoot().getTraceId());
+    }
+
+    @Test
+    @DisplayName("should reject malformed traceparents")
+    void rejectsInvalid() {
+        assertNull(TraceContext.parse(null, null));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7", null));
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01", null));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01", null));
+        assertNull(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01", null));
+        assertNull(TraceContext.parse("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01", null));
+        assertNull(TraceContext.parse(TRACEPARENT + "-extra", null), "version 00 has no extra fields");
+        assertNotNull(TraceContext.parse("01" + TRACEPARENT.substring(2) + "-extra", null));
+    }
+}
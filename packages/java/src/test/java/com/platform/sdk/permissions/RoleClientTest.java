@@ -0,0 +1,97 @@
+package com.platform.sdk.permissions;
+
+import com.platform.sdk.common.ApiException;
+import com.platform.sdk.common.BatchConfig;
+import com.platform.sdk.common.SdkRuntime;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RoleClient Tests")
+class RoleClientTest {
+
+    private MockWebServer mockWebServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("batched lookups should map per-item errors to the usual exceptions")
+    void batchedLookupsMapErrors() throws Exception {
+        BatchConfig batching = new BatchConfig.Builder()
+                .endpoint("GET", "/roles/")
+                .endpoint("POST", "/permissions/check")
+                .maxBatchSize(2)
+                .maxDelay(Duration.ofSeconds(30))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().batching(batching).build()) {
+            RoleClient client = new RoleClient.Builder()
+                    .baseUrl(mockWebServer.url("/").toString())
+                    .accessToken("token")
+                    .runtime(runtime)
+                    .build();
+            mockWebServer.enqueue(new MockResponse().setBody("{\"responses\":["
+                    + "{\"id\":\"0\",\"status\":404,\"body\":{\"message\":\"Role not found\"}},"
+                    + "{\"id\":\"1\",\"status\":200,\"body\":{\"allowed\":true,\"permission\":\"users:read\"}}]}"));
+
+            CompletableFuture<Role> role = client.getAsync("editor");
+            CompletableFuture<PermissionCheckResult> check = client.checkPermissionAsync("u1", "users:read");
+
+            assertEquals(Boolean.TRUE, check.get(5, TimeUnit.SECONDS).getAllowed());
+            ExecutionException error = assertThrows(ExecutionException.class, () -> role.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RoleNotFoundException.class, error.getCause());
+            assertEquals(1, mockWebServer.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("a failed batch request should not look like a missing role")
+    void failedBatchIsNotNotFound() throws Exception {
+        BatchConfig batching = new BatchConfig.Builder()
+                .endpoint("GET", "/roles/")
+                .maxBatchSize(2)
+                .maxDelay(Duration.ofSeconds(30))
+                .build();
+        try (SdkRuntime runtime = new SdkRuntime.Builder().batching(batching).build()) {
+            RoleClient client = new RoleClient.Builder()
+                    .baseUrl(mockWebServer.url("/").toString())
+                    .accessToken("token")
+                    .runtime(runtime)
+                    .build();
+            mockWebServer.enqueue(new MockResponse().setResponseCode(404)
+                    .setBody("{\"message\": \"No batch endpoint\"}"));
+
+            CompletableFuture<Role> editor = client.getAsync("editor");
+            CompletableFuture<Role> viewer = client.getAsync("viewer");
+
+            for (CompletableFuture<Role> role : List.of(editor, viewer)) {
+                ExecutionException error = assertThrows(ExecutionException.class,
+                        () -> role.get(5, TimeUnit.SECONDS));
+                assertFalse(error.getCause() instanceof RoleNotFoundException);
+                assertEquals("BATCH_FAILED", ((ApiException) error.getCause()).getErrorCode());
+                assertEquals(404, ((ApiException) error.getCause().getCause()).getStatusCode());
+            }
+            assertEquals(1, mockWebServer.getRequestCount());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.platform.sdk.users;
 
+import com.platform.sdk.common.ApiException;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -9,6 +10,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -217,4 +224,99 @@ class UserClientTest {
         assertEquals("PATCH", request.getMethod());
         assertEquals("/api/users/user-123/status", request.getPath());
     }
+
+    @Test
+    @DisplayName("getAsync should fetch user by ID without blocking the caller")
+    void getUserByIdAsync() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\": \"user-123\", \"email\": \"test@example.com\"}")
+                .setHeader("Content-Type", "application/json"));
+
+        CompletableFuture<User> future = userClient.getAsync("user-123");
+        User user = future.get(5, TimeUnit.SECONDS);
+
+        assertEquals("user-123", user.getId());
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("/api/users/user-123", request.getPath());
+        assertTrue(request.getHeader("Authorization").contains("Bearer test-token"));
+    }
+
+    @Test
+    @DisplayName("getAsync should complete exceptionally with ApiException on error")
+    void getUserByIdAsyncNotFound() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody("missing"));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> userClient.getAsync("user-404").get(5, TimeUnit.SECONDS));
+
+        ApiException cause = assertInstanceOf(ApiException.class, error.getCause());
+        assertEquals(404, cause.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("listAll should walk every page with the same filters")
+    void listAllWalksPages() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("""
+                        {"data": [{"id": "user-1"}, {"id": "user-2"}],
+                         "pagination": {"page": 1, "page_size": 2, "total_items": 3, "total_pages": 2}}
+                        """)
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("""
+                        {"data": [{"id": "user-3"}],
+                         "pagination": {"page": 2, "page_size": 2, "total_items": 3, "total_pages": 2}}
+                        """)
+                .addHeader("Content-Type", "application/json"));
+
+        List<String> ids = userClient.listAll(new ListUsersParams().pageSize(2).status("active")).stream()
+                .map(User::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("user-1", "user-2", "user-3"), ids);
+        RecordedRequest first = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        RecordedRequest second = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("1", first.getRequestUrl().queryParameter("page"));
+        assertEquals("2", second.getRequestUrl().queryParameter("page"));
+        assertEquals("active", second.getRequestUrl().queryParameter("status"));
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("list should send cursors and read the next one")
+    void listWithCursor() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("""
+                        {"data": [{"id": "user-7"}],
+                         "pagination": {"page_size": 1, "has_next": true, "next_cursor": "dXNlci03"}}
+                        """)
+                .addHeader("Content-Type", "application/json"));
+
+        UserListResponse response = userClient.list(new ListUsersParams().pageSize(1).after("dXNlci02"));
+
+        assertEquals("dXNlci03", response.getPagination().getNextCursor());
+        assertEquals("dXNlci03", response.nextCursor());
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("dXNlci02", request.getRequestUrl().queryParameter("after"));
+        assertNull(request.getRequestUrl().queryParameter("page"));
+    }
+
+    @Test
+    @DisplayName("stream should decode users from a newline-delimited response")
+    void streamUsers() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\": \"user-1\", \"email\": \"a@example.com\"}\n"
+                        + "{\"id\": \"user-2\", \"email\": \"b@example.com\"}\n")
+                .addHeader("Content-Type", "application/x-ndjson"));
+
+        List<String> emails;
+        try (Stream<User> users = userClient.stream(new ListUsersParams().status("active"))) {
+            emails = users.map(User::getEmail).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("a@example.com", "b@example.com"), emails);
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("/api/users?status=active", request.getPath());
+        assertEquals("Bearer test-token", request.getHeader("Authorization"));
+    }
 }